@@ -0,0 +1,99 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.environment.internal.EntityManager;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
+import io.github.srcimon.screwbox.core.environment.rendering.RenderComponent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityManagerBenchmark {
+
+    private static final Archetype PHYSICS = Archetype.of(TransformComponent.class, PhysicsComponent.class);
+
+    @Param({"100", "1000", "10000"})
+    public int entityCount;
+
+    private EntityManager entityManager;
+    private List<Entity> entities;
+    private EntityManager populatedEntityManager;
+
+    // all benchmarks leave the entity managers in the state they had before, so state is only created once
+    @Setup(Level.Trial)
+    public void setup() {
+        entityManager = new EntityManager();
+        entities = createEntities();
+        populatedEntityManager = new EntityManager();
+        populatedEntityManager.addEntities(createEntities());
+        populatedEntityManager.entitiesMatching(PHYSICS);
+    }
+
+    @Benchmark
+    public EntityManager addAndRemoveEntities() {
+        for (final var entity : entities) {
+            entityManager.addEntity(entity);
+        }
+        for (final var entity : entities) {
+            entityManager.removeEntity(entity);
+        }
+        return entityManager;
+    }
+
+    @Benchmark
+    public EntityManager addAndRemoveEntitiesInBatch() {
+        entityManager.addEntities(entities);
+        for (final var entity : entities) {
+            entityManager.removeEntity(entity);
+        }
+        return entityManager;
+    }
+
+    @Benchmark
+    public List<Entity> fetchAll() {
+        return populatedEntityManager.entitiesMatching(PHYSICS);
+    }
+
+    @Benchmark
+    public void queryComponents(final Blackhole blackhole) {
+        populatedEntityManager.query(PHYSICS).forEach(PhysicsComponent.class, (entity, physics) -> blackhole.consume(physics));
+    }
+
+    private List<Entity> createEntities() {
+        final List<Entity> createdEntities = new ArrayList<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            final var entity = new Entity(i).add(new TransformComponent(Vector.of(i, i), 16, 16));
+            if (i % 2 == 0) {
+                entity.add(new PhysicsComponent());
+            }
+            if (i % 3 == 0) {
+                entity.add(new RenderComponent());
+            }
+            createdEntities.add(entity);
+        }
+        return createdEntities;
+    }
+}
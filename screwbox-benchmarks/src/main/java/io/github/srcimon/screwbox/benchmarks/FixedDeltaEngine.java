@@ -0,0 +1,37 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.Engine;
+import io.github.srcimon.screwbox.core.loop.Loop;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+/**
+ * Wraps an {@link Engine} that isn't running, so {@link Loop#delta()} returns a fixed value instead of zero. Systems
+ * can then be benchmarked as if the game loop was stepping at a constant frame rate.
+ */
+final class FixedDeltaEngine {
+
+    private FixedDeltaEngine() {
+    }
+
+    static Engine of(final Engine engine, final double delta) {
+        final Loop loop = proxy(Loop.class, engine.loop(), "delta", delta);
+        return proxy(Engine.class, engine, "loop", loop);
+    }
+
+    private static <T> T proxy(final Class<T> type, final T target, final String replacedMethod, final Object replacement) {
+        final InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals(replacedMethod) && method.getParameterCount() == 0) {
+                return replacement;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.graphics.internal.LightPhysics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LightPhysicsBenchmark {
+
+    private static final double LIGHT_RADIUS = 160;
+
+    @Param({"10", "100", "1000"})
+    public int shadowCasterCount;
+
+    private final LightPhysics lightPhysics = new LightPhysics();
+    private Bounds lightBox;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var random = new Random(42);
+        for (int i = 0; i < shadowCasterCount; i++) {
+            final var position = Vector.of(random.nextDouble() * 2 * LIGHT_RADIUS, random.nextDouble() * 2 * LIGHT_RADIUS);
+            lightPhysics.addShadowCaster(Bounds.atPosition(position, 16, 16));
+        }
+        lightBox = Bounds.atPosition(LIGHT_RADIUS, LIGHT_RADIUS, 2 * LIGHT_RADIUS, 2 * LIGHT_RADIUS);
+    }
+
+    @Benchmark
+    public List<Vector> calculateFullArea() {
+        return lightPhysics.calculateArea(lightBox, 0, 360);
+    }
+
+    @Benchmark
+    public List<Vector> calculateConeArea() {
+        return lightPhysics.calculateArea(lightBox, 45, 135);
+    }
+}
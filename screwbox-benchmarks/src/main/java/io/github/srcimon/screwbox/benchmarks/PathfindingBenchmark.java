@@ -0,0 +1,63 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Grid;
+import io.github.srcimon.screwbox.core.physics.AStarAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathfindingBenchmark {
+
+    private static final int CELL_SIZE = 16;
+
+    @Param({"32", "128", "512"})
+    public int gridSize;
+
+    @Param({"false", "true"})
+    public boolean diagonal;
+
+    private final AStarAlgorithm algorithm = new AStarAlgorithm();
+    private Grid grid;
+    private Grid.Node start;
+    private Grid.Node end;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        grid = new Grid(Bounds.atOrigin(0, 0, gridSize * CELL_SIZE, gridSize * CELL_SIZE), CELL_SIZE, diagonal);
+        final var random = new Random(42);
+        for (int x = 1; x < gridSize - 1; x++) {
+            for (int y = 1; y < gridSize - 1; y++) {
+                if (random.nextDouble() < 0.25) {
+                    grid.block(x, y);
+                }
+            }
+        }
+        start = grid.nodeAt(0, 0);
+        end = grid.nodeAt(gridSize - 1, gridSize - 1);
+    }
+
+    @Benchmark
+    public List<Grid.Node> findPath() {
+        return algorithm.findPath(grid, start, end);
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Engine;
+import io.github.srcimon.screwbox.core.ScrewBox;
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.environment.physics.ColliderComponent;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhysicsSystemBenchmark {
+
+    private static final double DELTA = 1.0 / 60;
+
+    @Param({"100", "1000", "5000"})
+    public int bodyCount;
+
+    private final List<Entity> bodies = new ArrayList<>();
+    private final List<Bounds> initialBounds = new ArrayList<>();
+    private final List<Vector> initialMomentums = new ArrayList<>();
+    private Engine engine;
+    private PhysicsSystem physicsSystem;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        engine = FixedDeltaEngine.of(ScrewBox.createHeadlessEngine("physics benchmark"), DELTA);
+        physicsSystem = new PhysicsSystem();
+        final var random = new Random(42);
+        final double worldSize = Math.sqrt(bodyCount) * 64;
+        for (int i = 0; i < bodyCount; i++) {
+            final var position = Vector.of(random.nextDouble() * worldSize, random.nextDouble() * worldSize);
+            final var body = new Entity().add(
+                    new TransformComponent(position, 16, 16),
+                    new PhysicsComponent(Vector.of(random.nextDouble() * 64 - 32, random.nextDouble() * 64 - 32)),
+                    new ColliderComponent());
+            engine.environment().addEntity(body);
+            bodies.add(body);
+            initialBounds.add(body.bounds());
+            initialMomentums.add(body.get(PhysicsComponent.class).momentum);
+        }
+        // walls keep the bodies inside the world during an iteration
+        for (int i = -16; i <= worldSize + 16; i += 16) {
+            addWall(Vector.of(i, -16));
+            addWall(Vector.of(i, worldSize + 16));
+            addWall(Vector.of(-16, i));
+            addWall(Vector.of(worldSize + 16, i));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetBodies() {
+        for (int i = 0; i < bodies.size(); i++) {
+            bodies.get(i).get(TransformComponent.class).bounds = initialBounds.get(i);
+            bodies.get(i).get(PhysicsComponent.class).momentum = initialMomentums.get(i);
+        }
+    }
+
+    @Benchmark
+    public PhysicsSystem update() {
+        physicsSystem.update(engine);
+        return physicsSystem;
+    }
+
+    private void addWall(final Vector position) {
+        engine.environment().addEntity(new TransformComponent(position, 16, 16), new ColliderComponent());
+    }
+}
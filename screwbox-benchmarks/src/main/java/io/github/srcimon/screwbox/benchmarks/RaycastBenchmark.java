@@ -0,0 +1,58 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.Engine;
+import io.github.srcimon.screwbox.core.ScrewBox;
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.environment.physics.ColliderComponent;
+import io.github.srcimon.screwbox.core.physics.Raycast;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RaycastBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int colliderCount;
+
+    private Engine engine;
+    private Raycast raycast;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        engine = ScrewBox.createHeadlessEngine("raycast benchmark");
+        final var random = new Random(42);
+        final double worldSize = Math.sqrt(colliderCount) * 64;
+        for (int i = 0; i < colliderCount; i++) {
+            final var position = Vector.of(random.nextDouble() * worldSize, random.nextDouble() * worldSize);
+            engine.environment().addEntity(new TransformComponent(position, 16, 16), new ColliderComponent());
+        }
+        raycast = engine.physics().raycastFrom(Vector.zero()).castingTo(worldSize, worldSize);
+        // raycasts don't depend on the loop delta but building the broadphase index shouldn't be measured
+        raycast.nearestHit();
+    }
+
+    @Benchmark
+    public Optional<Vector> nearestHit() {
+        return raycast.nearestHit();
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.graphics.Color;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.ScreenBounds;
+import io.github.srcimon.screwbox.core.graphics.Size;
+import io.github.srcimon.screwbox.core.graphics.Sprite;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.CircleDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.RectangleDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteDrawOptions;
+import io.github.srcimon.screwbox.core.graphics.internal.renderer.DefaultRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RendererBenchmark {
+
+    private static final int DRAW_CALLS = 1000;
+    private static final ScreenBounds CLIP = new ScreenBounds(0, 0, 640, 480);
+    private static final RectangleDrawOptions RECTANGLE_OPTIONS = RectangleDrawOptions.filled(Color.RED);
+    private static final CircleDrawOptions CIRCLE_OPTIONS = CircleDrawOptions.filled(Color.BLUE);
+    private static final SpriteDrawOptions SPRITE_OPTIONS = SpriteDrawOptions.originalSize();
+
+    private final DefaultRenderer renderer = new DefaultRenderer();
+    private final Sprite sprite = Sprite.placeholder(Color.GREEN, 16);
+    private final Size size = Size.of(16, 16);
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        image = new BufferedImage(640, 480, BufferedImage.TYPE_INT_ARGB);
+        graphics = image.createGraphics();
+        renderer.updateContext(() -> graphics);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage drawRectangles() {
+        for (int i = 0; i < DRAW_CALLS; i++) {
+            renderer.drawRectangle(Offset.at(i % 640, i % 480), size, RECTANGLE_OPTIONS, CLIP);
+        }
+        return image;
+    }
+
+    @Benchmark
+    public BufferedImage drawCircles() {
+        for (int i = 0; i < DRAW_CALLS; i++) {
+            renderer.drawCircle(Offset.at(i % 640, i % 480), 8, CIRCLE_OPTIONS, CLIP);
+        }
+        return image;
+    }
+
+    @Benchmark
+    public BufferedImage drawSprites() {
+        for (int i = 0; i < DRAW_CALLS; i++) {
+            renderer.drawSprite(sprite, Offset.at(i % 640, i % 480), SPRITE_OPTIONS, CLIP);
+        }
+        return image;
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.srcimon.screwbox.benchmarks;
+
+import io.github.srcimon.screwbox.core.graphics.Color;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.Sprite;
+import io.github.srcimon.screwbox.core.graphics.SpriteBatch;
+import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteDrawOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpriteBatchBenchmark {
+
+    private static final SpriteDrawOptions OPTIONS = SpriteDrawOptions.originalSize();
+
+    @Param({"100", "1000", "10000"})
+    public int spriteCount;
+
+    private final Sprite sprite = Sprite.placeholder(Color.RED, 16);
+    private int[] drawOrders;
+    private Offset[] offsets;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var random = new Random(42);
+        drawOrders = new int[spriteCount];
+        offsets = new Offset[spriteCount];
+        for (int i = 0; i < spriteCount; i++) {
+            drawOrders[i] = random.nextInt(10);
+            offsets[i] = Offset.at(random.nextInt(1920), random.nextInt(1080));
+        }
+    }
+
+    @Benchmark
+    public List<SpriteBatch.SpriteBatchEntry> addAndSort() {
+        final var spriteBatch = new SpriteBatch();
+        for (int i = 0; i < spriteCount; i++) {
+            spriteBatch.add(sprite, offsets[i], OPTIONS, drawOrders[i]);
+        }
+        return spriteBatch.entriesInOrder();
+    }
+}
@@ -13,6 +13,7 @@ import io.github.srcimon.screwbox.core.audio.internal.AudioAdapter;
 import io.github.srcimon.screwbox.core.audio.internal.AudioLinePool;
 import io.github.srcimon.screwbox.core.audio.internal.DefaultAudio;
 import io.github.srcimon.screwbox.core.audio.internal.DynamicSoundSupport;
+import io.github.srcimon.screwbox.core.audio.internal.HeadlessAudioAdapter;
 import io.github.srcimon.screwbox.core.audio.internal.MicrophoneMonitor;
 import io.github.srcimon.screwbox.core.audio.internal.WarmupAudioTask;
 import io.github.srcimon.screwbox.core.environment.Environment;
@@ -27,6 +28,7 @@ import io.github.srcimon.screwbox.core.graphics.internal.DefaultGraphics;
 import io.github.srcimon.screwbox.core.graphics.internal.DefaultLight;
 import io.github.srcimon.screwbox.core.graphics.internal.DefaultScreen;
 import io.github.srcimon.screwbox.core.graphics.internal.DefaultViewport;
+import io.github.srcimon.screwbox.core.graphics.internal.HeadlessScreen;
 import io.github.srcimon.screwbox.core.graphics.internal.ViewportManager;
 import io.github.srcimon.screwbox.core.graphics.internal.renderer.AsyncRenderer;
 import io.github.srcimon.screwbox.core.graphics.internal.renderer.DefaultRenderer;
@@ -39,6 +41,7 @@ import io.github.srcimon.screwbox.core.log.Log;
 import io.github.srcimon.screwbox.core.log.internal.DefaultLog;
 import io.github.srcimon.screwbox.core.loop.Loop;
 import io.github.srcimon.screwbox.core.loop.internal.DefaultLoop;
+import io.github.srcimon.screwbox.core.loop.internal.Updatable;
 import io.github.srcimon.screwbox.core.mouse.Mouse;
 import io.github.srcimon.screwbox.core.mouse.internal.DefaultMouse;
 import io.github.srcimon.screwbox.core.particles.Particles;
@@ -52,6 +55,7 @@ import io.github.srcimon.screwbox.core.ui.internal.DefaultUi;
 import io.github.srcimon.screwbox.core.utils.internal.MacOsSupport;
 import io.github.srcimon.screwbox.core.window.Window;
 import io.github.srcimon.screwbox.core.window.internal.DefaultWindow;
+import io.github.srcimon.screwbox.core.window.internal.HeadlessWindow;
 import io.github.srcimon.screwbox.core.window.internal.InitializeFontDrawingTask;
 import io.github.srcimon.screwbox.core.window.internal.MacOsWindowFrame;
 import io.github.srcimon.screwbox.core.window.internal.WindowFrame;
@@ -80,7 +84,7 @@ class DefaultEngine implements Engine {
     private final DefaultLog log;
     private final DefaultAsync async;
     private final DefaultAssets assets;
-    private final DefaultWindow window;
+    private final Window window;
     private final DefaultParticles particles;
     private final DefaultArchivements archivements;
     private final WarmUpIndicator warmUpIndicator;
@@ -91,25 +95,20 @@ class DefaultEngine implements Engine {
     private boolean stopCalled = false;
 
     DefaultEngine(final String name) {
+        this(name, false);
+    }
+
+    DefaultEngine(final String name, final boolean headless) {
         log = new DefaultLog(new ConsoleLoggingAdapter());
-        if (!ManagementFactory.getRuntimeMXBean().getInputArguments().contains("-Dsun.java2d.opengl=true")) {
+        if (!headless && !ManagementFactory.getRuntimeMXBean().getInputArguments().contains("-Dsun.java2d.opengl=true")) {
             log.warn("Please run application with the following JVM option to avoid massive fps drop: -Dsun.java2d.opengl=true");
         }
-        if (MacOsSupport.isMacOs() && !MacOsSupport.jvmCanAccessMacOsSpecificCode()) {
+        if (!headless && MacOsSupport.isMacOs() && !MacOsSupport.jvmCanAccessMacOsSpecificCode()) {
             log.warn("Please run application with the following JVM option to add full MacOs support: " + MacOsSupport.FULLSCREEN_JVM_OPTION);
         }
 
         final GraphicsConfiguration configuration = new GraphicsConfiguration();
-        final WindowFrame frame = MacOsSupport.isMacOs()
-                ? new MacOsWindowFrame(configuration.resolution())
-                : new WindowFrame(configuration.resolution());
-
-        frame.addWindowListener(new WindowAdapter() {
-            @Override
-            public void windowClosing(WindowEvent e) {
-                stop();
-            }
-        });
+        final WindowFrame frame = headless ? null : createWindowFrame(configuration);
 
         executor = Executors.newCachedThreadPool(runnable -> {
             final Thread newThread = new Thread(runnable);
@@ -131,11 +130,22 @@ class DefaultEngine implements Engine {
         final DefaultCanvas screenCanvas = new DefaultCanvas(standbyProxyRenderer, clip);
         final DefaultCamera camera = new DefaultCamera(screenCanvas);
         final var viewportManager = new ViewportManager(new DefaultViewport(screenCanvas, camera), standbyProxyRenderer);
-        final DefaultScreen screen = new DefaultScreen(frame, standbyProxyRenderer, createRobot(), screenCanvas, viewportManager, configuration);
-        final var graphicsDevice = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice();
-        window = new DefaultWindow(frame, configuration, graphicsDevice, standbyProxyRenderer);
+        final DefaultScreen screen = headless
+                ? new HeadlessScreen(standbyProxyRenderer, screenCanvas, viewportManager, configuration)
+                : new DefaultScreen(frame, standbyProxyRenderer, createRobot(), screenCanvas, viewportManager, configuration);
+        final GraphicsDevice graphicsDevice = headless ? null : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice();
+        final Updatable windowUpdatable;
+        if (headless) {
+            final var headlessWindow = new HeadlessWindow(configuration, standbyProxyRenderer);
+            window = headlessWindow;
+            windowUpdatable = headlessWindow;
+        } else {
+            final var defaultWindow = new DefaultWindow(frame, configuration, graphicsDevice, standbyProxyRenderer);
+            window = defaultWindow;
+            windowUpdatable = defaultWindow;
+        }
         final DefaultLight light = new DefaultLight(configuration, viewportManager, executor);
-        final AudioAdapter audioAdapter = new AudioAdapter();
+        final AudioAdapter audioAdapter = headless ? new HeadlessAudioAdapter() : new AudioAdapter();
         final AudioConfiguration audioConfiguration = new AudioConfiguration();
         final AudioLinePool audioLinePool = new AudioLinePool(audioAdapter, audioConfiguration);
         final MicrophoneMonitor microphoneMonitor = new MicrophoneMonitor(executor, audioAdapter, audioConfiguration);
@@ -149,16 +159,18 @@ class DefaultEngine implements Engine {
         keyboard = new DefaultKeyboard();
         mouse = new DefaultMouse(screen, viewportManager);
         archivements = new DefaultArchivements(this, new NotifyOnArchivementCompletion(ui));
-        loop = new DefaultLoop(List.of(archivements, keyboard, graphics, scenes, viewportManager, ui, mouse, window, camera, particles, audio, screen));
+        loop = new DefaultLoop(List.of(archivements, keyboard, graphics, scenes, viewportManager, ui, mouse, windowUpdatable, camera, particles, audio, screen));
         warmUpIndicator = new WarmUpIndicator(loop, log);
         physics = new DefaultPhysics(this);
         async = new DefaultAsync(executor);
         assets = new DefaultAssets(async, log);
-        for (var component : List.of(frame, frame.getCanvas())) {
-            component.addMouseListener(mouse);
-            component.addMouseMotionListener(mouse);
-            component.addMouseWheelListener(mouse);
-            component.addKeyListener(keyboard);
+        if (!headless) {
+            for (var component : List.of(frame, frame.getCanvas())) {
+                component.addMouseListener(mouse);
+                component.addMouseMotionListener(mouse);
+                component.addMouseWheelListener(mouse);
+                component.addKeyListener(keyboard);
+            }
         }
         executor.execute(new InitializeFontDrawingTask());
         executor.execute(new WarmupAudioTask(audioLinePool));
@@ -167,6 +179,20 @@ class DefaultEngine implements Engine {
         window.setTitle(name);
     }
 
+    private WindowFrame createWindowFrame(final GraphicsConfiguration configuration) {
+        final WindowFrame frame = MacOsSupport.isMacOs()
+                ? new MacOsWindowFrame(configuration.resolution())
+                : new WindowFrame(configuration.resolution());
+
+        frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                stop();
+            }
+        });
+        return frame;
+    }
+
     private String detectVersion() {
         final String versionInfo = DefaultEngine.class.getPackage().getImplementationVersion();
         return nonNull(versionInfo) ? versionInfo : "0.0.0 (dev-mode)";
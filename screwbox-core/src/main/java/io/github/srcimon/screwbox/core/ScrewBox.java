@@ -29,4 +29,28 @@ public final class ScrewBox {
         return new DefaultEngine(name);
     }
 
+    /**
+     * Creates a headless {@link Engine} instance that doesn't need any display or audio device. Uses "ScrewBox" as the
+     * {@link Engine#name()}.
+     *
+     * @see #createHeadlessEngine(String)
+     * @since 2.12.0
+     */
+    public static Engine createHeadlessEngine() {
+        return createHeadlessEngine("ScrewBox");
+    }
+
+    /**
+     * Creates a headless {@link Engine} instance that doesn't need any display or audio device. The {@link Window} is
+     * replaced by an in-memory implementation, the screen is rendered into an offscreen image that can still be
+     * captured via {@link io.github.srcimon.screwbox.core.graphics.Screen#takeScreenshot()}, sounds are played silently
+     * and there is no keyboard or mouse input. Can be used for simulation servers, automated tests and reproducible
+     * performance measurements. Consider running the JVM with {@code -Djava.awt.headless=true}.
+     *
+     * @since 2.12.0
+     */
+    public static Engine createHeadlessEngine(final String name) {
+        return new DefaultEngine(name, true);
+    }
+
 }
@@ -0,0 +1,24 @@
+package io.github.srcimon.screwbox.core.audio.internal;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.TargetDataLine;
+
+public class HeadlessAudioAdapter extends AudioAdapter {
+
+    @Override
+    public SourceDataLine createSourceLine(final AudioFormat format) {
+        final var line = new SilentDataLine(format);
+        line.open(format);
+        line.start();
+        return line;
+    }
+
+    @Override
+    public TargetDataLine createTargetLine(final AudioFormat format) {
+        final var line = new SilentDataLine(format);
+        line.open(format);
+        line.start();
+        return line;
+    }
+}
@@ -0,0 +1,178 @@
+package io.github.srcimon.screwbox.core.audio.internal;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.Control;
+import javax.sound.sampled.DataLine;
+import javax.sound.sampled.FloatControl;
+import javax.sound.sampled.LineListener;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.TargetDataLine;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class SilentDataLine implements SourceDataLine, TargetDataLine {
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final FloatControl gain = new SilentControl(FloatControl.Type.MASTER_GAIN, -80, 6, 0);
+    private final FloatControl pan = new SilentControl(FloatControl.Type.PAN, -1, 1, 0);
+    private AudioFormat format;
+    private boolean isOpen = false;
+    private boolean isRunning = false;
+    private long framePosition = 0;
+
+    private static class SilentControl extends FloatControl {
+
+        private SilentControl(final Type type, final float minimum, final float maximum, final float initialValue) {
+            super(type, minimum, maximum, 0.01f, -1, initialValue, "");
+        }
+    }
+
+    public SilentDataLine(final AudioFormat format) {
+        this.format = format;
+    }
+
+    @Override
+    public void open(final AudioFormat format, final int bufferSize) {
+        open(format);
+    }
+
+    @Override
+    public void open(final AudioFormat format) {
+        this.format = format;
+        isOpen = true;
+    }
+
+    @Override
+    public void open() {
+        isOpen = true;
+    }
+
+    @Override
+    public int write(final byte[] bytes, final int offset, final int length) {
+        framePosition += length / Math.max(1, format.getFrameSize());
+        return length;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) {
+        Arrays.fill(bytes, offset, offset + length, (byte) 0);
+        final double seconds = length / (double) Math.max(1, format.getFrameSize()) / format.getFrameRate();
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos((long) (seconds * 1_000_000)));
+        framePosition += length / Math.max(1, format.getFrameSize());
+        return length;
+    }
+
+    @Override
+    public void drain() {
+        // nothing to drain
+    }
+
+    @Override
+    public void flush() {
+        // nothing to flush
+    }
+
+    @Override
+    public void start() {
+        isRunning = true;
+    }
+
+    @Override
+    public void stop() {
+        isRunning = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    @Override
+    public boolean isActive() {
+        return isRunning;
+    }
+
+    @Override
+    public AudioFormat getFormat() {
+        return format;
+    }
+
+    @Override
+    public int getBufferSize() {
+        return BUFFER_SIZE;
+    }
+
+    @Override
+    public int available() {
+        return BUFFER_SIZE;
+    }
+
+    @Override
+    public int getFramePosition() {
+        return (int) framePosition;
+    }
+
+    @Override
+    public long getLongFramePosition() {
+        return framePosition;
+    }
+
+    @Override
+    public long getMicrosecondPosition() {
+        return (long) (framePosition / format.getFrameRate() * 1_000_000);
+    }
+
+    @Override
+    public float getLevel() {
+        return 0;
+    }
+
+    @Override
+    public DataLine.Info getLineInfo() {
+        return new DataLine.Info(SourceDataLine.class, format);
+    }
+
+    @Override
+    public void close() {
+        isOpen = false;
+        isRunning = false;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return isOpen;
+    }
+
+    @Override
+    public Control[] getControls() {
+        return new Control[]{gain, pan};
+    }
+
+    @Override
+    public boolean isControlSupported(final Control.Type control) {
+        return FloatControl.Type.MASTER_GAIN.equals(control) || FloatControl.Type.PAN.equals(control);
+    }
+
+    @Override
+    public Control getControl(final Control.Type control) {
+        if (FloatControl.Type.MASTER_GAIN.equals(control)) {
+            return gain;
+        }
+        if (FloatControl.Type.PAN.equals(control)) {
+            return pan;
+        }
+        throw new IllegalArgumentException("unsupported control type: " + control);
+    }
+
+    @Override
+    public void addLineListener(final LineListener listener) {
+        // no line events are raised
+    }
+
+    @Override
+    public void removeLineListener(final LineListener listener) {
+        // no line events are raised
+    }
+}
@@ -1,14 +1,18 @@
 package io.github.srcimon.screwbox.core.environment;
 
 import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.environment.internal.ComponentMask;
 import io.github.srcimon.screwbox.core.environment.rendering.ReflectionComponent;
 
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
 
 /**
  * Describes a specific type of {@link Entity} by its {@link Component}s. E.g. an {@link Entity} containing {@link ReflectionComponent} and {@link TransformComponent}
@@ -19,21 +23,37 @@ public class Archetype implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
+    private static final Map<ComponentMask, Archetype> REGISTRY = new ConcurrentHashMap<>();
+    private static final ClassValue<Archetype> SINGLE_COMPONENT_ARCHETYPES = new ClassValue<>() {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Archetype computeValue(final Class<?> type) {
+            return intern(List.of((Class<? extends Component>) type));
+        }
+    };
+
     private final Collection<Class<? extends Component>> componentClasses;
-    private final int hash;
+    private final transient ComponentMask componentMask;
 
     /**
-     * Creates a new {@link Archetype}. Quite expensive. {@link Archetype}s should be stored in constants.
+     * Returns the {@link Archetype} for the given {@link Component} classes. {@link Archetype}s are interned: every distinct
+     * combination of {@link Component} classes will always return the very same instance, regardless of the order of
+     * the classes. Still prefer storing {@link Archetype}s in constants when used every frame.
      *
      * @see #ofSpacial(Class[])
      */
     @SafeVarargs
     public static Archetype of(final Class<? extends Component>... componentClasses) {
-        return new Archetype(List.of(componentClasses));
+        return componentClasses.length == 1
+                ? SINGLE_COMPONENT_ARCHETYPES.get(componentClasses[0])
+                : intern(List.of(componentClasses));
     }
 
     /**
-     * Creates a new {@link Archetype} containing a {@link TransformComponent}. Quite expensive. {@link Archetype}s should be stored in constants.
+     * Returns the {@link Archetype} for the given {@link Component} classes and an additional {@link TransformComponent}.
+     * {@link Archetype}s are interned: every distinct combination of {@link Component} classes will always return the
+     * very same instance. Still prefer storing {@link Archetype}s in constants when used every frame.
      *
      * @see #of(Class[])
      */
@@ -41,55 +61,54 @@ public class Archetype implements Serializable {
     public static Archetype ofSpacial(final Class<? extends Component>... componentClasses) {
         final var components = new ArrayList<>(List.of(componentClasses));
         components.add(TransformComponent.class);
-        return new Archetype(components);
+        return intern(components);
     }
 
-    private Archetype(final List<Class<? extends Component>> componentClasses) {
-        this.componentClasses = componentClasses;
-        this.hash = calculateHash(componentClasses);
+    private static Archetype intern(final List<Class<? extends Component>> componentClasses) {
+        final var componentMask = new ComponentMask(componentClasses);
+        final var archetype = REGISTRY.get(componentMask);
+        return isNull(archetype)
+                ? REGISTRY.computeIfAbsent(componentMask, mask -> new Archetype(componentClasses, mask))
+                : archetype;
     }
 
-    @Override
-    public int hashCode() {
-        return hash;
+    private Archetype(final List<Class<? extends Component>> componentClasses, final ComponentMask componentMask) {
+        this.componentClasses = List.copyOf(componentClasses);
+        this.componentMask = componentMask;
     }
 
-    @Override
-    public boolean equals(final Object obj) {
-        if (this == obj)
-            return true;
-        if (obj == null)
-            return false;
-        if (getClass() != obj.getClass())
-            return false;
-        final Archetype other = (Archetype) obj;
-        return other.hash == this.hash;
-    }
-
-    private int calculateHash(final List<Class<? extends Component>> componentClasses) {
-        if (componentClasses.size() == 1) {
-            return List.of(componentClasses.getFirst().getName()).hashCode();
-        }
-        final List<String> names = new ArrayList<>();
-        for (final var componentClass : componentClasses) {
-            names.add(componentClass.getName());
-        }
-        Collections.sort(names);
-        return names.hashCode();
+    @Serial
+    private Object readResolve() {
+        return intern(List.copyOf(componentClasses));
     }
 
     /**
      * Returns true if the given {@link Entity} contains all {@link Component}s of the {@link Archetype}.
      */
     public boolean matches(final Entity entity) {
-        return entity.getComponentClasses().containsAll(componentClasses);
+        return entity.componentMask().containsAll(componentMask);
     }
 
     /**
      * Returns true if the given {@link Component} class is contained in this {@link Archetype}.
      */
     public boolean contains(final Class<? extends Component> componentClass) {
-        return componentClasses.contains(componentClass);
+        return componentMask.contains(componentClass);
+    }
+
+    /**
+     * Returns the {@link Archetype} containing all {@link Component}s of this {@link Archetype} and the specified
+     * additional {@link Component} class.
+     *
+     * @since 2.12.0
+     */
+    public Archetype with(final Class<? extends Component> componentClass) {
+        if (contains(componentClass)) {
+            return this;
+        }
+        final var components = new ArrayList<>(componentClasses);
+        components.add(componentClass);
+        return intern(components);
     }
 
     @Override
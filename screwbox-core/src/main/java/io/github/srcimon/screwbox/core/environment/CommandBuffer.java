@@ -0,0 +1,47 @@
+package io.github.srcimon.screwbox.core.environment;
+
+/**
+ * Records structural changes of the {@link Environment} without applying them right away. All recorded changes are
+ * applied in one batch after all {@link EntitySystem}s have been updated. Changes of the same {@link Entity} are
+ * coalesced, so the {@link Archetype} caches of the {@link Environment} are only refreshed once per {@link Entity}.
+ * <p>
+ * Recording changes is thread safe, so a {@link CommandBuffer} can also be used from concurrent {@link EntitySystem}s
+ * or asynchronous tasks.
+ *
+ * @see Environment#commandBuffer()
+ * @since 2.12.0
+ */
+public interface CommandBuffer {
+
+    /**
+     * Adds the specified {@link Entity} to the {@link Environment}.
+     */
+    CommandBuffer addEntity(Entity entity);
+
+    /**
+     * Adds a new {@link Entity} with the specified {@link Component}s to the {@link Environment}.
+     */
+    CommandBuffer addEntity(Component... components);
+
+    /**
+     * Removes the specified {@link Entity} from the {@link Environment}. Removing an {@link Entity} that has been
+     * added in the same batch will cancel out the addition.
+     */
+    CommandBuffer remove(Entity entity);
+
+    /**
+     * Adds the {@link Component} to the specified {@link Entity}. Will fail on playback when a {@link Component} of
+     * the same type is already present.
+     */
+    CommandBuffer addComponent(Entity entity, Component component);
+
+    /**
+     * Removes the {@link Component} of the given type from the specified {@link Entity}.
+     */
+    CommandBuffer removeComponent(Entity entity, Class<? extends Component> componentClass);
+
+    /**
+     * Returns the count of recorded changes that have not been applied yet.
+     */
+    int pendingCount();
+}
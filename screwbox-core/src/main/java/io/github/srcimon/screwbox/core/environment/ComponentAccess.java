@@ -0,0 +1,35 @@
+package io.github.srcimon.screwbox.core.environment;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Declares which {@link Component}s an {@link EntitySystem} reads and writes. {@link EntitySystem}s sharing the same
+ * {@link Order.SystemOrder} may be updated concurrently when their declared {@link Component}s don't conflict.
+ * Two {@link EntitySystem}s conflict when one of them writes a {@link Component} the other one reads or writes.
+ * {@link EntitySystem}s without this annotation are always updated exclusively.
+ * <p>
+ * Annotated {@link EntitySystem}s must only access the declared {@link Component}s and must not add or remove
+ * {@link Component}s of existing {@link Entity entities} directly. Use {@link Environment#commandBuffer()} instead.
+ * Adding and removing {@link Entity entities} via {@link Environment} is fine, because these changes are deferred
+ * until all concurrent {@link EntitySystem}s have finished.
+ *
+ * @since 2.12.0
+ */
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface ComponentAccess {
+
+    /**
+     * {@link Component}s that are only read by the {@link EntitySystem}.
+     */
+    Class<? extends Component>[] reads() default {};
+
+    /**
+     * {@link Component}s that are modified by the {@link EntitySystem}.
+     */
+    Class<? extends Component>[] writes() default {};
+}
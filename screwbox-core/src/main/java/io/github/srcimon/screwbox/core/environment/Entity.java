@@ -3,6 +3,8 @@ package io.github.srcimon.screwbox.core.environment;
 import io.github.srcimon.screwbox.core.Bounds;
 import io.github.srcimon.screwbox.core.Vector;
 import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.environment.internal.ComponentMask;
+import io.github.srcimon.screwbox.core.environment.internal.ComponentReplacementListener;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -15,6 +17,7 @@ import java.util.Optional;
 import java.util.function.Consumer;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
 public final class Entity implements Serializable {
@@ -25,6 +28,8 @@ public final class Entity implements Serializable {
     private final Map<Class<? extends Component>, Component> components = new HashMap<>();
     private final Integer id;
     private transient List<EntityListener> listeners;
+    private transient ComponentMask componentMask;
+    private transient EntityEvent event;
     private String name;
     private TransformComponent tranform;
 
@@ -99,6 +104,11 @@ public final class Entity implements Serializable {
             if (component instanceof TransformComponent transformComponent) {
                 tranform = transformComponent;
             }
+            for (final var listener : getListeners()) {
+                if (listener instanceof ComponentReplacementListener replacementListener) {
+                    replacementListener.componentReplaced(this);
+                }
+            }
         } else {
             add(component);
         }
@@ -111,12 +121,12 @@ public final class Entity implements Serializable {
             throw new IllegalArgumentException("component already present: " + componentClass.getSimpleName());
         }
         components.put(componentClass, component);
+        componentMask().set(componentClass);
         if (component instanceof TransformComponent transformComponent) {
             tranform = transformComponent;
         }
-        final var event = new EntityEvent(this);
         for (final var listener : getListeners()) {
-            listener.componentAdded(event);
+            listener.componentAdded(event());
         }
         return this;
     }
@@ -161,6 +171,30 @@ public final class Entity implements Serializable {
         getListeners().add(listener);
     }
 
+    /**
+     * Unregisters the specified {@link EntityListener}. Won't do anything if the {@link EntityListener} wasn't registered.
+     *
+     * @see #registerListener(EntityListener)
+     * @since 2.12.0
+     */
+    public void unregisterListener(final EntityListener listener) {
+        if (nonNull(listeners)) {
+            listeners.remove(listener);
+        }
+    }
+
+    /**
+     * Unregisters all {@link EntityListener}s of this {@link Entity}.
+     *
+     * @see #unregisterListener(EntityListener)
+     * @since 2.12.0
+     */
+    public void unregisterAllListeners() {
+        if (nonNull(listeners)) {
+            listeners.clear();
+        }
+    }
+
     /**
      * Checks if the specified {@link Component}-class is present in this
      * {@link Entity}.
@@ -177,12 +211,12 @@ public final class Entity implements Serializable {
      */
     public void remove(final Class<? extends Component> componentClass) {
         components.remove(componentClass);
+        componentMask().clear(componentClass);
         if (TransformComponent.class.equals(componentClass)) {
             tranform = null;
         }
-        final var event = new EntityEvent(this);
         for (final var listener : getListeners()) {
-            listener.componentRemoved(event);
+            listener.componentRemoved(event());
         }
     }
 
@@ -231,6 +265,20 @@ public final class Entity implements Serializable {
         return tranform.bounds;
     }
 
+    /**
+     * Returns {@link TransformComponent#renderBounds()} if {@link Entity} has {@link TransformComponent}. These are
+     * the {@link Bounds} all renderers should use.
+     *
+     * @throws IllegalStateException if {@link Entity} has no {@link TransformComponent}
+     * @since 2.12.0
+     */
+    public Bounds renderBounds() {
+        if (isNull(tranform)) {
+            throw new IllegalStateException("entity has no TransformComponent");
+        }
+        return tranform.renderBounds();
+    }
+
     /**
      * Moves an {@link Entity} to the specified {@link Bounds#position()}.
      *
@@ -260,6 +308,20 @@ public final class Entity implements Serializable {
         }
     }
 
+    ComponentMask componentMask() {
+        if (isNull(componentMask)) {
+            componentMask = new ComponentMask(components.keySet());
+        }
+        return componentMask;
+    }
+
+    private EntityEvent event() {
+        if (isNull(event)) {
+            event = new EntityEvent(this);
+        }
+        return event;
+    }
+
     private List<EntityListener> getListeners() {
         if (isNull(listeners)) {
             listeners = new ArrayList<>();
@@ -0,0 +1,20 @@
+package io.github.srcimon.screwbox.core.environment;
+
+import java.util.EventListener;
+
+/**
+ * Listener interface for receiving all changes of the {@link Entity entities} of an {@link Environment} in one batch
+ * once per frame. Unlike an {@link EntityListener} it doesn't have to be registered on every single {@link Entity}
+ * and won't be invoked on every single {@link Component} change.
+ *
+ * @see Environment#registerChangeListener(EntityChangeListener)
+ * @since 2.12.0
+ */
+@FunctionalInterface
+public interface EntityChangeListener extends EventListener {
+
+    /**
+     * Invoked after all {@link EntitySystem}s have been updated, if there were any changes.
+     */
+    void entitiesChanged(EntityChangeSet changes);
+}
@@ -0,0 +1,30 @@
+package io.github.srcimon.screwbox.core.environment;
+
+import java.util.List;
+
+/**
+ * All changes of the {@link Entity entities} of an {@link Environment} that happened since the last delivery of an
+ * {@link EntityChangeSet}. Every {@link Entity} is only listed once: {@link Entity entities} that were added and
+ * removed again in between won't be listed at all.
+ *
+ * @param added   {@link Entity entities} that have been added
+ * @param removed {@link Entity entities} that have been removed
+ * @param changed {@link Entity entities} that were already present and had {@link Component}s added, removed or replaced
+ * @see Environment#registerChangeListener(EntityChangeListener)
+ * @since 2.12.0
+ */
+public record EntityChangeSet(List<Entity> added, List<Entity> removed, List<Entity> changed) {
+
+    public EntityChangeSet {
+        added = List.copyOf(added);
+        removed = List.copyOf(removed);
+        changed = List.copyOf(changed);
+    }
+
+    /**
+     * Returns the total count of changed {@link Entity entities}.
+     */
+    public int size() {
+        return added.size() + removed.size() + changed.size();
+    }
+}
@@ -10,6 +10,8 @@ import io.github.srcimon.screwbox.core.graphics.Sprite;
  * E.g. applying gravity ({@link GravitySystem}) or rendering all {@link Sprite}s ({@link RenderSystem}).
  * <p>
  * An {@link EntitySystem} can be annotated with {@link Order.SystemOrder} to determin the order of execution.
+ * Annotating an {@link EntitySystem} with {@link ComponentAccess} allows concurrent updates with other non-conflicting
+ * {@link EntitySystem}s of the same {@link Order.SystemOrder}.
  */
 @FunctionalInterface
 public interface EntitySystem {
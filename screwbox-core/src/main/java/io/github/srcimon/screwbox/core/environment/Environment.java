@@ -3,6 +3,7 @@ package io.github.srcimon.screwbox.core.environment;
 import io.github.srcimon.screwbox.core.environment.audio.SoundSystem;
 import io.github.srcimon.screwbox.core.environment.light.LightRenderSystem;
 import io.github.srcimon.screwbox.core.environment.light.OptimizeLightPerformanceSystem;
+import io.github.srcimon.screwbox.core.environment.light.StaticShadowCasterComponent;
 import io.github.srcimon.screwbox.core.environment.logic.AreaTriggerSystem;
 import io.github.srcimon.screwbox.core.environment.logic.StateSystem;
 import io.github.srcimon.screwbox.core.environment.particles.ParticleBurstSystem;
@@ -29,6 +30,8 @@ import io.github.srcimon.screwbox.core.scenes.Scene;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
 
 /**
  * The {@link Environment} manages all {@link #entities()} and all {@link #systems()} that are contained in a {@link Scene}.
@@ -147,6 +150,15 @@ public interface Environment {
 
     List<Entity> fetchAll(Archetype archetype);
 
+    /**
+     * Returns a {@link Query} on all {@link Entity entities} matching the specified {@link Archetype}. Other than
+     * {@link #fetchAll(Archetype)} the {@link Query} provides the {@link Component}s of the matching
+     * {@link Entity entities} directly.
+     *
+     * @since 2.12.0
+     */
+    Query query(Archetype archetype);
+
     default List<Entity> fetchAllHaving(Class<? extends Component> component) {
         return fetchAll(Archetype.of(component));
     }
@@ -178,6 +190,86 @@ public interface Environment {
      */
     Optional<Entity> tryFetchById(int id);
 
+    /**
+     * Returns the {@link CommandBuffer} of this {@link Environment}. The {@link CommandBuffer} records structural changes
+     * that are applied in one batch after all {@link EntitySystem}s have been updated. Can be used from concurrent
+     * {@link EntitySystem}s and asynchronous tasks.
+     *
+     * @since 2.12.0
+     */
+    CommandBuffer commandBuffer();
+
+    /**
+     * Returns update statistics of all {@link EntitySystem}s of this {@link Environment}, including durations and
+     * allocations of the recent updates and the time spent applying {@link Entity} changes in between. Statistics are
+     * only recorded while system metrics are enabled.
+     *
+     * @see #enableSystemMetrics()
+     * @since 2.12.0
+     */
+    SystemMetrics systemMetrics();
+
+    /**
+     * Starts recording the statistics provided by {@link #systemMetrics()}. System metrics are disabled by default
+     * because measuring every {@link EntitySystem} adds a small overhead to every update.
+     *
+     * @see #disableSystemMetrics()
+     * @since 2.12.0
+     */
+    Environment enableSystemMetrics();
+
+    /**
+     * Stops recording the statistics provided by {@link #systemMetrics()}. Statistics recorded so far are kept.
+     *
+     * @see #enableSystemMetrics()
+     * @since 2.12.0
+     */
+    Environment disableSystemMetrics();
+
+    /**
+     * Returns {@code true} if statistics for {@link #systemMetrics()} are recorded.
+     *
+     * @since 2.12.0
+     */
+    boolean isSystemMetricsEnabled();
+
+    /**
+     * Returns an {@link Entity} from the entity pool of this {@link Environment}. Pooled {@link Entity entities} are
+     * recycled when removed from the {@link Environment}: all {@link Component}s are removed and
+     * {@link PoolableComponent}s are reset. Don't keep references to pooled {@link Entity entities} after removing
+     * them. Pooled {@link Entity entities} don't have an {@link Entity#id()}.
+     *
+     * @see #obtainPooledComponent(Class, Supplier)
+     * @since 2.12.0
+     */
+    Entity obtainPooledEntity();
+
+    /**
+     * Registers an {@link EntityChangeListener} that receives all changes of the {@link Entity entities} of this
+     * {@link Environment} as one {@link EntityChangeSet} after all {@link EntitySystem}s have been updated.
+     *
+     * @see #unregisterChangeListener(EntityChangeListener)
+     * @since 2.12.0
+     */
+    Environment registerChangeListener(EntityChangeListener listener);
+
+    /**
+     * Unregisters an {@link EntityChangeListener}. Won't do anything if the {@link EntityChangeListener} wasn't registered.
+     *
+     * @see #registerChangeListener(EntityChangeListener)
+     * @since 2.12.0
+     */
+    Environment unregisterChangeListener(EntityChangeListener listener);
+
+    /**
+     * Returns a recycled {@link PoolableComponent} of the specified type or creates a new one using the factory if
+     * there is none available.
+     *
+     * @see #obtainPooledEntity()
+     * @since 2.12.0
+     */
+    <T extends PoolableComponent> T obtainPooledComponent(Class<T> componentClass, Supplier<T> factory);
+
     /**
      * Removes the specified {@link Entity}.
      */
@@ -213,6 +305,14 @@ public interface Environment {
      */
     long entityCount(Archetype archetype);
 
+    /**
+     * Returns the count of entities matching the given {@link Archetype} if it is known without scanning all entities.
+     * Unlike {@link #entityCount(Archetype)} this won't start caching the matches of the {@link Archetype}.
+     *
+     * @since 2.12.0
+     */
+    OptionalLong cachedEntityCount(Archetype archetype);
+
     boolean contains(Archetype archetype);
 
     Environment addEntities(Entity... entities);
@@ -254,28 +354,101 @@ public interface Environment {
 
     /**
      * Creates a savegame file with the given name. The savegame contains all
-     * {@link #entities()} attached to the {@link Environment}.
+     * {@link #entities()} attached to the {@link Environment}. Uses {@link SavegameFormat#BINARY}.
+     *
+     * @see #saveToFile(String, SavegameFormat)
      */
     Environment saveToFile(String name);
 
+    /**
+     * Creates a savegame file with the given name using the specified {@link SavegameFormat}. The savegame
+     * contains all {@link #entities()} attached to the {@link Environment}.
+     *
+     * @since 2.12.0
+     */
+    Environment saveToFile(String name, SavegameFormat format);
+
+    /**
+     * Creates a savegame file with the given name. All {@link #entities()} are serialized on the update thread at
+     * the end of the current frame, so this still costs update time for huge worlds. Only compressing and writing
+     * the savegame happens in the background. {@link Component Components} may be modified right after the frame.
+     * A savegame with the same name created later on will never be overwritten by this savegame.
+     * Uses {@link SavegameFormat#BINARY}.
+     *
+     * @return handle that can be polled for completion
+     * @see #saveToFileAsync(String, SavegameFormat)
+     * @since 2.12.0
+     */
+    SavegameTask saveToFileAsync(String name);
+
+    /**
+     * Creates a savegame file with the given name using the specified {@link SavegameFormat}. Serializes all
+     * {@link #entities()} at the end of the current frame and compresses and writes them in the background.
+     *
+     * @return handle that can be polled for completion
+     * @see #saveToFileAsync(String)
+     * @since 2.12.0
+     */
+    SavegameTask saveToFileAsync(String name, SavegameFormat format);
+
+    /**
+     * Saves only the {@link Entity entities} and {@link Component components} that have changed since the last
+     * savegame with the same name was created. Delta savegames are stored next to the savegame file and will
+     * be applied automatically when calling {@link #loadFromFile(String)}. Creates a full savegame when there
+     * is no previous savegame created or loaded in this {@link Environment}.
+     *
+     * @see #compactSavegameFile(String)
+     * @since 2.12.0
+     */
+    Environment saveDeltaToFile(String name);
+
+    /**
+     * Merges all delta savegames created via {@link #saveDeltaToFile(String)} into the savegame file with the given
+     * name. This also happens automatically when loading the savegame.
+     *
+     * @since 2.12.0
+     */
+    Environment compactSavegameFile(String name);
+
     /**
      * Loads a previously created savegame file and restores the saved
-     * {@link #entities()} in the {@link Environment}.
+     * {@link #entities()} in the {@link Environment}. The {@link SavegameFormat} is detected automatically.
+     * Delta savegames created via {@link #saveDeltaToFile(String)} are applied and merged into the savegame file.
      */
     Environment loadFromFile(String name);
 
     /**
-     * Deletes the savegame with the given name. Triggers an {@link Exception} if
+     * Deletes the savegame with the given name including all delta savegames. Triggers an {@link Exception} if
      * there is no such savegame.
      */
     Environment deleteSavegameFile(String name);
 
     /**
-     * Returns true if there is a savegame with the given name. Value is cached for a second to prevent
-     * excessive disc usage.
+     * Returns true if there is a savegame with the given name. Uses the savegame catalog to prevent
+     * excessive disc usage. Savegames missing in the catalog are checked on disc at most once a second.
+     *
+     * @see #savegames()
      */
     boolean savegameFileExists(String name);
 
+    /**
+     * Returns the metadata of all savegames in the savegame catalog, most recent savegames first. The catalog is
+     * updated whenever a savegame is created, loaded or deleted. Can be used to render save slots without
+     * accessing the savegame files.
+     *
+     * @since 2.12.0
+     */
+    List<SavegameInfo> savegames();
+
+    /**
+     * Stores a reference to a thumbnail image (e.g. the file name of a screenshot) for the savegame with the
+     * given name in the savegame catalog. Triggers an {@link Exception} if there is no such savegame.
+     *
+     * @see SavegameInfo#thumbnail()
+     * @since 2.12.0
+     */
+    Environment setSavegameThumbnail(String name, String thumbnail);
+
     /**
      * Adds all systems needed for physics support in this {@link Environment}.
      *
@@ -366,4 +539,16 @@ public interface Environment {
      * @see #enableAudio()
      */
     Environment enableAllFeatures();
+
+    /**
+     * Combines adjacent {@link Entity entities} having a {@link StaticColliderComponent} or a
+     * {@link StaticShadowCasterComponent} and equal properties into fewer and bigger {@link Entity entities} right
+     * away. Use this right after importing a map to start with an optimized set of colliders and shadow casters
+     * on the first frame.
+     *
+     * @see OptimizePhysicsPerformanceSystem
+     * @see OptimizeLightPerformanceSystem
+     * @since 2.12.0
+     */
+    Environment combineStaticEntities();
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package io.github.srcimon.screwbox.core.environment;
+
+/**
+ * A {@link Component} that can be recycled by the {@link Environment}. Pooled {@link Entity entities} will reset
+ * their {@link PoolableComponent}s on removal and hand them out again via
+ * {@link Environment#obtainPooledComponent(Class, java.util.function.Supplier)}. Use for {@link Component}s of entities
+ * that are created and removed very frequently, like projectiles or particles.
+ *
+ * @see Environment#obtainPooledEntity()
+ * @since 2.12.0
+ */
+public interface PoolableComponent extends Component {
+
+    /**
+     * Resets the {@link Component} to its initial state. Is called when the owning pooled {@link Entity} is removed
+     * from the {@link Environment}.
+     */
+    void reset();
+}
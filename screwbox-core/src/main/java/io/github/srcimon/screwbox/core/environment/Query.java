@@ -0,0 +1,68 @@
+package io.github.srcimon.screwbox.core.environment;
+
+import java.util.function.Consumer;
+
+/**
+ * Iterates all {@link Entity entities} matching an {@link Archetype} without creating any temporary collections.
+ * Typed variants of {@link #forEach(Consumer)} provide the {@link Component}s of the {@link Entity entities} directly,
+ * so there is no need to look them up via {@link Entity#get(Class)}. Queries stay up to date with the
+ * {@link Environment} and can be stored in {@link EntitySystem}s. Entities added or removed while iterating are
+ * applied after the iteration has finished.
+ *
+ * @see Environment#query(Archetype)
+ * @since 2.12.0
+ */
+public interface Query {
+
+    /**
+     * Receives an {@link Entity} and one of its {@link Component}s.
+     */
+    @FunctionalInterface
+    interface ComponentConsumer<A extends Component> {
+
+        void accept(Entity entity, A component);
+    }
+
+    /**
+     * Receives an {@link Entity} and two of its {@link Component}s.
+     */
+    @FunctionalInterface
+    interface ComponentsConsumer<A extends Component, B extends Component> {
+
+        void accept(Entity entity, A first, B second);
+    }
+
+    /**
+     * Returns the {@link Archetype} of this query.
+     */
+    Archetype archetype();
+
+    /**
+     * Returns the count of matching {@link Entity entities}.
+     */
+    int size();
+
+    /**
+     * Returns {@code true} if there is no matching {@link Entity}.
+     */
+    boolean isEmpty();
+
+    /**
+     * Performs the action for every matching {@link Entity}.
+     */
+    void forEach(Consumer<Entity> action);
+
+    /**
+     * Performs the action for every matching {@link Entity} and its {@link Component} of the specified type.
+     *
+     * @throws IllegalArgumentException if the {@link Component} is not part of the {@link Archetype}
+     */
+    <A extends Component> void forEach(Class<A> componentClass, ComponentConsumer<A> action);
+
+    /**
+     * Performs the action for every matching {@link Entity} and its {@link Component}s of the specified types.
+     *
+     * @throws IllegalArgumentException if one of the {@link Component}s is not part of the {@link Archetype}
+     */
+    <A extends Component, B extends Component> void forEach(Class<A> first, Class<B> second, ComponentsConsumer<A, B> action);
+}
@@ -0,0 +1,27 @@
+package io.github.srcimon.screwbox.core.environment;
+
+/**
+ * File format used when creating a savegame via {@link Environment#saveToFile(String, SavegameFormat)}.
+ * Savegames are always loaded regardless of the format they have been created with.
+ *
+ * @since 2.12.0
+ */
+public enum SavegameFormat {
+
+    /**
+     * Compact binary format storing the fields of all {@link Component components} of an
+     * {@link Archetype} column by column. Uses fast compression. Default format.
+     */
+    BINARY,
+
+    /**
+     * Same as {@link #BINARY} but uses stronger compression. Usually creates smaller files but takes more time.
+     */
+    BINARY_COMPACT,
+
+    /**
+     * Java serialization of all {@link Entity entities} compressed with GZIP. Format used by
+     * versions prior to 2.12.0. Slow and sensitive to class changes.
+     */
+    SERIALIZED
+}
@@ -0,0 +1,19 @@
+package io.github.srcimon.screwbox.core.environment;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Metadata of a savegame file stored in the savegame catalog. Can be used to render save slots without
+ * accessing the savegame files.
+ *
+ * @param name      name of the savegame file
+ * @param lastSaved point in time the savegame has been written the last time
+ * @param size      size of the savegame file in bytes including delta savegames
+ * @param version   version of the savegame file format, {@code 0} for {@link SavegameFormat#SERIALIZED}
+ * @param thumbnail optional reference to a thumbnail image of the savegame
+ * @see Environment#savegames()
+ * @since 2.12.0
+ */
+public record SavegameInfo(String name, Instant lastSaved, long size, int version, Optional<String> thumbnail) {
+}
@@ -0,0 +1,27 @@
+package io.github.srcimon.screwbox.core.environment;
+
+import java.util.Optional;
+
+/**
+ * Handle of a savegame that is written in the background. Created by {@link Environment#saveToFileAsync(String)}.
+ * Can be polled every frame to find out when the savegame has been written.
+ *
+ * @since 2.12.0
+ */
+public interface SavegameTask {
+
+    /**
+     * Name of the savegame file.
+     */
+    String name();
+
+    /**
+     * Returns {@code true} when writing the savegame has been finished or has failed.
+     */
+    boolean isDone();
+
+    /**
+     * Returns the reason why the savegame could not be written. Empty while in progress or after success.
+     */
+    Optional<Exception> failure();
+}
@@ -3,6 +3,7 @@ package io.github.srcimon.screwbox.core.environment;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 
@@ -24,10 +25,7 @@ public final class SourceImport<T> {
         }
 
         public SourceImport<T> as(final Converter<T> converter) {
-            inputs.stream()
-                    .filter(condition)
-                    .map(converter::convert)
-                    .forEach(engine::addEntity);
+            importConverted(inputs.stream().filter(condition), converter);
 
             return caller;
         }
@@ -66,10 +64,7 @@ public final class SourceImport<T> {
         }
 
         public IndexSourceImport<M> as(final Converter<T> converter) {
-            inputs.stream()
-                    .filter(input -> matcher.apply(input).equals(index))
-                    .map(converter::convert)
-                    .forEach(engine::addEntity);
+            importConverted(inputs.stream().filter(input -> matcher.apply(input).equals(index)), converter);
 
             return caller;
         }
@@ -77,6 +72,7 @@ public final class SourceImport<T> {
 
     private final List<T> inputs;
     private final Environment engine;
+    private boolean parallel = false;
 
     public SourceImport(final List<T> inputs, final Environment engine) {
         this.inputs = inputs;
@@ -85,12 +81,26 @@ public final class SourceImport<T> {
 
     public SourceImport<T> as(final Converter<T> converter) {
         requireNonNull(converter, "Converter must not be null");
-        for (final var input : inputs) {
-            engine.addEntity(converter.convert(input));
-        }
+        importConverted(inputs.stream(), converter);
+        return this;
+    }
+
+    /**
+     * Runs all following conversions of this import in parallel. Converted {@link Entity entities} will still be added
+     * in the order of the inputs. Only use with converters that can safely be run concurrently.
+     *
+     * @since 2.12.0
+     */
+    public SourceImport<T> parallel() {
+        this.parallel = true;
         return this;
     }
 
+    private void importConverted(final Stream<T> matchingInputs, final Converter<T> converter) {
+        final Stream<T> stream = parallel ? matchingInputs.parallel() : matchingInputs;
+        engine.addEntities(stream.map(converter::convert).toList());
+    }
+
     public ConditionalSourceImport when(final Predicate<T> condition) {
         return new ConditionalSourceImport(condition, this);
     }
@@ -0,0 +1,23 @@
+package io.github.srcimon.screwbox.core.environment;
+
+import io.github.srcimon.screwbox.core.Duration;
+
+/**
+ * Update statistics of a single {@link EntitySystem}. Durations are measured over the recent updates of the
+ * {@link EntitySystem}.
+ *
+ * @param system         the measured {@link EntitySystem}
+ * @param updateCount    the total count of updates
+ * @param last           duration of the last update
+ * @param average        average duration of the recent updates
+ * @param max            maximum duration of the recent updates
+ * @param percentile95   95th percentile of the durations of the recent updates
+ * @param percentile99   99th percentile of the durations of the recent updates
+ * @param allocatedBytes bytes allocated by the updating thread during the last update, {@code -1} if not supported
+ *                       by the JVM
+ * @see Environment#systemMetrics()
+ * @since 2.12.0
+ */
+public record SystemMetric(EntitySystem system, long updateCount, Duration last, Duration average, Duration max,
+                           Duration percentile95, Duration percentile99, long allocatedBytes) {
+}
@@ -0,0 +1,51 @@
+package io.github.srcimon.screwbox.core.environment;
+
+import io.github.srcimon.screwbox.core.Duration;
+
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Snapshot of the update statistics of all {@link EntitySystem}s of an {@link Environment}. Can be used to spot
+ * {@link EntitySystem}s that are responsible for long frames.
+ *
+ * @param systems              statistics of all {@link EntitySystem}s in order of execution
+ * @param lastPickUpDuration   time spent applying {@link Entity} changes between the {@link EntitySystem}s during the
+ *                             last update
+ * @param averagePickUpDuration average time spent applying {@link Entity} changes per update
+ * @see Environment#systemMetrics()
+ * @since 2.12.0
+ */
+public record SystemMetrics(List<SystemMetric> systems, Duration lastPickUpDuration, Duration averagePickUpDuration) {
+
+    public SystemMetrics {
+        systems = List.copyOf(systems);
+    }
+
+    /**
+     * Returns the statistics of the first {@link EntitySystem} of the specified type.
+     */
+    public Optional<SystemMetric> of(final Class<? extends EntitySystem> systemType) {
+        for (final var metric : systems) {
+            if (metric.system().getClass() == systemType) {
+                return Optional.of(metric);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the statistics of the {@link EntitySystem} that took longest during its last update.
+     */
+    public Optional<SystemMetric> slowest() {
+        SystemMetric slowest = null;
+        for (final var metric : systems) {
+            if (isNull(slowest) || metric.last().nanos() > slowest.last().nanos()) {
+                slowest = metric;
+            }
+        }
+        return Optional.ofNullable(slowest);
+    }
+}
@@ -6,6 +6,8 @@ import io.github.srcimon.screwbox.core.environment.Component;
 
 import java.io.Serial;
 
+import static java.util.Objects.nonNull;
+
 public final class TransformComponent implements Component {
 
     @Serial
@@ -13,6 +15,9 @@ public final class TransformComponent implements Component {
 
     public Bounds bounds;
 
+    private transient Bounds renderBounds;
+    private transient Bounds renderedBounds;
+
     public TransformComponent() {
        this(Vector.zero());
     }
@@ -32,4 +37,26 @@ public final class TransformComponent implements Component {
     public TransformComponent(final double x, final double y, double width, double height) {
         this(Bounds.atPosition(x, y, width, height));
     }
+
+    /**
+     * Returns the {@link Bounds} used for rendering. These are the {@link #bounds} or the {@link Bounds} specified
+     * via {@link #setRenderBounds(Bounds)} as long as the {@link #bounds} haven't changed since.
+     *
+     * @since 2.12.0
+     */
+    public Bounds renderBounds() {
+        return nonNull(renderBounds) && bounds == renderedBounds ? renderBounds : bounds;
+    }
+
+    /**
+     * Sets the {@link Bounds} used for rendering until the {@link #bounds} change, e.g. to render positions
+     * interpolated between two simulation steps. Use {@code null} to render the {@link #bounds} again.
+     *
+     * @see #renderBounds()
+     * @since 2.12.0
+     */
+    public void setRenderBounds(final Bounds renderBounds) {
+        this.renderBounds = renderBounds;
+        this.renderedBounds = bounds;
+    }
 }
@@ -0,0 +1,400 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.environment.Component;
+import io.github.srcimon.screwbox.core.environment.Entity;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import static io.github.srcimon.screwbox.core.environment.internal.ComponentSchema.TYPE_BOOLEAN;
+import static io.github.srcimon.screwbox.core.environment.internal.ComponentSchema.TYPE_BOUNDS;
+import static io.github.srcimon.screwbox.core.environment.internal.ComponentSchema.TYPE_BYTE;
+import static io.github.srcimon.screwbox.core.environment.internal.ComponentSchema.TYPE_CHAR;
+import static io.github.srcimon.screwbox.core.environment.internal.ComponentSchema.TYPE_DOUBLE;
+import static io.github.srcimon.screwbox.core.environment.internal.ComponentSchema.TYPE_FLOAT;
+import static io.github.srcimon.screwbox.core.environment.internal.ComponentSchema.TYPE_INT;
+import static io.github.srcimon.screwbox.core.environment.internal.ComponentSchema.TYPE_LONG;
+import static io.github.srcimon.screwbox.core.environment.internal.ComponentSchema.TYPE_OBJECT;
+import static io.github.srcimon.screwbox.core.environment.internal.ComponentSchema.TYPE_SHORT;
+import static io.github.srcimon.screwbox.core.environment.internal.ComponentSchema.TYPE_VECTOR;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class ColumnarSavegameCodec implements SavegameCodec {
+
+    public static final int MAGIC = 0x53425347;
+    public static final int VERSION = 2;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private record ArchetypeColumns(List<Class<?>> componentClasses, List<Entity> entities, List<Integer> positions) {
+    }
+
+    // replaces references to entities of the savegame, so they aren't restored as detached copies
+    private record EntityReference(int position, Integer id, String name) implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static final class EntityReferenceOutputStream extends ObjectOutputStream {
+
+        private final Map<Entity, Integer> positions = new IdentityHashMap<>();
+
+        private EntityReferenceOutputStream(final OutputStream outputStream, final List<Entity> entities) throws IOException {
+            super(outputStream);
+            for (int position = 0; position < entities.size(); position++) {
+                positions.put(entities.get(position), position);
+            }
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(final Object object) {
+            if (object instanceof Entity entity) {
+                final Integer position = positions.get(entity);
+                if (nonNull(position)) {
+                    return new EntityReference(position, entity.id().orElse(null), entity.name().orElse(null));
+                }
+            }
+            return object;
+        }
+    }
+
+    private static final class EntityReferenceInputStream extends ObjectInputStream {
+
+        private Entity[] entities;
+
+        private EntityReferenceInputStream(final InputStream inputStream) throws IOException {
+            super(inputStream);
+            enableResolveObject(true);
+        }
+
+        // entities may be referenced before their own archetype has been read
+        private Entity entityAt(final int position, final Integer id, final String name) {
+            if (isNull(entities[position])) {
+                entities[position] = new Entity(id, name);
+            }
+            return entities[position];
+        }
+
+        @Override
+        protected Object resolveObject(final Object object) {
+            return object instanceof EntityReference reference
+                    ? entityAt(reference.position(), reference.id(), reference.name())
+                    : object;
+        }
+    }
+
+    private final int compressionLevel;
+
+    public ColumnarSavegameCodec(final int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    public static boolean hasHeader(final byte[] header) {
+        return header.length >= 4 && ((header[0] & 0xFF) << 24 | (header[1] & 0xFF) << 16 | (header[2] & 0xFF) << 8 | header[3] & 0xFF) == MAGIC;
+    }
+
+    @Override
+    public int version() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] serialize(final List<Entity> entities) throws IOException {
+        final var outputStream = new ByteArrayOutputStream(BUFFER_SIZE);
+        final var output = new EntityReferenceOutputStream(outputStream, entities);
+        writeBody(entities, output);
+        output.flush();
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public void write(final byte[] serializedEntities, final OutputStream outputStream) throws IOException {
+        final var header = new DataOutputStream(outputStream);
+        header.writeInt(MAGIC);
+        header.writeShort(VERSION);
+        header.writeByte(compressionLevel);
+        header.flush();
+
+        final var deflater = new Deflater(compressionLevel);
+        try {
+            final var deflaterOutputStream = new DeflaterOutputStream(outputStream, deflater, BUFFER_SIZE);
+            deflaterOutputStream.write(serializedEntities);
+            deflaterOutputStream.finish();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public List<Entity> deserialize(final byte[] serializedEntities) throws IOException, ClassNotFoundException {
+        return readBody(new EntityReferenceInputStream(new ByteArrayInputStream(serializedEntities)));
+    }
+
+    @Override
+    public List<Entity> decode(final InputStream inputStream) throws IOException, ClassNotFoundException {
+        final var header = new DataInputStream(inputStream);
+        if (header.readInt() != MAGIC) {
+            throw new IOException("not a binary savegame");
+        }
+        final int version = header.readShort();
+        if (version > VERSION) {
+            throw new IOException("unsupported savegame version: " + version);
+        }
+        header.readByte(); // compression level is only informational
+
+        final var input = new EntityReferenceInputStream(new BufferedInputStream(new InflaterInputStream(inputStream), BUFFER_SIZE));
+        return readBody(input);
+    }
+
+    private void writeBody(final List<Entity> entities, final ObjectOutputStream output) throws IOException {
+        final Map<Set<Class<? extends Component>>, ArchetypeColumns> archetypes = new LinkedHashMap<>();
+        final Map<Class<?>, Integer> classIndexes = new LinkedHashMap<>();
+        for (int position = 0; position < entities.size(); position++) {
+            final Entity entity = entities.get(position);
+            final var archetype = archetypes.computeIfAbsent(new HashSet<>(entity.getComponentClasses()),
+                    key -> new ArchetypeColumns(new ArrayList<>(key), new ArrayList<>(), new ArrayList<>()));
+            archetype.entities.add(entity);
+            archetype.positions.add(position);
+        }
+        for (final var archetype : archetypes.values()) {
+            for (final var componentClass : archetype.componentClasses) {
+                classIndexes.putIfAbsent(componentClass, classIndexes.size());
+            }
+        }
+
+        output.writeInt(entities.size());
+        output.writeInt(classIndexes.size());
+        for (final var componentClass : classIndexes.keySet()) {
+            final ComponentSchema schema = ComponentSchema.of(componentClass);
+            output.writeUTF(componentClass.getName());
+            output.writeBoolean(schema.isColumnar());
+            output.writeInt(schema.fieldCount());
+            for (int i = 0; i < schema.fieldCount(); i++) {
+                output.writeUTF(schema.field(i).getName());
+                output.writeByte(schema.fieldType(i));
+            }
+        }
+
+        output.writeInt(archetypes.size());
+        for (final var archetype : archetypes.values()) {
+            output.writeInt(archetype.componentClasses.size());
+            for (final var componentClass : archetype.componentClasses) {
+                output.writeInt(classIndexes.get(componentClass));
+            }
+            output.writeInt(archetype.entities.size());
+            for (int i = 0; i < archetype.entities.size(); i++) {
+                final Entity entity = archetype.entities.get(i);
+                output.writeInt(archetype.positions.get(i));
+                output.writeObject(entity.id().orElse(null));
+                output.writeObject(entity.name().orElse(null));
+            }
+            for (final var componentClass : archetype.componentClasses) {
+                writeColumns(archetype.entities, componentClass, output);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeColumns(final List<Entity> entities, final Class<?> componentClass, final ObjectOutputStream output) throws IOException {
+        final var type = (Class<? extends Component>) componentClass;
+        final ComponentSchema schema = ComponentSchema.of(componentClass);
+        if (!schema.isColumnar()) {
+            for (final var entity : entities) {
+                output.writeObject(entity.get(type));
+            }
+            return;
+        }
+        for (int i = 0; i < schema.fieldCount(); i++) {
+            final Field field = schema.field(i);
+            final byte fieldType = schema.fieldType(i);
+            for (final var entity : entities) {
+                writeValue(field, fieldType, entity.get(type), output);
+            }
+        }
+    }
+
+    private List<Entity> readBody(final EntityReferenceInputStream input) throws IOException, ClassNotFoundException {
+        final Entity[] entities = new Entity[input.readInt()];
+        input.entities = entities;
+        final int classCount = input.readInt();
+        final ComponentSchema[] schemas = new ComponentSchema[classCount];
+        final boolean[] columnar = new boolean[classCount];
+        final byte[][] fieldTypes = new byte[classCount][];
+        final Field[][] targetFields = new Field[classCount][];
+        for (int classIndex = 0; classIndex < classCount; classIndex++) {
+            final Class<?> componentClass = findClass(input.readUTF());
+            schemas[classIndex] = isNull(componentClass) ? null : ComponentSchema.of(componentClass);
+            columnar[classIndex] = input.readBoolean();
+            final int fieldCount = input.readInt();
+            fieldTypes[classIndex] = new byte[fieldCount];
+            targetFields[classIndex] = new Field[fieldCount];
+            for (int i = 0; i < fieldCount; i++) {
+                final String fieldName = input.readUTF();
+                fieldTypes[classIndex][i] = input.readByte();
+                if (nonNull(schemas[classIndex]) && schemas[classIndex].isColumnar()) {
+                    targetFields[classIndex][i] = schemas[classIndex].field(fieldName, fieldTypes[classIndex][i]);
+                }
+            }
+        }
+
+        final int archetypeCount = input.readInt();
+        for (int archetypeIndex = 0; archetypeIndex < archetypeCount; archetypeIndex++) {
+            final int[] classIndexes = new int[input.readInt()];
+            for (int i = 0; i < classIndexes.length; i++) {
+                classIndexes[i] = input.readInt();
+            }
+            final Entity[] archetypeEntities = new Entity[input.readInt()];
+            for (int i = 0; i < archetypeEntities.length; i++) {
+                final int position = input.readInt();
+                archetypeEntities[i] = input.entityAt(position, (Integer) input.readObject(), (String) input.readObject());
+            }
+            for (final int classIndex : classIndexes) {
+                final var schema = schemas[classIndex];
+                final Object[] components = columnar[classIndex]
+                        ? readColumns(archetypeEntities.length, schema, fieldTypes[classIndex], targetFields[classIndex], input)
+                        : readSerialized(archetypeEntities.length, input);
+                for (int i = 0; i < archetypeEntities.length; i++) {
+                    if (components[i] instanceof Component component) {
+                        archetypeEntities[i].add(component);
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(Arrays.asList(entities));
+    }
+
+    private Object[] readColumns(final int count, final ComponentSchema schema, final byte[] fieldTypes, final Field[] targetFields, final ObjectInputStream input) throws IOException {
+        final boolean restorable = nonNull(schema) && schema.isColumnar();
+        final Object[] components = new Object[count];
+        if (restorable) {
+            for (int i = 0; i < count; i++) {
+                components[i] = schema.newInstance();
+            }
+        }
+        for (int fieldIndex = 0; fieldIndex < fieldTypes.length; fieldIndex++) {
+            final Field target = restorable ? targetFields[fieldIndex] : null;
+            for (int i = 0; i < count; i++) {
+                readValue(target, fieldTypes[fieldIndex], components[i], input);
+            }
+        }
+        return components;
+    }
+
+    private Object[] readSerialized(final int count, final ObjectInputStream input) throws IOException {
+        final Object[] components = new Object[count];
+        for (int i = 0; i < count; i++) {
+            components[i] = readObjectOrNull(input);
+        }
+        return components;
+    }
+
+    private static void writeValue(final Field field, final byte type, final Object component, final ObjectOutputStream output) throws IOException {
+        try {
+            switch (type) {
+                case TYPE_BOOLEAN -> output.writeBoolean(field.getBoolean(component));
+                case TYPE_BYTE -> output.writeByte(field.getByte(component));
+                case TYPE_SHORT -> output.writeShort(field.getShort(component));
+                case TYPE_CHAR -> output.writeChar(field.getChar(component));
+                case TYPE_INT -> output.writeInt(field.getInt(component));
+                case TYPE_LONG -> output.writeLong(field.getLong(component));
+                case TYPE_FLOAT -> output.writeFloat(field.getFloat(component));
+                case TYPE_DOUBLE -> output.writeDouble(field.getDouble(component));
+                case TYPE_VECTOR -> {
+                    final var vector = (Vector) field.get(component);
+                    output.writeBoolean(nonNull(vector));
+                    if (nonNull(vector)) {
+                        output.writeDouble(vector.x());
+                        output.writeDouble(vector.y());
+                    }
+                }
+                case TYPE_BOUNDS -> {
+                    final var bounds = (Bounds) field.get(component);
+                    output.writeBoolean(nonNull(bounds));
+                    if (nonNull(bounds)) {
+                        output.writeDouble(bounds.position().x());
+                        output.writeDouble(bounds.position().y());
+                        output.writeDouble(bounds.width());
+                        output.writeDouble(bounds.height());
+                    }
+                }
+                default -> output.writeObject(field.get(component));
+            }
+        } catch (final IllegalAccessException e) {
+            throw new IOException("could not read field: " + field, e);
+        }
+    }
+
+    private static void readValue(final Field target, final byte type, final Object component, final ObjectInputStream input) throws IOException {
+        final Object value = switch (type) {
+            case TYPE_BOOLEAN -> input.readBoolean();
+            case TYPE_BYTE -> input.readByte();
+            case TYPE_SHORT -> input.readShort();
+            case TYPE_CHAR -> input.readChar();
+            case TYPE_INT -> input.readInt();
+            case TYPE_LONG -> input.readLong();
+            case TYPE_FLOAT -> input.readFloat();
+            case TYPE_DOUBLE -> input.readDouble();
+            case TYPE_VECTOR -> input.readBoolean() ? Vector.of(input.readDouble(), input.readDouble()) : null;
+            case TYPE_BOUNDS -> input.readBoolean()
+                    ? Bounds.atPosition(input.readDouble(), input.readDouble(), input.readDouble(), input.readDouble())
+                    : null;
+            case TYPE_OBJECT -> readObjectOrNull(input);
+            default -> throw new IOException("unknown field type in savegame: " + (char) type);
+        };
+        if (isNull(target) || isNull(component)) {
+            return;
+        }
+        if (isNull(value) ? target.getType().isPrimitive() : !ComponentSchema.wrap(target.getType()).isInstance(value)) {
+            return;
+        }
+        try {
+            target.set(component, value);
+        } catch (final IllegalAccessException e) {
+            throw new IOException("could not restore field: " + target, e);
+        }
+    }
+
+    private static Object readObjectOrNull(final ObjectInputStream input) throws IOException {
+        try {
+            return input.readObject();
+        } catch (final ClassNotFoundException e) {
+            // class has been removed since savegame was created, value is skipped
+            return null;
+        }
+    }
+
+    private static Class<?> findClass(final String name) {
+        try {
+            return Class.forName(name);
+        } catch (final ClassNotFoundException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class ComponentMask {
+
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+    private static final ClassValue<Integer> IDS = new ClassValue<>() {
+
+        @Override
+        protected Integer computeValue(final Class<?> type) {
+            return NEXT_ID.getAndIncrement();
+        }
+    };
+
+    private long[] words;
+
+    public ComponentMask() {
+        this.words = new long[1];
+    }
+
+    public ComponentMask(final Collection<Class<? extends Component>> componentClasses) {
+        this();
+        for (final var componentClass : componentClasses) {
+            set(componentClass);
+        }
+    }
+
+    public static int idOf(final Class<? extends Component> componentClass) {
+        return IDS.get(componentClass);
+    }
+
+    public void set(final Class<? extends Component> componentClass) {
+        final int id = idOf(componentClass);
+        final int wordIndex = id >> 6;
+        if (wordIndex >= words.length) {
+            words = Arrays.copyOf(words, wordIndex + 1);
+        }
+        words[wordIndex] |= 1L << id;
+    }
+
+    public void clear(final Class<? extends Component> componentClass) {
+        final int id = idOf(componentClass);
+        final int wordIndex = id >> 6;
+        if (wordIndex < words.length) {
+            words[wordIndex] &= ~(1L << id);
+        }
+    }
+
+    public boolean contains(final Class<? extends Component> componentClass) {
+        final int id = idOf(componentClass);
+        final int wordIndex = id >> 6;
+        return wordIndex < words.length && (words[wordIndex] & (1L << id)) != 0;
+    }
+
+    public boolean containsAll(final ComponentMask other) {
+        final long[] otherWords = other.words;
+        for (int i = 0; i < otherWords.length; i++) {
+            final long word = i < words.length ? words[i] : 0;
+            if ((word & otherWords[i]) != otherWords[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean intersects(final ComponentMask other) {
+        final int length = Math.min(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ComponentMask other)) {
+            return false;
+        }
+        final int length = Math.max(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            final long word = i < words.length ? words[i] : 0;
+            final long otherWord = i < other.words.length ? other.words[i] : 0;
+            if (word != otherWord) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        long hash = 1234;
+        for (int i = words.length; --i >= 0; ) {
+            hash ^= words[i] * (i + 1);
+        }
+        return (int) ((hash >> 32) ^ hash);
+    }
+}
@@ -0,0 +1,9 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.Entity;
+
+@FunctionalInterface
+public interface ComponentReplacementListener {
+
+    void componentReplaced(Entity entity);
+}
@@ -0,0 +1,179 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Duration;
+import io.github.srcimon.screwbox.core.Percent;
+import io.github.srcimon.screwbox.core.Rotation;
+import io.github.srcimon.screwbox.core.Time;
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.environment.Component;
+import io.github.srcimon.screwbox.core.graphics.Color;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public final class ComponentSchema {
+
+    static final byte TYPE_BOOLEAN = 'Z';
+    static final byte TYPE_BYTE = 'B';
+    static final byte TYPE_SHORT = 'S';
+    static final byte TYPE_CHAR = 'C';
+    static final byte TYPE_INT = 'I';
+    static final byte TYPE_LONG = 'J';
+    static final byte TYPE_FLOAT = 'F';
+    static final byte TYPE_DOUBLE = 'D';
+    static final byte TYPE_VECTOR = 'V';
+    static final byte TYPE_BOUNDS = 'R';
+    static final byte TYPE_OBJECT = 'L';
+
+    private static final Map<Class<?>, Byte> TYPES = Map.of(
+            boolean.class, TYPE_BOOLEAN, byte.class, TYPE_BYTE, short.class, TYPE_SHORT, char.class, TYPE_CHAR,
+            int.class, TYPE_INT, long.class, TYPE_LONG, float.class, TYPE_FLOAT, double.class, TYPE_DOUBLE,
+            Vector.class, TYPE_VECTOR, Bounds.class, TYPE_BOUNDS);
+
+    private static final Map<Class<?>, Class<?>> WRAPPERS = Map.of(
+            boolean.class, Boolean.class, byte.class, Byte.class, short.class, Short.class, char.class, Character.class,
+            int.class, Integer.class, long.class, Long.class, float.class, Float.class, double.class, Double.class);
+
+    private static final Set<Class<?>> VALUE_TYPES = Set.of(
+            String.class, Boolean.class, Byte.class, Short.class, Character.class, Integer.class, Long.class, Float.class,
+            Double.class, Vector.class, Bounds.class, Duration.class, Time.class, Percent.class, Rotation.class, Color.class);
+
+    private static final ClassValue<ComponentSchema> SCHEMAS = new ClassValue<>() {
+
+        @Override
+        protected ComponentSchema computeValue(final Class<?> type) {
+            return new ComponentSchema(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final Constructor<?> constructor;
+    private final Field[] fields;
+    private final byte[] types;
+
+    public static ComponentSchema of(final Class<?> type) {
+        return SCHEMAS.get(type);
+    }
+
+    private ComponentSchema(final Class<?> type) {
+        this.type = type;
+        this.constructor = columnarConstructor(type);
+        final List<Field> columns = new ArrayList<>();
+        if (nonNull(constructor)) {
+            for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+                for (final var field : current.getDeclaredFields()) {
+                    final int modifiers = field.getModifiers();
+                    if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) {
+                        field.setAccessible(true);
+                        columns.add(field);
+                    }
+                }
+            }
+        }
+        this.fields = columns.toArray(Field[]::new);
+        this.types = new byte[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            types[i] = TYPES.getOrDefault(fields[i].getType(), TYPE_OBJECT);
+        }
+    }
+
+    public boolean isColumnar() {
+        return nonNull(constructor);
+    }
+
+    public int fieldCount() {
+        return fields.length;
+    }
+
+    public Field field(final int index) {
+        return fields[index];
+    }
+
+    public byte fieldType(final int index) {
+        return types[index];
+    }
+
+    public Field field(final String name, final byte fieldType) {
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].getName().equals(name) && types[i] == fieldType) {
+                return fields[i];
+            }
+        }
+        return null;
+    }
+
+    public Object newInstance() throws IOException {
+        try {
+            return constructor.newInstance();
+        } catch (final ReflectiveOperationException e) {
+            throw new IOException("could not create component: " + type.getName(), e);
+        }
+    }
+
+    // state can be compared using Objects.deepEquals() to detect changes, mutable values are serialized to detect nested changes
+    public Object stateOf(final Component component, final Function<Object, byte[]> serializer) {
+        if (type.isRecord()) {
+            return component;
+        }
+        if (!isColumnar()) {
+            return serializer.apply(component);
+        }
+        try {
+            final Object[] state = new Object[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                final Object value = fields[i].get(component);
+                state[i] = isValue(value) ? value : serializer.apply(value);
+            }
+            return state;
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException("could not read component: " + type.getName(), e);
+        }
+    }
+
+    static Class<?> wrap(final Class<?> type) {
+        return type.isPrimitive() ? WRAPPERS.get(type) : type;
+    }
+
+    private static boolean isValue(final Object value) {
+        return isNull(value) || VALUE_TYPES.contains(value.getClass()) || value.getClass().isEnum() || value.getClass().isRecord();
+    }
+
+    private static Constructor<?> columnarConstructor(final Class<?> type) {
+        if (type.isRecord() || type.isEnum() || type.isArray() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+            if (hasCustomSerialization(current)) {
+                return null;
+            }
+        }
+        try {
+            final Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (final NoSuchMethodException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean hasCustomSerialization(final Class<?> type) {
+        for (final var method : type.getDeclaredMethods()) {
+            final String name = method.getName();
+            if (name.equals("writeObject") || name.equals("readObject") || name.equals("writeReplace") || name.equals("readResolve")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
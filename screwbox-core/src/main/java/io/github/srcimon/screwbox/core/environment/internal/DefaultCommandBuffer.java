@@ -0,0 +1,102 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.CommandBuffer;
+import io.github.srcimon.screwbox.core.environment.Component;
+import io.github.srcimon.screwbox.core.environment.Entity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+public class DefaultCommandBuffer implements CommandBuffer {
+
+    private sealed interface Command {
+    }
+
+    private record AddEntity(Entity entity) implements Command {
+    }
+
+    private record RemoveEntity(Entity entity) implements Command {
+    }
+
+    private record AddComponent(Entity entity, Component component) implements Command {
+    }
+
+    private record RemoveComponent(Entity entity, Class<? extends Component> componentClass) implements Command {
+    }
+
+    private final Queue<Command> commands = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public CommandBuffer addEntity(final Entity entity) {
+        requireNonNull(entity, "entity must not be null");
+        commands.add(new AddEntity(entity));
+        return this;
+    }
+
+    @Override
+    public CommandBuffer addEntity(final Component... components) {
+        return addEntity(new Entity().add(components));
+    }
+
+    @Override
+    public CommandBuffer remove(final Entity entity) {
+        requireNonNull(entity, "entity must not be null");
+        commands.add(new RemoveEntity(entity));
+        return this;
+    }
+
+    @Override
+    public CommandBuffer addComponent(final Entity entity, final Component component) {
+        requireNonNull(entity, "entity must not be null");
+        requireNonNull(component, "component must not be null");
+        commands.add(new AddComponent(entity, component));
+        return this;
+    }
+
+    @Override
+    public CommandBuffer removeComponent(final Entity entity, final Class<? extends Component> componentClass) {
+        requireNonNull(entity, "entity must not be null");
+        requireNonNull(componentClass, "component class must not be null");
+        commands.add(new RemoveComponent(entity, componentClass));
+        return this;
+    }
+
+    @Override
+    public int pendingCount() {
+        return commands.size();
+    }
+
+    public void playback(final EntityManager entityManager) {
+        if (commands.isEmpty()) {
+            return;
+        }
+        final Map<Entity, Boolean> entityAdditions = new LinkedHashMap<>();
+        entityManager.pickUpChanges();
+        entityManager.delayChanges();
+        Command command;
+        while (nonNull(command = commands.poll())) {
+            switch (command) {
+                case AddEntity addEntity -> entityAdditions.put(addEntity.entity(), true);
+                case RemoveEntity removeEntity -> entityAdditions.put(removeEntity.entity(), false);
+                case AddComponent addComponent -> addComponent.entity().add(addComponent.component());
+                case RemoveComponent removeComponent -> removeComponent.entity().remove(removeComponent.componentClass());
+            }
+        }
+        // only the last recorded command per entity counts, so adding and removing a new entity cancel each other out
+        for (final var entityAddition : entityAdditions.entrySet()) {
+            final Entity entity = entityAddition.getKey();
+            final boolean isManaged = entityManager.isManaged(entity);
+            if (entityAddition.getValue() && !isManaged) {
+                entityManager.addEntity(entity);
+            } else if (!entityAddition.getValue() && isManaged) {
+                entityManager.removeEntity(entity);
+            }
+        }
+        entityManager.pickUpChanges();
+    }
+}
@@ -2,16 +2,28 @@ package io.github.srcimon.screwbox.core.environment.internal;
 
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.CommandBuffer;
 import io.github.srcimon.screwbox.core.environment.Component;
 import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.EntityChangeListener;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.Environment;
 import io.github.srcimon.screwbox.core.environment.Order;
+import io.github.srcimon.screwbox.core.environment.PoolableComponent;
+import io.github.srcimon.screwbox.core.environment.Query;
+import io.github.srcimon.screwbox.core.environment.SavegameFormat;
+import io.github.srcimon.screwbox.core.environment.SavegameInfo;
+import io.github.srcimon.screwbox.core.environment.SavegameTask;
 import io.github.srcimon.screwbox.core.environment.SourceImport;
+import io.github.srcimon.screwbox.core.environment.SystemMetrics;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
@@ -19,11 +31,22 @@ import static java.util.Objects.requireNonNull;
 public class DefaultEnvironment implements Environment {
 
     private final EntityManager entityManager = new EntityManager();
-    private final SavegameManager savegameManager = new SavegameManager();
+    private final SavegameManager savegameManager;
     private final SystemManager systemManager;
+    private boolean isUpdating = false;
 
     public DefaultEnvironment(final Engine engine) {
         this.systemManager = new SystemManager(engine, entityManager);
+        this.savegameManager = new SavegameManager();
+    }
+
+    public DefaultEnvironment(final Engine engine, final Executor executor) {
+        this(engine, executor, new SavegameCatalog());
+    }
+
+    public DefaultEnvironment(final Engine engine, final Executor executor, final SavegameCatalog savegameCatalog) {
+        this.systemManager = new SystemManager(engine, entityManager, executor);
+        this.savegameManager = new SavegameManager(executor, savegameCatalog);
     }
 
     @Override
@@ -118,7 +141,13 @@ public class DefaultEnvironment implements Environment {
     }
 
     public void update() {
-        systemManager.updateAllSystems();
+        isUpdating = true;
+        try {
+            systemManager.updateAllSystems();
+        } finally {
+            isUpdating = false;
+        }
+        savegameManager.startPendingSavegames(entities());
     }
 
     @Override
@@ -126,6 +155,67 @@ public class DefaultEnvironment implements Environment {
         return entityManager.entitiesMatching(archetype);
     }
 
+    @Override
+    public Query query(final Archetype archetype) {
+        return entityManager.query(archetype);
+    }
+
+    @Override
+    public Environment removeAll(final Archetype archetype) {
+        entityManager.removeAll(archetype);
+        return this;
+    }
+
+    @Override
+    public SystemMetrics systemMetrics() {
+        return systemManager.metrics();
+    }
+
+    @Override
+    public Environment enableSystemMetrics() {
+        systemManager.enableMetrics();
+        return this;
+    }
+
+    @Override
+    public Environment disableSystemMetrics() {
+        systemManager.disableMetrics();
+        return this;
+    }
+
+    @Override
+    public boolean isSystemMetricsEnabled() {
+        return systemManager.isMetricsEnabled();
+    }
+
+    @Override
+    public CommandBuffer commandBuffer() {
+        return entityManager.commandBuffer();
+    }
+
+    @Override
+    public Environment registerChangeListener(final EntityChangeListener listener) {
+        requireNonNull(listener, "listener must not be null");
+        entityManager.registerChangeListener(listener);
+        return this;
+    }
+
+    @Override
+    public Environment unregisterChangeListener(final EntityChangeListener listener) {
+        entityManager.unregisterChangeListener(listener);
+        return this;
+    }
+
+    @Override
+    public Entity obtainPooledEntity() {
+        return entityManager.entityPool().obtainEntity();
+    }
+
+    @Override
+    public <T extends PoolableComponent> T obtainPooledComponent(final Class<T> componentClass, final Supplier<T> factory) {
+        return entityManager.entityPool().obtainComponent(componentClass, factory);
+    }
+
     @Override
     public Environment remove(final Entity entity) {
         entityManager.removeEntity(entity);
@@ -150,6 +240,11 @@ public class DefaultEnvironment implements Environment {
         return entityManager.entitiesMatching(archetype).size();
     }
 
+    @Override
+    public OptionalLong cachedEntityCount(final Archetype archetype) {
+        return entityManager.cachedCount(archetype);
+    }
+
     @Override
     public boolean contains(final Archetype archetype) {
         return !entityManager.entitiesMatching(archetype).isEmpty();
@@ -165,10 +260,7 @@ public class DefaultEnvironment implements Environment {
 
     @Override
     public Environment addEntities(final Entity... entities) {
-        for (final var entity : entities) {
-            addEntity(entity);
-        }
-        return this;
+        return addEntities(Arrays.asList(entities));
     }
 
     @Override
@@ -225,9 +317,11 @@ public class DefaultEnvironment implements Environment {
 
     @Override
     public Environment addEntities(final List<Entity> entities) {
+        requireNonNull(entities, "entities must not be null");
         for (final var entity : entities) {
-            addEntity(entity);
+            requireNonNull(entity, "entity must not be null");
         }
+        entityManager.addEntities(entities);
         return this;
     }
 
@@ -266,6 +360,38 @@ public class DefaultEnvironment implements Environment {
         return this;
     }
 
+    @Override
+    public Environment saveToFile(final String name, final SavegameFormat format) {
+        savegameManager.createSavegame(entities(), name, format);
+        return this;
+    }
+
+    @Override
+    public SavegameTask saveToFileAsync(final String name) {
+        return saveToFileAsync(name, SavegameFormat.BINARY);
+    }
+
+    @Override
+    public SavegameTask saveToFileAsync(final String name, final SavegameFormat format) {
+        final SavegameTask task = savegameManager.scheduleSavegame(name, format);
+        if (!isUpdating) {
+            savegameManager.startPendingSavegames(entities());
+        }
+        return task;
+    }
+
+    @Override
+    public Environment saveDeltaToFile(final String name) {
+        savegameManager.createDeltaSavegame(entities(), name);
+        return this;
+    }
+
+    @Override
+    public Environment compactSavegameFile(final String name) {
+        savegameManager.compactSavegame(name);
+        return this;
+    }
+
     @Override
     public Environment loadFromFile(final String name) {
         clearEntities();
@@ -285,6 +411,17 @@ public class DefaultEnvironment implements Environment {
         return savegameManager.savegameExists(name);
     }
 
+    @Override
+    public List<SavegameInfo> savegames() {
+        return savegameManager.savegames();
+    }
+
+    @Override
+    public Environment setSavegameThumbnail(final String name, final String thumbnail) {
+        savegameManager.setThumbnail(name, thumbnail);
+        return this;
+    }
+
     @Override
     public Environment enablePhysics() {
         enableFeature(Feature.PHYSICS);
@@ -335,6 +472,13 @@ public class DefaultEnvironment implements Environment {
         return this;
     }
 
+    @Override
+    public Environment combineStaticEntities() {
+        StaticEntityCombiner.combineColliders(this, true);
+        StaticEntityCombiner.combineShadowCasters(this, true);
+        return this;
+    }
+
     private void enableFeature(final Feature feature) {
         for (final var system : feature.systems) {
             addOrReplaceSystem(system);
@@ -0,0 +1,40 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.SavegameTask;
+
+import java.util.Optional;
+
+public class DefaultSavegameTask implements SavegameTask {
+
+    private final String name;
+    private volatile boolean isDone = false;
+    private volatile Exception failure;
+
+    public DefaultSavegameTask(final String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public boolean isDone() {
+        return isDone;
+    }
+
+    @Override
+    public Optional<Exception> failure() {
+        return Optional.ofNullable(failure);
+    }
+
+    void complete() {
+        isDone = true;
+    }
+
+    void fail(final Exception exception) {
+        failure = exception;
+        isDone = true;
+    }
+}
@@ -0,0 +1,231 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.Component;
+import io.github.srcimon.screwbox.core.environment.Entity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class DeltaTracker {
+
+    // entities are stored as their component states, changes are detected by comparing the current states
+    private static final class SavedEntity {
+        private String name;
+        private final Map<Class<? extends Component>, Object> components = new HashMap<>();
+    }
+
+    // references to entities are not part of the referencing component's state
+    private record EntityMarker(int index, Integer id) implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+    }
+
+    private record PendingChanges(List<Entity> removedEntities, List<Entity> addedEntities,
+                                  List<SavedEntity> addedStates, Map<Integer, SavedEntity> changedStates) {
+    }
+
+    private static final class StateOutputStream extends ObjectOutputStream {
+
+        private Map<Entity, Integer> indexes;
+
+        private StateOutputStream(final OutputStream outputStream) throws IOException {
+            super(outputStream);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(final Object object) {
+            if (object instanceof Entity entity) {
+                final Integer index = indexes.get(entity);
+                return new EntityMarker(isNull(index) ? -1 : index, entity.id().orElse(null));
+            }
+            return object;
+        }
+    }
+
+    private final Map<Entity, Integer> indexes = new IdentityHashMap<>();
+    private final List<SavedEntity> state = new ArrayList<>();
+    private final List<Object> componentStates = new ArrayList<>();
+    private final ByteArrayOutputStream stateBuffer = new ByteArrayOutputStream();
+    private final StateOutputStream stateOutputStream;
+    private PendingChanges pendingChanges;
+    private int nextDeltaNumber;
+
+    public DeltaTracker(final List<Entity> entities, final int nextDeltaNumber) {
+        this(entities, entities, nextDeltaNumber);
+    }
+
+    // saved entities are copies of the entities in the same order
+    public DeltaTracker(final List<Entity> entities, final List<Entity> savedEntities, final int nextDeltaNumber) {
+        if (entities.size() != savedEntities.size()) {
+            throw new IllegalArgumentException("saved entities don't match entities");
+        }
+        this.nextDeltaNumber = nextDeltaNumber;
+        try {
+            stateOutputStream = new StateOutputStream(stateBuffer);
+        } catch (final IOException e) {
+            throw new IllegalStateException("could not create delta tracker", e);
+        }
+        final Map<Entity, Integer> savedIndexes = new IdentityHashMap<>();
+        for (final var entity : entities) {
+            savedIndexes.put(savedEntities.get(indexes.size()), indexes.size());
+            indexes.put(entity, indexes.size());
+        }
+        stateOutputStream.indexes = savedIndexes;
+        for (final var savedEntity : savedEntities) {
+            state.add(stateOf(savedEntity));
+        }
+        stateOutputStream.indexes = indexes;
+    }
+
+    public int nextDeltaNumber() {
+        return nextDeltaNumber;
+    }
+
+    public int lastDeltaNumber() {
+        return nextDeltaNumber - 1;
+    }
+
+    // returned delta references the live entities and components and must be encoded right away
+    // tracked state is only updated by committing the delta after it was written
+    public SavegameDelta createDelta(final List<Entity> entities) {
+        final Set<Entity> current = Collections.newSetFromMap(new IdentityHashMap<>());
+        current.addAll(entities);
+
+        final List<Entity> removedEntities = new ArrayList<>();
+        final List<Integer> removedIndexes = new ArrayList<>();
+        for (final var entry : indexes.entrySet()) {
+            if (!current.contains(entry.getKey())) {
+                removedEntities.add(entry.getKey());
+                removedIndexes.add(entry.getValue());
+            }
+        }
+        Collections.sort(removedIndexes);
+
+        final List<Entity> addedEntities = new ArrayList<>();
+        final List<SavedEntity> addedStates = new ArrayList<>();
+        final Map<Integer, SavedEntity> changedStates = new HashMap<>();
+        final List<SavegameDelta.EntityChange> changedEntities = new ArrayList<>();
+        for (final var entity : entities) {
+            final Integer index = indexes.get(entity);
+            if (isNull(index)) {
+                addedEntities.add(entity);
+                addedStates.add(stateOf(entity));
+            } else {
+                final var change = changeOf(index, entity, changedStates);
+                if (nonNull(change)) {
+                    changedEntities.add(change);
+                }
+            }
+        }
+        pendingChanges = new PendingChanges(removedEntities, addedEntities, addedStates, changedStates);
+        return new SavegameDelta(removedIndexes, changedEntities, addedEntities);
+    }
+
+    public void commitDelta() {
+        if (isNull(pendingChanges)) {
+            throw new IllegalStateException("there is no delta to commit");
+        }
+        for (final var entity : pendingChanges.removedEntities) {
+            state.set(indexes.remove(entity), null);
+        }
+        for (final var entry : pendingChanges.changedStates.entrySet()) {
+            state.set(entry.getKey(), entry.getValue());
+        }
+        for (int i = 0; i < pendingChanges.addedEntities.size(); i++) {
+            indexes.put(pendingChanges.addedEntities.get(i), state.size());
+            state.add(pendingChanges.addedStates.get(i));
+        }
+        pendingChanges = null;
+        nextDeltaNumber++;
+    }
+
+    // indexes must match the savegame after removed entities were dropped
+    public void compact() {
+        final Entity[] liveEntities = new Entity[state.size()];
+        for (final var entry : indexes.entrySet()) {
+            liveEntities[entry.getValue()] = entry.getKey();
+        }
+        state.removeIf(Objects::isNull);
+        indexes.clear();
+        for (final var liveEntity : liveEntities) {
+            if (nonNull(liveEntity)) {
+                indexes.put(liveEntity, indexes.size());
+            }
+        }
+        pendingChanges = null;
+    }
+
+    private SavegameDelta.EntityChange changeOf(final int index, final Entity entity, final Map<Integer, SavedEntity> changedStates) {
+        final SavedEntity saved = state.get(index);
+        final List<Class<? extends Component>> removedComponents = new ArrayList<>();
+        for (final var componentClass : saved.components.keySet()) {
+            if (!entity.hasComponent(componentClass)) {
+                removedComponents.add(componentClass);
+            }
+        }
+        final List<Component> components = new ArrayList<>();
+        componentStates.clear();
+        for (final var component : entity.getAll()) {
+            final Object componentState = stateOf(component);
+            componentStates.add(componentState);
+            if (!Objects.deepEquals(componentState, saved.components.get(component.getClass()))) {
+                components.add(component);
+            }
+        }
+        final String name = entity.name().orElse(null);
+        final boolean isRenamed = !Objects.equals(saved.name, name);
+        if (components.isEmpty() && removedComponents.isEmpty() && !isRenamed) {
+            return null;
+        }
+        final var updated = new SavedEntity();
+        updated.name = name;
+        int componentIndex = 0;
+        for (final var component : entity.getAll()) {
+            updated.components.put(component.getClass(), componentStates.get(componentIndex++));
+        }
+        changedStates.put(index, updated);
+        return new SavegameDelta.EntityChange(index, components, removedComponents, isRenamed, name);
+    }
+
+    private SavedEntity stateOf(final Entity entity) {
+        final var saved = new SavedEntity();
+        saved.name = entity.name().orElse(null);
+        for (final var component : entity.getAll()) {
+            saved.components.put(component.getClass(), stateOf(component));
+        }
+        return saved;
+    }
+
+    private Object stateOf(final Component component) {
+        return ComponentSchema.of(component.getClass()).stateOf(component, this::serialize);
+    }
+
+    private byte[] serialize(final Object value) {
+        try {
+            stateBuffer.reset();
+            stateOutputStream.reset();
+            stateOutputStream.writeObject(value);
+            stateOutputStream.flush();
+            return stateBuffer.toByteArray();
+        } catch (final IOException e) {
+            throw new IllegalStateException("could not serialize component state: " + value.getClass().getName(), e);
+        }
+    }
+}
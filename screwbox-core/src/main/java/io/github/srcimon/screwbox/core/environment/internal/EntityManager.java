@@ -1,77 +1,171 @@
 package io.github.srcimon.screwbox.core.environment.internal;
 
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.Component;
 import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.EntityChangeListener;
+import io.github.srcimon.screwbox.core.environment.EntityChangeSet;
 import io.github.srcimon.screwbox.core.environment.EntityEvent;
 import io.github.srcimon.screwbox.core.environment.EntityListener;
+import io.github.srcimon.screwbox.core.environment.Query;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
-public class EntityManager implements EntityListener {
+public class EntityManager implements EntityListener, ComponentReplacementListener {
 
     private final List<Entity> entities = new ArrayList<>();
     private final Map<Integer, Entity> entitiesById = new HashMap<>();
-    private final Map<Archetype, List<Entity>> archetypeCache = new HashMap<>();
-    private final List<Entity> pendingNewEntites = new ArrayList<>();
-    private final List<Entity> pendingEntityDeletions = new ArrayList<>();
-    private final List<Entity> pendingEntityCachesToRefresh = new ArrayList<>();
+    private final Map<Archetype, CachedArchetype> archetypeCache = new ConcurrentHashMap<>();
+    private final List<Entity> pendingNewEntites = Collections.synchronizedList(new ArrayList<>());
+    private final List<Entity> pendingEntityDeletions = Collections.synchronizedList(new ArrayList<>());
+    private final Set<Entity> pendingEntityCachesToRefresh = Collections.synchronizedSet(new LinkedHashSet<>());
+    private final DefaultCommandBuffer commandBuffer = new DefaultCommandBuffer();
+    private final EntityPool entityPool = new EntityPool();
+    private final List<EntityChangeListener> changeListeners = new ArrayList<>();
+    private final Set<Entity> addedEntities = new LinkedHashSet<>();
+    private final Set<Entity> removedEntities = new LinkedHashSet<>();
+    private final Set<Entity> changedEntities = new LinkedHashSet<>();
+    private final Set<Entity> managedEntities = new HashSet<>();
+    private final Set<Entity> pendingRecycles = new LinkedHashSet<>();
     private boolean delayChanges = false;
 
     public void addEntity(final Entity entity) {
         if (delayChanges) {
             pendingNewEntites.add(entity);
         } else {
+            registerEntity(entity);
+            refreshCachedArchetypes(entity);
+        }
+    }
+
+    public void addEntities(final List<Entity> entitiesToAdd) {
+        if (delayChanges) {
+            pendingNewEntites.addAll(entitiesToAdd);
+        } else {
+            verifyIdsAreUnique(entitiesToAdd);
+            for (final var entity : entitiesToAdd) {
+                registerEntity(entity);
+            }
+            for (final var cachedArchetype : archetypeCache.values()) {
+                cachedArchetype.addMatching(entitiesToAdd);
+            }
+        }
+    }
+
+    // validates the whole batch up front so a duplicate id doesn't leave the batch partially registered
+    private void verifyIdsAreUnique(final List<Entity> entitiesToAdd) {
+        final Set<Integer> ids = new HashSet<>();
+        for (final var entity : entitiesToAdd) {
             entity.id().ifPresent(id -> {
-                if (nonNull(entitiesById.put(id, entity))) {
+                if (entitiesById.containsKey(id) || !ids.add(id)) {
                     throw new IllegalStateException("duplicate entity id detected: " + id);
                 }
             });
-            entity.registerListener(this);
-            refreshCachedArchetypes(entity);
-            this.entities.add(entity);
         }
     }
 
+    private void registerEntity(final Entity entity) {
+        entity.id().ifPresent(id -> {
+            if (nonNull(entitiesById.put(id, entity))) {
+                throw new IllegalStateException("duplicate entity id detected: " + id);
+            }
+        });
+        entity.registerListener(this);
+        managedEntities.add(entity);
+        this.entities.add(entity);
+        if (!changeListeners.isEmpty()) {
+            if (removedEntities.remove(entity)) {
+                changedEntities.add(entity);
+            } else {
+                addedEntities.add(entity);
+            }
+        }
+    }
+
+    public boolean isManaged(final Entity entity) {
+        return managedEntities.contains(entity);
+    }
+
     public List<Entity> allEntities() {
         return entities;
     }
 
     public List<Entity> entitiesMatching(final Archetype archetype) {
+        return cachedArchetype(archetype).entities;
+    }
+
+    public OptionalLong cachedCount(final Archetype archetype) {
         Objects.requireNonNull(archetype, "archetype must not be null");
-        final List<Entity> cacheResult = archetypeCache.get(archetype);
-        if (nonNull(cacheResult)) {
-            return cacheResult;
+        final CachedArchetype cacheResult = archetypeCache.get(archetype);
+        return isNull(cacheResult) ? OptionalLong.empty() : OptionalLong.of(cacheResult.size());
+    }
+
+    public Query query(final Archetype archetype) {
+        return cachedArchetype(archetype);
+    }
+
+    public void removeAll(final Archetype archetype) {
+        final List<Entity> matches = entitiesMatching(archetype);
+        for (int i = matches.size() - 1; i >= 0; i--) {
+            removeEntity(matches.get(i));
         }
-        final List<Entity> calculatedResult = new ArrayList<>();
+    }
+
+    private CachedArchetype cachedArchetype(final Archetype archetype) {
+        Objects.requireNonNull(archetype, "archetype must not be null");
+        final CachedArchetype cacheResult = archetypeCache.get(archetype);
+        return nonNull(cacheResult)
+                ? cacheResult
+                : archetypeCache.computeIfAbsent(archetype, this::createCachedArchetype);
+    }
+
+    private CachedArchetype createCachedArchetype(final Archetype archetype) {
+        final var cachedArchetype = new CachedArchetype(archetype);
         for (final var entity : entities) {
             if (archetype.matches(entity)) {
-                calculatedResult.add(entity);
+                cachedArchetype.add(entity);
             }
         }
-        archetypeCache.put(archetype, calculatedResult);
-        return calculatedResult;
+        return cachedArchetype;
     }
 
     private void refreshCachedArchetypes(final Entity entity) {
-        for (final var cacheSet : archetypeCache.entrySet()) {
-            final Archetype arechetype = cacheSet.getKey();
-            final var cacheEntities = cacheSet.getValue();
-            if (arechetype.matches(entity)) {
-                if (!cacheEntities.contains(entity)) {
-                    cacheEntities.add(entity);
-                }
+        for (final var cachedArchetype : archetypeCache.values()) {
+            if (cachedArchetype.archetype.matches(entity)) {
+                cachedArchetype.add(entity);
             } else {
-                cacheEntities.remove(entity);
+                cachedArchetype.remove(entity);
             }
         }
     }
 
+    public EntityPool entityPool() {
+        return entityPool;
+    }
+
+    public DefaultCommandBuffer commandBuffer() {
+        return commandBuffer;
+    }
+
+    public void playbackCommands() {
+        commandBuffer.playback(this);
+    }
+
     public void delayChanges() {
         this.delayChanges = true;
     }
@@ -84,12 +178,16 @@ public class EntityManager implements EntityListener {
         }
         pendingEntityDeletions.clear();
 
-        for (final Entity entity : pendingNewEntites) {
-            addEntity(entity);
+        if (!pendingNewEntites.isEmpty()) {
+            final List<Entity> entitiesToAdd = List.copyOf(pendingNewEntites);
+            pendingNewEntites.clear();
+            addEntities(entitiesToAdd);
         }
-        pendingNewEntites.clear();
 
         for (final Entity entity : pendingEntityCachesToRefresh) {
+            if (!changeListeners.isEmpty() && managedEntities.contains(entity) && !addedEntities.contains(entity)) {
+                changedEntities.add(entity);
+            }
             refreshCachedArchetypes(entity);
         }
         pendingEntityCachesToRefresh.clear();
@@ -103,12 +201,23 @@ public class EntityManager implements EntityListener {
     public void removeEntity(final Entity entity) {
         if (delayChanges) {
             pendingEntityDeletions.add(entity);
-        } else {
-            for (final var cacheEntry : archetypeCache.values()) {
-                cacheEntry.remove(entity);
+        } else if (managedEntities.remove(entity)) {
+            for (final var cachedArchetype : archetypeCache.values()) {
+                cachedArchetype.remove(entity);
             }
             this.entities.remove(entity);
             entity.id().ifPresent(entitiesById::remove);
+            if (!changeListeners.isEmpty()) {
+                changedEntities.remove(entity);
+                if (!addedEntities.remove(entity)) {
+                    removedEntities.add(entity);
+                }
+            }
+            entity.unregisterListener(this);
+            if (entityPool.isPooled(entity)) {
+                pendingEntityCachesToRefresh.remove(entity);
+                pendingRecycles.add(entity);
+            }
         }
     }
 
@@ -121,7 +230,211 @@ public class EntityManager implements EntityListener {
         }
     }
 
+    @Override
+    public void componentReplaced(final Entity entity) {
+        pendingEntityCachesToRefresh.add(entity);
+    }
+
+    public void registerChangeListener(final EntityChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    public void unregisterChangeListener(final EntityChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    public void deliverChanges() {
+        if (!addedEntities.isEmpty() || !removedEntities.isEmpty() || !changedEntities.isEmpty()) {
+            final var changes = new EntityChangeSet(
+                    List.copyOf(addedEntities),
+                    List.copyOf(removedEntities),
+                    List.copyOf(changedEntities));
+            addedEntities.clear();
+            removedEntities.clear();
+            changedEntities.clear();
+            for (final var listener : List.copyOf(changeListeners)) {
+                listener.entitiesChanged(changes);
+            }
+        }
+        recyclePooledEntities();
+    }
+
+    // removed entities are recycled after the change listeners have seen them untouched
+    private void recyclePooledEntities() {
+        for (final var entity : pendingRecycles) {
+            if (!managedEntities.contains(entity)) {
+                entityPool.recycle(entity);
+            }
+        }
+        pendingRecycles.clear();
+    }
+
     public Entity findById(final int id) {
         return entitiesById.get(id);
     }
+
+    private final class CachedArchetype implements Query {
+
+        private final Archetype archetype;
+        private final List<Entity> entities = new ArrayList<>();
+        private final Map<Entity, Integer> indexes = new HashMap<>();
+        private final List<Column> columns = new ArrayList<>();
+
+        private CachedArchetype(final Archetype archetype) {
+            this.archetype = archetype;
+        }
+
+        private void add(final Entity entity) {
+            final Integer index = indexes.putIfAbsent(entity, entities.size());
+            if (isNull(index)) {
+                entities.add(entity);
+                for (final var column : columns) {
+                    column.add(entities.size() - 1, entity);
+                }
+            } else {
+                // components may have been replaced
+                for (final var column : columns) {
+                    column.set(index, entity);
+                }
+            }
+        }
+
+        private void addMatching(final List<Entity> candidates) {
+            for (final var entity : candidates) {
+                if (archetype.matches(entity)) {
+                    add(entity);
+                }
+            }
+        }
+
+        // the last entity is moved into the gap to avoid shifting all following entities
+        private void remove(final Entity entity) {
+            final Integer index = indexes.remove(entity);
+            if (nonNull(index)) {
+                final int lastIndex = entities.size() - 1;
+                final Entity last = entities.remove(lastIndex);
+                if (index != lastIndex) {
+                    entities.set(index, last);
+                    indexes.put(last, index);
+                }
+                for (final var column : columns) {
+                    column.remove(index, lastIndex);
+                }
+            }
+        }
+
+        @Override
+        public Archetype archetype() {
+            return archetype;
+        }
+
+        @Override
+        public int size() {
+            return entities.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return entities.isEmpty();
+        }
+
+        @Override
+        public void forEach(final Consumer<Entity> action) {
+            final boolean pickUpChangesAfterIteration = startIteration();
+            try {
+                for (int i = 0; i < entities.size(); i++) {
+                    action.accept(entities.get(i));
+                }
+            } finally {
+                endIteration(pickUpChangesAfterIteration);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A extends Component> void forEach(final Class<A> componentClass, final ComponentConsumer<A> action) {
+            final Component[] components = column(componentClass);
+            final boolean pickUpChangesAfterIteration = startIteration();
+            try {
+                for (int i = 0; i < entities.size(); i++) {
+                    action.accept(entities.get(i), (A) components[i]);
+                }
+            } finally {
+                endIteration(pickUpChangesAfterIteration);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A extends Component, B extends Component> void forEach(final Class<A> first, final Class<B> second, final ComponentsConsumer<A, B> action) {
+            final Component[] firstComponents = column(first);
+            final Component[] secondComponents = column(second);
+            final boolean pickUpChangesAfterIteration = startIteration();
+            try {
+                for (int i = 0; i < entities.size(); i++) {
+                    action.accept(entities.get(i), (A) firstComponents[i], (B) secondComponents[i]);
+                }
+            } finally {
+                endIteration(pickUpChangesAfterIteration);
+            }
+        }
+
+        // changes made while iterating are applied afterwards, so the iteration never skips or repeats entities
+        private boolean startIteration() {
+            if (delayChanges) {
+                return false;
+            }
+            delayChanges = true;
+            return true;
+        }
+
+        private void endIteration(final boolean pickUpChangesAfterIteration) {
+            if (pickUpChangesAfterIteration) {
+                pickUpChanges();
+            }
+        }
+
+        private synchronized Component[] column(final Class<? extends Component> componentClass) {
+            for (final var column : columns) {
+                if (column.componentClass == componentClass) {
+                    return column.components;
+                }
+            }
+            if (!archetype.contains(componentClass)) {
+                throw new IllegalArgumentException("component is not part of the archetype: " + componentClass.getSimpleName());
+            }
+            final var column = new Column(componentClass);
+            for (int i = 0; i < entities.size(); i++) {
+                column.add(i, entities.get(i));
+            }
+            columns.add(column);
+            return column.components;
+        }
+    }
+
+    private static final class Column {
+
+        private final Class<? extends Component> componentClass;
+        private Component[] components = new Component[16];
+
+        private Column(final Class<? extends Component> componentClass) {
+            this.componentClass = componentClass;
+        }
+
+        private void add(final int index, final Entity entity) {
+            if (index == components.length) {
+                components = Arrays.copyOf(components, components.length * 2);
+            }
+            set(index, entity);
+        }
+
+        private void set(final int index, final Entity entity) {
+            components[index] = entity.get(componentClass);
+        }
+
+        private void remove(final int index, final int lastIndex) {
+            components[index] = components[lastIndex];
+            components[lastIndex] = null;
+        }
+    }
 }
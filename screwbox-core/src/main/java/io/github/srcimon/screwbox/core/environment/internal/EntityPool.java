@@ -0,0 +1,84 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.Component;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.PoolableComponent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+public class EntityPool {
+
+    private static final int MAX_POOLED_INSTANCES = 1024;
+
+    private final Set<Entity> pooledEntities = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Entity> freeEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Deque<Entity> freeEntities = new ArrayDeque<>();
+    private final Map<Class<? extends PoolableComponent>, Deque<PoolableComponent>> freeComponents = new HashMap<>();
+    private final List<Class<? extends Component>> componentClassesToRemove = new ArrayList<>();
+
+    public synchronized Entity obtainEntity() {
+        final Entity entity = freeEntities.poll();
+        if (isNull(entity)) {
+            final var newEntity = new Entity();
+            pooledEntities.add(newEntity);
+            return newEntity;
+        }
+        freeEntitySet.remove(entity);
+        return entity;
+    }
+
+    public synchronized <T extends PoolableComponent> T obtainComponent(final Class<T> componentClass, final Supplier<T> factory) {
+        requireNonNull(componentClass, "component class must not be null");
+        requireNonNull(factory, "factory must not be null");
+        final var components = freeComponents.get(componentClass);
+        return isNull(components) || components.isEmpty()
+                ? factory.get()
+                : componentClass.cast(components.pop());
+    }
+
+    public synchronized boolean isPooled(final Entity entity) {
+        return pooledEntities.contains(entity);
+    }
+
+    public synchronized void recycle(final Entity entity) {
+        if (!pooledEntities.contains(entity) || freeEntitySet.contains(entity)) {
+            return;
+        }
+        entity.unregisterAllListeners();
+        componentClassesToRemove.addAll(entity.getComponentClasses());
+        for (final var componentClass : componentClassesToRemove) {
+            if (entity.get(componentClass) instanceof PoolableComponent poolableComponent) {
+                poolableComponent.reset();
+                final var components = freeComponents.computeIfAbsent(poolableComponent.getClass(), key -> new ArrayDeque<>());
+                if (components.size() < MAX_POOLED_INSTANCES) {
+                    components.push(poolableComponent);
+                }
+            }
+            entity.remove(componentClass);
+        }
+        componentClassesToRemove.clear();
+        entity.name(null);
+        if (freeEntities.size() < MAX_POOLED_INSTANCES) {
+            freeEntities.push(entity);
+            freeEntitySet.add(entity);
+        } else {
+            pooledEntities.remove(entity);
+        }
+    }
+
+    public synchronized int freeEntityCount() {
+        return freeEntities.size();
+    }
+}
@@ -0,0 +1,171 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.SavegameInfo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import static java.util.Objects.isNull;
+
+public class SavegameCatalog {
+
+    static final int MAGIC = 0x53424358;
+    static final int VERSION = 1;
+
+    private static final Path INDEX_FILE = Path.of("savegames.index");
+
+    // modification time and size detect changes of the index file made by other catalogs
+    private record IndexState(FileTime lastModified, long size) {
+    }
+
+    private final Path indexFile;
+    private Map<String, SavegameInfo> entries;
+    private IndexState entriesState;
+
+    public SavegameCatalog() {
+        this(INDEX_FILE);
+    }
+
+    public SavegameCatalog(final Path indexFile) {
+        this.indexFile = indexFile;
+    }
+
+    public synchronized boolean contains(final String name) {
+        return entries().containsKey(name);
+    }
+
+    public synchronized Optional<SavegameInfo> find(final String name) {
+        return Optional.ofNullable(entries().get(name));
+    }
+
+    public synchronized List<SavegameInfo> list() {
+        final List<SavegameInfo> list = new ArrayList<>(entries().values());
+        list.sort(Comparator.comparing(SavegameInfo::lastSaved).reversed());
+        return list;
+    }
+
+    public synchronized void register(final String name, final Instant lastSaved, final long size, final int version) {
+        final SavegameInfo previous = entries().get(name);
+        final Optional<String> thumbnail = isNull(previous) ? Optional.empty() : previous.thumbnail();
+        entries().put(name, new SavegameInfo(name, lastSaved, size, version, thumbnail));
+        persist();
+    }
+
+    public synchronized void setThumbnail(final String name, final String thumbnail) {
+        final SavegameInfo info = entries().get(name);
+        if (isNull(info)) {
+            throw new IllegalArgumentException("savegame is not present: " + name);
+        }
+        entries().put(name, new SavegameInfo(name, info.lastSaved(), info.size(), info.version(), Optional.ofNullable(thumbnail)));
+        persist();
+    }
+
+    public synchronized void remove(final String name) {
+        if (entries().remove(name) != null) {
+            persist();
+        }
+    }
+
+    private Map<String, SavegameInfo> entries() {
+        final IndexState state = indexState();
+        if (isNull(entries) || !Objects.equals(state, entriesState)) {
+            entries = isNull(state) ? new LinkedHashMap<>() : read();
+            entriesState = state;
+        }
+        return entries;
+    }
+
+    private IndexState indexState() {
+        try {
+            final var attributes = Files.readAttributes(indexFile, BasicFileAttributes.class);
+            return new IndexState(attributes.lastModifiedTime(), attributes.size());
+        } catch (final NoSuchFileException e) {
+            return null;
+        } catch (final IOException e) {
+            throw new IllegalStateException("could not read savegame index: " + indexFile, e);
+        }
+    }
+
+    private Map<String, SavegameInfo> read() {
+        try (final var inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (inputStream.readInt() != MAGIC) {
+                throw new IOException("not a savegame index");
+            }
+            final int version = inputStream.readShort();
+            if (version > VERSION) {
+                throw new IOException("unsupported savegame index version: " + version);
+            }
+            final int count = inputStream.readInt();
+            final Map<String, SavegameInfo> result = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                final String name = inputStream.readUTF();
+                final Instant lastSaved = Instant.ofEpochMilli(inputStream.readLong());
+                final long size = inputStream.readLong();
+                final int savegameVersion = inputStream.readInt();
+                final Optional<String> thumbnail = inputStream.readBoolean()
+                        ? Optional.of(inputStream.readUTF())
+                        : Optional.empty();
+                result.put(name, new SavegameInfo(name, lastSaved, size, savegameVersion, thumbnail));
+            }
+            return result;
+        } catch (final IOException e) {
+            throw new IllegalStateException("could not read savegame index: " + indexFile, e);
+        }
+    }
+
+    private void persist() {
+        final Path target = indexFile.toAbsolutePath();
+        try {
+            final Path temporaryFile = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try {
+                try (final var outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                    outputStream.writeInt(MAGIC);
+                    outputStream.writeShort(VERSION);
+                    outputStream.writeInt(entries.size());
+                    for (final var info : entries.values()) {
+                        outputStream.writeUTF(info.name());
+                        outputStream.writeLong(info.lastSaved().toEpochMilli());
+                        outputStream.writeLong(info.size());
+                        outputStream.writeInt(info.version());
+                        outputStream.writeBoolean(info.thumbnail().isPresent());
+                        if (info.thumbnail().isPresent()) {
+                            outputStream.writeUTF(info.thumbnail().get());
+                        }
+                    }
+                }
+                replace(temporaryFile, target);
+                entriesState = indexState();
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (final IOException e) {
+            throw new IllegalStateException("could not write savegame index: " + indexFile, e);
+        }
+    }
+
+    static void replace(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.Entity;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+public interface SavegameCodec {
+
+    // serializing is separated from writing, so asynchronous savegames only have to serialize on the update thread
+    byte[] serialize(List<Entity> entities) throws IOException;
+
+    void write(byte[] serializedEntities, OutputStream outputStream) throws IOException;
+
+    List<Entity> deserialize(byte[] serializedEntities) throws IOException, ClassNotFoundException;
+
+    List<Entity> decode(InputStream inputStream) throws IOException, ClassNotFoundException;
+
+    int version();
+
+    default void encode(final List<Entity> entities, final OutputStream outputStream) throws IOException {
+        write(serialize(entities), outputStream);
+    }
+}
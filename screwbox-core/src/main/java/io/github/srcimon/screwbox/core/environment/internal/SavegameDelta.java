@@ -0,0 +1,96 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.Component;
+import io.github.srcimon.screwbox.core.environment.Entity;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+public record SavegameDelta(List<Integer> removedEntities, List<EntityChange> changedEntities,
+                            List<Entity> addedEntities) implements Serializable {
+
+    public static final int MAGIC = 0x53425344;
+    public static final int VERSION = 1;
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public record EntityChange(int index, List<Component> components,
+                               List<Class<? extends Component>> removedComponents,
+                               boolean isRenamed, String name) implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+    }
+
+    public SavegameDelta {
+        removedEntities = List.copyOf(removedEntities);
+        changedEntities = List.copyOf(changedEntities);
+        addedEntities = List.copyOf(addedEntities);
+    }
+
+    public boolean isEmpty() {
+        return removedEntities.isEmpty() && changedEntities.isEmpty() && addedEntities.isEmpty();
+    }
+
+    public void applyOn(final List<Entity> entities) {
+        for (final int index : removedEntities) {
+            entities.set(index, null);
+        }
+        for (final var change : changedEntities) {
+            final Entity entity = entities.get(change.index);
+            if (change.isRenamed) {
+                entity.name(change.name);
+            }
+            for (final var componentClass : change.removedComponents) {
+                entity.remove(componentClass);
+            }
+            for (final var component : change.components) {
+                entity.addOrReplace(component);
+            }
+        }
+        entities.addAll(addedEntities);
+    }
+
+    public void encode(final OutputStream outputStream) throws IOException {
+        final var header = new DataOutputStream(outputStream);
+        header.writeInt(MAGIC);
+        header.writeShort(VERSION);
+        header.flush();
+        final var deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            final var deflaterOutputStream = new DeflaterOutputStream(outputStream, deflater);
+            final var objectOutputStream = new ObjectOutputStream(deflaterOutputStream);
+            objectOutputStream.writeObject(this);
+            objectOutputStream.flush();
+            deflaterOutputStream.finish();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static SavegameDelta decode(final InputStream inputStream) throws IOException, ClassNotFoundException {
+        final var header = new DataInputStream(inputStream);
+        if (header.readInt() != MAGIC) {
+            throw new IOException("not a delta savegame");
+        }
+        final int version = header.readShort();
+        if (version > VERSION) {
+            throw new IOException("unsupported delta savegame version: " + version);
+        }
+        final var objectInputStream = new ObjectInputStream(new BufferedInputStream(new InflaterInputStream(inputStream)));
+        return (SavegameDelta) objectInputStream.readObject();
+    }
+}
@@ -1,59 +1,195 @@
 package io.github.srcimon.screwbox.core.environment.internal;
 
 import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.SavegameFormat;
+import io.github.srcimon.screwbox.core.environment.SavegameInfo;
+import io.github.srcimon.screwbox.core.environment.SavegameTask;
 import io.github.srcimon.screwbox.core.utils.TimeoutCache;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.zip.Deflater;
 
 import static io.github.srcimon.screwbox.core.Duration.oneSecond;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
 public class SavegameManager {
 
+    private static final int HEADER_LENGTH = 6;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String DELTA_SUFFIX = ".delta-";
+
+    private record PendingSavegame(String name, SavegameFormat format, DefaultSavegameTask task, int lastDeltaNumber) {
+    }
+
     private final TimeoutCache<String, Boolean> savegameCache = new TimeoutCache<>(oneSecond());
+    private final List<PendingSavegame> pendingSavegames = new ArrayList<>();
+    private final Map<String, DeltaTracker> deltaTrackers = new HashMap<>();
+    private final Map<String, CompletableFuture<DeltaTracker>> pendingDeltaTrackers = new HashMap<>();
+    private final Map<String, Long> replacedWrites = new HashMap<>();
+    private final Object replaceLock = new Object();
+    private long writeCount;
+    private final Executor executor;
+    private final SavegameCatalog catalog;
+    private final Map<SavegameFormat, SavegameCodec> codecs = new EnumMap<>(Map.of(
+            SavegameFormat.BINARY, new ColumnarSavegameCodec(Deflater.BEST_SPEED),
+            SavegameFormat.BINARY_COMPACT, new ColumnarSavegameCodec(Deflater.DEFAULT_COMPRESSION),
+            SavegameFormat.SERIALIZED, new SerializedSavegameCodec()));
+
+    public SavegameManager() {
+        this(Runnable::run);
+    }
+
+    public SavegameManager(final Executor executor) {
+        this(executor, new SavegameCatalog());
+    }
 
-    public void createSavegame(List<Entity> entities, final String name) {
+    public SavegameManager(final Executor executor, final SavegameCatalog catalog) {
+        this.executor = executor;
+        this.catalog = catalog;
+    }
+
+    public void createSavegame(final List<Entity> entities, final String name) {
+        createSavegame(entities, name, SavegameFormat.BINARY);
+    }
+
+    public synchronized void createSavegame(final List<Entity> entities, final String name, final SavegameFormat format) {
         requireNonNull(name, "name must not be null");
-        try (final var outputStream = new FileOutputStream(name)) {
-            try (final var zippedOutputStream = new GZIPOutputStream(outputStream)) {
-                try (final var objectOutputStream = new ObjectOutputStream(zippedOutputStream)) {
-                    objectOutputStream.writeObject(entities);
-                }
-            }
+        requireNonNull(format, "format must not be null");
+        try {
+            writeBase(entities, name, format, Integer.MAX_VALUE);
         } catch (final IOException e) {
             throw new IllegalStateException("could not create savegame: " + name, e);
         }
+        if (nonNull(deltaTracker(name))) {
+            deltaTrackers.put(name, new DeltaTracker(entities, 1));
+        }
     }
 
-    public List<Entity> loadSavegame(final String name) {
+    public synchronized void createDeltaSavegame(final List<Entity> entities, final String name) {
         validateName(name);
-        try (final var inputStream = new FileInputStream(name)) {
-            try (final var zippedInputStream = new GZIPInputStream(inputStream)) {
-                try (final var objectInputStream = new ObjectInputStream(zippedInputStream)) {
-                    return (List<Entity>) objectInputStream.readObject();
+        final DeltaTracker tracker = deltaTracker(name);
+        if (isNull(tracker) || !Files.exists(Path.of(name))) {
+            createSavegame(entities, name);
+            deltaTrackers.put(name, new DeltaTracker(entities, 1));
+            return;
+        }
+        final SavegameDelta delta = tracker.createDelta(entities);
+        if (delta.isEmpty()) {
+            return;
+        }
+        final Path deltaPath = deltaPath(name, tracker.nextDeltaNumber());
+        try (final var outputStream = new BufferedOutputStream(Files.newOutputStream(deltaPath), BUFFER_SIZE)) {
+            delta.encode(outputStream);
+        } catch (final IOException e) {
+            deleteIncompleteDelta(deltaPath, e);
+            throw new IllegalStateException("could not create delta savegame: " + name, e);
+        }
+        tracker.commitDelta();
+        try {
+            catalog.register(name, Instant.now(), savegameSize(name), codecs.get(SavegameFormat.BINARY).version());
+        } catch (final IOException e) {
+            throw new IllegalStateException("could not create delta savegame: " + name, e);
+        }
+    }
+
+    public synchronized void compactSavegame(final String name) {
+        validateName(name);
+        try {
+            if (deltaNumbers(name).isEmpty()) {
+                return;
+            }
+            final DeltaTracker tracker = deltaTracker(name);
+            writeBase(loadChain(name), name, SavegameFormat.BINARY, Integer.MAX_VALUE);
+            if (nonNull(tracker)) {
+                tracker.compact();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("could not compact savegame: " + name, e);
+        }
+    }
+
+    public synchronized SavegameTask scheduleSavegame(final String name, final SavegameFormat format) {
+        validateName(name);
+        requireNonNull(format, "format must not be null");
+        final var task = new DefaultSavegameTask(name);
+        final DeltaTracker tracker = deltaTracker(name);
+        final int lastDeltaNumber = isNull(tracker) ? Integer.MAX_VALUE : tracker.lastDeltaNumber();
+        pendingSavegames.add(new PendingSavegame(name, format, task, lastDeltaNumber));
+        return task;
+    }
+
+    public synchronized void startPendingSavegames(final List<Entity> entities) {
+        if (pendingSavegames.isEmpty()) {
+            return;
+        }
+        // entities are only serialized once per format on the update thread, compressing and writing happens in background
+        final List<Entity> savedEntities = List.copyOf(entities);
+        final Map<SavegameFormat, byte[]> serializedEntities = new EnumMap<>(SavegameFormat.class);
+        for (final var pendingSavegame : pendingSavegames) {
+            try {
+                if (!serializedEntities.containsKey(pendingSavegame.format)) {
+                    serializedEntities.put(pendingSavegame.format, codecs.get(pendingSavegame.format).serialize(savedEntities));
                 }
+            } catch (final IOException | RuntimeException e) {
+                pendingSavegame.task.fail(new IllegalStateException("could not create savegame: " + pendingSavegame.name, e));
+                continue;
             }
+            final byte[] serialized = serializedEntities.get(pendingSavegame.format);
+            final long writeNumber = nextWriteNumber();
+            final CompletableFuture<DeltaTracker> deltaTracker = isDeltaTracked(pendingSavegame.name) ? new CompletableFuture<>() : null;
+            if (nonNull(deltaTracker)) {
+                deltaTrackers.remove(pendingSavegame.name);
+                pendingDeltaTrackers.put(pendingSavegame.name, deltaTracker);
+            }
+            executor.execute(() -> writeSerialized(serialized, savedEntities, pendingSavegame, deltaTracker, writeNumber));
+        }
+        pendingSavegames.clear();
+    }
+
+    public synchronized List<Entity> loadSavegame(final String name) {
+        validateName(name);
+        try {
+            final List<Entity> entities = loadChain(name);
+            if (deltaNumbers(name).isEmpty()) {
+                removeDeltaTracker(name);
+            } else {
+                writeBase(entities, name, SavegameFormat.BINARY, Integer.MAX_VALUE);
+                deltaTrackers.put(name, new DeltaTracker(entities, 1));
+            }
+            return entities;
         } catch (IOException | ClassNotFoundException e) {
             throw new IllegalStateException("could not load savegame: " + name, e);
         }
     }
 
-    public void deleteSavegame(final String name) {
+    public synchronized void deleteSavegame(final String name) {
         try {
             validateName(name);
             final Path path = Path.of(name);
-            Files.delete(path);
-            savegameCache.clear(name);
+            synchronized (replaceLock) {
+                replacedWrites.put(name, nextWriteNumber());
+                Files.delete(path);
+                deleteDeltas(name, Integer.MAX_VALUE);
+            }
+            removeDeltaTracker(name);
+            catalog.remove(name);
+            clearCache(name);
         } catch (IOException e) {
             throw new IllegalStateException("could not delete savegame: " + name, e);
         }
@@ -61,7 +197,198 @@ public class SavegameManager {
 
     public boolean savegameExists(final String name) {
         validateName(name);
-        return savegameCache.getOrElse(name, () -> Files.exists(Path.of(name)));
+        if (catalog.contains(name)) {
+            return true;
+        }
+        // savegames created before the catalog existed are probed and added to the catalog once found
+        final boolean exists;
+        synchronized (savegameCache) {
+            exists = savegameCache.getOrElse(name, () -> Files.exists(Path.of(name)));
+        }
+        if (exists) {
+            registerExisting(name);
+        }
+        return exists;
+    }
+
+    public List<SavegameInfo> savegames() {
+        return catalog.list();
+    }
+
+    public void setThumbnail(final String name, final String thumbnail) {
+        validateName(name);
+        catalog.setThumbnail(name, thumbnail);
+    }
+
+    private List<Entity> loadChain(final String name) throws IOException, ClassNotFoundException {
+        final List<Entity> entities = new ArrayList<>();
+        try (final var inputStream = new BufferedInputStream(Files.newInputStream(Path.of(name)), BUFFER_SIZE)) {
+            entities.addAll(detectCodec(inputStream).decode(inputStream));
+        }
+        for (final int deltaNumber : deltaNumbers(name)) {
+            try (final var inputStream = new BufferedInputStream(Files.newInputStream(deltaPath(name, deltaNumber)), BUFFER_SIZE)) {
+                SavegameDelta.decode(inputStream).applyOn(entities);
+            }
+        }
+        entities.removeIf(Objects::isNull);
+        return entities;
+    }
+
+    private void writeSerialized(final byte[] serializedEntities, final List<Entity> savedEntities,
+                                 final PendingSavegame pendingSavegame, final CompletableFuture<DeltaTracker> deltaTracker,
+                                 final long writeNumber) {
+        try {
+            writeBase(serializedEntities, pendingSavegame.name, pendingSavegame.format, pendingSavegame.lastDeltaNumber, writeNumber);
+            pendingSavegame.task.complete();
+        } catch (final IOException | RuntimeException e) {
+            pendingSavegame.task.fail(new IllegalStateException("could not create savegame: " + pendingSavegame.name, e));
+        }
+        if (nonNull(deltaTracker)) {
+            deltaTracker.complete(createDeltaTracker(serializedEntities, savedEntities, pendingSavegame));
+        }
+    }
+
+    // tracker state is decoded from the written savegame to never share component instances with the running game
+    private DeltaTracker createDeltaTracker(final byte[] serializedEntities, final List<Entity> savedEntities, final PendingSavegame pendingSavegame) {
+        try {
+            final List<Entity> state = codecs.get(pendingSavegame.format).deserialize(serializedEntities);
+            return new DeltaTracker(savedEntities, state, pendingSavegame.lastDeltaNumber + 1);
+        } catch (final IOException | ClassNotFoundException | RuntimeException e) {
+            return null; // next delta savegame will create a new base savegame
+        }
+    }
+
+    // waits for asynchronous savegames that will replace the base of the delta savegames
+    private DeltaTracker deltaTracker(final String name) {
+        final var pendingDeltaTracker = pendingDeltaTrackers.remove(name);
+        if (nonNull(pendingDeltaTracker)) {
+            final DeltaTracker tracker = pendingDeltaTracker.join();
+            if (nonNull(tracker)) {
+                deltaTrackers.put(name, tracker);
+            }
+        }
+        return deltaTrackers.get(name);
+    }
+
+    private boolean isDeltaTracked(final String name) {
+        return deltaTrackers.containsKey(name) || pendingDeltaTrackers.containsKey(name);
+    }
+
+    private void removeDeltaTracker(final String name) {
+        pendingDeltaTrackers.remove(name);
+        deltaTrackers.remove(name);
+    }
+
+    private void writeBase(final List<Entity> entities, final String name, final SavegameFormat format, final int lastDeltaNumber) throws IOException {
+        final long writeNumber = nextWriteNumber();
+        writeBase(codecs.get(format).serialize(entities), name, format, lastDeltaNumber, writeNumber);
+    }
+
+    // outdated delta savegames are deleted before the new base is moved in place to never combine them
+    // writes are numbered when serializing the entities, so asynchronous writes finishing late never replace newer savegames
+    private void writeBase(final byte[] serializedEntities, final String name, final SavegameFormat format,
+                           final int lastDeltaNumber, final long writeNumber) throws IOException {
+        final Path target = Path.of(name).toAbsolutePath();
+        final Path temporaryFile = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (final var outputStream = new BufferedOutputStream(Files.newOutputStream(temporaryFile), BUFFER_SIZE)) {
+                codecs.get(format).write(serializedEntities, outputStream);
+            }
+            synchronized (replaceLock) {
+                if (replacedWrites.getOrDefault(name, 0L) > writeNumber) {
+                    return;
+                }
+                deleteDeltas(name, lastDeltaNumber);
+                SavegameCatalog.replace(temporaryFile, target);
+                replacedWrites.put(name, writeNumber);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+        catalog.register(name, Instant.now(), savegameSize(name), codecs.get(format).version());
+        clearCache(name);
+    }
+
+    private long nextWriteNumber() {
+        synchronized (replaceLock) {
+            return ++writeCount;
+        }
+    }
+
+    private void registerExisting(final String name) {
+        final Path path = Path.of(name);
+        try (final var inputStream = Files.newInputStream(path)) {
+            final byte[] header = inputStream.readNBytes(HEADER_LENGTH);
+            final int version = ColumnarSavegameCodec.hasHeader(header) && header.length == HEADER_LENGTH
+                    ? (header[4] & 0xFF) << 8 | header[5] & 0xFF
+                    : codecs.get(SavegameFormat.SERIALIZED).version();
+            catalog.register(name, Files.getLastModifiedTime(path).toInstant(), savegameSize(name), version);
+        } catch (final IOException e) {
+            throw new IllegalStateException("could not read savegame: " + name, e);
+        }
+    }
+
+    private static long savegameSize(final String name) throws IOException {
+        long size = Files.size(Path.of(name));
+        for (final int deltaNumber : deltaNumbers(name)) {
+            size += Files.size(deltaPath(name, deltaNumber));
+        }
+        return size;
+    }
+
+    private SavegameCodec detectCodec(final BufferedInputStream inputStream) throws IOException {
+        inputStream.mark(HEADER_LENGTH);
+        final byte[] header = inputStream.readNBytes(HEADER_LENGTH);
+        inputStream.reset();
+        return ColumnarSavegameCodec.hasHeader(header)
+                ? codecs.get(SavegameFormat.BINARY)
+                : codecs.get(SavegameFormat.SERIALIZED);
+    }
+
+    private static Path deltaPath(final String name, final int deltaNumber) {
+        return Path.of(name + DELTA_SUFFIX + deltaNumber);
+    }
+
+    private static List<Integer> deltaNumbers(final String name) throws IOException {
+        final Path savegame = Path.of(name).toAbsolutePath();
+        final String prefix = savegame.getFileName().toString() + DELTA_SUFFIX;
+        final List<Integer> deltaNumbers = new ArrayList<>();
+        if (!Files.isDirectory(savegame.getParent())) {
+            return deltaNumbers;
+        }
+        try (final var files = Files.list(savegame.getParent())) {
+            for (final var file : files.toList()) {
+                final String fileName = file.getFileName().toString();
+                if (fileName.startsWith(prefix) && fileName.substring(prefix.length()).matches("\\d+")) {
+                    deltaNumbers.add(Integer.parseInt(fileName.substring(prefix.length())));
+                }
+            }
+        }
+        deltaNumbers.sort(null);
+        return deltaNumbers;
+    }
+
+    // changes of a failed delta savegame are part of the next delta savegame using the same number
+    private static void deleteIncompleteDelta(final Path deltaPath, final IOException failure) {
+        try {
+            Files.deleteIfExists(deltaPath);
+        } catch (final IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    private static void deleteDeltas(final String name, final int lastDeltaNumber) throws IOException {
+        for (final int deltaNumber : deltaNumbers(name)) {
+            if (deltaNumber <= lastDeltaNumber) {
+                Files.delete(deltaPath(name, deltaNumber));
+            }
+        }
+    }
+
+    private void clearCache(final String name) {
+        synchronized (savegameCache) {
+            savegameCache.clear(name);
+        }
     }
 
     private void validateName(final String name) {
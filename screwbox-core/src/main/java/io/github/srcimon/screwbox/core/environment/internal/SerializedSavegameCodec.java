@@ -0,0 +1,54 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.Entity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public class SerializedSavegameCodec implements SavegameCodec {
+
+    @Override
+    public byte[] serialize(final List<Entity> entities) throws IOException {
+        final var outputStream = new ByteArrayOutputStream();
+        final var objectOutputStream = new ObjectOutputStream(outputStream);
+        objectOutputStream.writeObject(entities);
+        objectOutputStream.flush();
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public void write(final byte[] serializedEntities, final OutputStream outputStream) throws IOException {
+        final var zippedOutputStream = new GZIPOutputStream(outputStream);
+        zippedOutputStream.write(serializedEntities);
+        zippedOutputStream.finish();
+    }
+
+    @Override
+    public List<Entity> deserialize(final byte[] serializedEntities) throws IOException, ClassNotFoundException {
+        return readEntities(new ByteArrayInputStream(serializedEntities));
+    }
+
+    @Override
+    public List<Entity> decode(final InputStream inputStream) throws IOException, ClassNotFoundException {
+        return readEntities(new GZIPInputStream(inputStream));
+    }
+
+    @Override
+    public int version() {
+        return 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Entity> readEntities(final InputStream inputStream) throws IOException, ClassNotFoundException {
+        final var objectInputStream = new ObjectInputStream(inputStream);
+        return (List<Entity>) objectInputStream.readObject();
+    }
+}
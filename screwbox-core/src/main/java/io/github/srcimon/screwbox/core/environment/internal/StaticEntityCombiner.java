@@ -0,0 +1,145 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Percent;
+import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.Component;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.Environment;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.environment.light.ShadowCasterComponent;
+import io.github.srcimon.screwbox.core.environment.light.StaticShadowCasterComponent;
+import io.github.srcimon.screwbox.core.environment.physics.ColliderComponent;
+import io.github.srcimon.screwbox.core.environment.physics.StaticColliderComponent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static java.util.Objects.nonNull;
+
+// merges rows of adjacent bounds into strips and stacks strips of same width afterwards (greedy meshing)
+public final class StaticEntityCombiner {
+
+    private static final Archetype COLLIDERS = Archetype.of(
+            StaticColliderComponent.class, ColliderComponent.class, TransformComponent.class);
+
+    private static final Archetype SHADOW_CASTERS = Archetype.of(
+            StaticShadowCasterComponent.class, ShadowCasterComponent.class, TransformComponent.class);
+
+    private static final Comparator<Combination> BY_ROW = Comparator
+            .comparingDouble((Combination combination) -> combination.bounds.minY())
+            .thenComparingDouble(combination -> combination.bounds.height())
+            .thenComparingDouble(combination -> combination.bounds.minX());
+
+    private static final Comparator<Combination> BY_COLUMN = Comparator
+            .comparingDouble((Combination combination) -> combination.bounds.minX())
+            .thenComparingDouble(combination -> combination.bounds.width())
+            .thenComparingDouble(combination -> combination.bounds.minY());
+
+    private static final class Combination {
+        private Bounds bounds;
+        private final List<Entity> entities;
+
+        private Combination(final Entity entity) {
+            this.bounds = entity.bounds();
+            this.entities = new ArrayList<>(List.of(entity));
+        }
+    }
+
+    private record ColliderProperties(double friction, Percent bounce, boolean isOneWay) {
+    }
+
+    private StaticEntityCombiner() {
+    }
+
+    // combined entities are added delayed, so they only keep being static when they may be combined again later on
+    public static int combineColliders(final Environment environment, final boolean keepStatic) {
+        return combine(environment, COLLIDERS,
+                entity -> {
+                    final var collider = entity.get(ColliderComponent.class);
+                    return new ColliderProperties(collider.friction, collider.bounce, collider.isOneWay);
+                },
+                (template, bounds) -> {
+                    final var collider = template.get(ColliderComponent.class);
+                    final var combined = new Entity().add(
+                            new ColliderComponent(collider.friction, collider.bounce, collider.isOneWay),
+                            new TransformComponent(bounds));
+                    return keepStatic ? combined.add(new StaticColliderComponent()) : combined;
+                },
+                ColliderComponent.class, StaticColliderComponent.class);
+    }
+
+    public static int combineShadowCasters(final Environment environment, final boolean keepStatic) {
+        return combine(environment, SHADOW_CASTERS,
+                entity -> entity.get(ShadowCasterComponent.class).selfShadow,
+                (template, bounds) -> {
+                    final var combined = new Entity().add(
+                            new ShadowCasterComponent(template.get(ShadowCasterComponent.class).selfShadow),
+                            new TransformComponent(bounds));
+                    return keepStatic ? combined.add(new StaticShadowCasterComponent()) : combined;
+                },
+                ShadowCasterComponent.class, StaticShadowCasterComponent.class);
+    }
+
+    @SafeVarargs
+    private static int combine(final Environment environment, final Archetype combinables,
+                               final Function<Entity, Object> properties,
+                               final BiFunction<Entity, Bounds, Entity> combinedEntity,
+                               final Class<? extends Component>... replacedComponents) {
+        final Map<Object, List<Combination>> groups = new HashMap<>();
+        for (final var entity : environment.fetchAll(combinables)) {
+            groups.computeIfAbsent(properties.apply(entity), key -> new ArrayList<>()).add(new Combination(entity));
+        }
+        int combinedCount = 0;
+        for (final var group : groups.values()) {
+            final var rows = merge(group, BY_ROW, StaticEntityCombiner::tryToCombineInRow);
+            for (final var combination : merge(rows, BY_COLUMN, StaticEntityCombiner::tryToCombineInColumn)) {
+                if (combination.entities.size() > 1) {
+                    environment.addEntity(combinedEntity.apply(combination.entities.getFirst(), combination.bounds));
+                    for (final var entity : combination.entities) {
+                        for (final var componentClass : replacedComponents) {
+                            entity.remove(componentClass);
+                        }
+                    }
+                    combinedCount += combination.entities.size();
+                }
+            }
+        }
+        return combinedCount;
+    }
+
+    private static List<Combination> merge(final List<Combination> combinations, final Comparator<Combination> order,
+                                           final BiFunction<Bounds, Bounds, Bounds> combiner) {
+        combinations.sort(order);
+        final List<Combination> merged = new ArrayList<>();
+        Combination current = null;
+        for (final var combination : combinations) {
+            final Bounds combined = nonNull(current) ? combiner.apply(current.bounds, combination.bounds) : null;
+            if (nonNull(combined)) {
+                current.bounds = combined;
+                current.entities.addAll(combination.entities);
+            } else {
+                current = combination;
+                merged.add(current);
+            }
+        }
+        return merged;
+    }
+
+    private static Bounds tryToCombineInRow(final Bounds left, final Bounds right) {
+        return left.minY() == right.minY() && left.height() == right.height() && left.maxX() == right.minX()
+                ? Bounds.atOrigin(left.minX(), left.minY(), left.width() + right.width(), left.height())
+                : null;
+    }
+
+    private static Bounds tryToCombineInColumn(final Bounds top, final Bounds bottom) {
+        return top.minX() == bottom.minX() && top.width() == bottom.width() && top.maxY() == bottom.minY()
+                ? Bounds.atOrigin(top.minX(), top.minY(), top.width(), top.height() + bottom.height())
+                : null;
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
+import io.github.srcimon.screwbox.core.environment.EntitySystem;
+
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+public record SystemAccess(ComponentMask reads, ComponentMask writes) {
+
+    public static SystemAccess of(final EntitySystem system) {
+        final var componentAccess = system.getClass().getAnnotation(ComponentAccess.class);
+        return isNull(componentAccess)
+                ? null
+                : new SystemAccess(
+                new ComponentMask(List.of(componentAccess.reads())),
+                new ComponentMask(List.of(componentAccess.writes())));
+    }
+
+    public boolean conflictsWith(final SystemAccess other) {
+        return writes.intersects(other.writes)
+                || writes.intersects(other.reads)
+                || reads.intersects(other.writes);
+    }
+}
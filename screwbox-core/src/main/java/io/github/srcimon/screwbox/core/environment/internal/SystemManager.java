@@ -3,11 +3,19 @@ package io.github.srcimon.screwbox.core.environment.internal;
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.Order;
+import io.github.srcimon.screwbox.core.environment.SystemMetric;
+import io.github.srcimon.screwbox.core.environment.SystemMetrics;
 import io.github.srcimon.screwbox.core.utils.Cache;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static java.util.Objects.isNull;
 
@@ -16,16 +24,26 @@ public class SystemManager {
     private static final Cache<EntitySystem, Order.SystemOrder> CACHE = new Cache<>();
     private static final Comparator<EntitySystem> SYSTEM_COMPARATOR = Comparator.comparing(SystemManager::orderOf);
     private final List<EntitySystem> systems = new ArrayList<>();
+    private final Map<EntitySystem, SystemStatistics> statistics = new IdentityHashMap<>();
+    private final SystemStatistics pickUpStatistics = new SystemStatistics();
     private final EntityManager entityManager;
     private final Engine engine;
+    private final Executor executor;
     private boolean delayChanges = false;
+    private boolean isMetricsEnabled = false;
+    private List<List<EntitySystem>> schedule;
 
-    private final List<EntitySystem> pendingSystemsToAdd = new ArrayList<>();
-    private final List<Class<? extends EntitySystem>> pendingSystemsToRemove = new ArrayList<>();
+    private final List<EntitySystem> pendingSystemsToAdd = Collections.synchronizedList(new ArrayList<>());
+    private final List<Class<? extends EntitySystem>> pendingSystemsToRemove = Collections.synchronizedList(new ArrayList<>());
 
     public SystemManager(final Engine engine, final EntityManager entityManager) {
+        this(engine, entityManager, null);
+    }
+
+    public SystemManager(final Engine engine, final EntityManager entityManager, final Executor executor) {
         this.engine = engine;
         this.entityManager = entityManager;
+        this.executor = executor;
     }
 
     public void addSystem(final EntitySystem system) {
@@ -34,19 +52,25 @@ public class SystemManager {
         } else {
             systems.add(system);
             systems.sort(SYSTEM_COMPARATOR);
+            statistics.putIfAbsent(system, new SystemStatistics());
+            schedule = null;
         }
     }
 
     public void addSystem(final EntitySystem system, final Order.SystemOrder order) {
-        CACHE.put(system, order);
+        synchronized (CACHE) {
+            CACHE.put(system, order);
+        }
         addSystem(system);
     }
 
     private static Order.SystemOrder orderOf(final EntitySystem entitySystem) {
-        return CACHE.getOrElse(entitySystem, () -> {
-            final var order = entitySystem.getClass().getAnnotation(Order.class);
-            return isNull(order) ? Order.SystemOrder.SIMULATION : order.value();
-        });
+        synchronized (CACHE) {
+            return CACHE.getOrElse(entitySystem, () -> {
+                final var order = entitySystem.getClass().getAnnotation(Order.class);
+                return isNull(order) ? Order.SystemOrder.SIMULATION : order.value();
+            });
+        }
     }
 
     public List<EntitySystem> allSystems() {
@@ -54,15 +78,127 @@ public class SystemManager {
     }
 
     public void updateAllSystems() {
-        entityManager.pickUpChanges();
+        long pickUpNanos = measuredPickUpChanges();
         delayChanges();
-        for (final EntitySystem entitySystem : systems) {
+        for (final List<EntitySystem> stage : schedule()) {
             entityManager.delayChanges();
-            entitySystem.update(engine);
-            entityManager.pickUpChanges();
+            if (stage.size() == 1) {
+                updateMeasured(stage.getFirst());
+            } else {
+                updateConcurrently(stage);
+            }
+            pickUpNanos += measuredPickUpChanges();
+        }
+        final long playbackStart = isMetricsEnabled ? System.nanoTime() : 0;
+        entityManager.playbackCommands();
+        if (isMetricsEnabled) {
+            pickUpNanos += System.nanoTime() - playbackStart;
         }
+        pickUpNanos += measuredPickUpChanges();
         pickUpChanges();
+        entityManager.deliverChanges();
         entityManager.delayChanges();
+        if (isMetricsEnabled) {
+            pickUpStatistics.record(pickUpNanos, -1);
+        }
+    }
+
+    public void enableMetrics() {
+        isMetricsEnabled = true;
+    }
+
+    public void disableMetrics() {
+        isMetricsEnabled = false;
+    }
+
+    public boolean isMetricsEnabled() {
+        return isMetricsEnabled;
+    }
+
+    public SystemMetrics metrics() {
+        final List<SystemMetric> metrics = new ArrayList<>();
+        for (final var system : systems) {
+            metrics.add(statistics.get(system).toMetric(system));
+        }
+        return new SystemMetrics(metrics, pickUpStatistics.last(), pickUpStatistics.average());
+    }
+
+    private long measuredPickUpChanges() {
+        if (!isMetricsEnabled) {
+            entityManager.pickUpChanges();
+            return 0;
+        }
+        final long start = System.nanoTime();
+        entityManager.pickUpChanges();
+        return System.nanoTime() - start;
+    }
+
+    private void updateMeasured(final EntitySystem system) {
+        if (!isMetricsEnabled) {
+            system.update(engine);
+            return;
+        }
+        final long allocatedBefore = SystemStatistics.currentThreadAllocatedBytes();
+        final long start = System.nanoTime();
+        system.update(engine);
+        final long duration = System.nanoTime() - start;
+        final long allocatedBytes = allocatedBefore < 0 ? -1 : SystemStatistics.currentThreadAllocatedBytes() - allocatedBefore;
+        statistics.get(system).record(duration, allocatedBytes);
+    }
+
+    private void updateConcurrently(final List<EntitySystem> stage) {
+        final List<CompletableFuture<Void>> updates = new ArrayList<>();
+        for (final var system : stage.subList(1, stage.size())) {
+            updates.add(CompletableFuture.runAsync(() -> updateMeasured(system), executor));
+        }
+        updateMeasured(stage.getFirst());
+        try {
+            CompletableFuture.allOf(updates.toArray(CompletableFuture[]::new)).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("could not update systems: " + stage, e.getCause());
+        }
+    }
+
+    private List<List<EntitySystem>> schedule() {
+        if (isNull(schedule)) {
+            schedule = createSchedule();
+        }
+        return schedule;
+    }
+
+    private List<List<EntitySystem>> createSchedule() {
+        final List<List<EntitySystem>> stages = new ArrayList<>();
+        List<EntitySystem> stage = new ArrayList<>();
+        final List<SystemAccess> stageAccess = new ArrayList<>();
+        for (final var system : systems) {
+            final SystemAccess access = isNull(executor) ? null : SystemAccess.of(system);
+            if (!stage.isEmpty() && !canJoinStage(system, access, stage, stageAccess)) {
+                stages.add(stage);
+                stage = new ArrayList<>();
+                stageAccess.clear();
+            }
+            stage.add(system);
+            stageAccess.add(access);
+        }
+        if (!stage.isEmpty()) {
+            stages.add(stage);
+        }
+        return stages;
+    }
+
+    private boolean canJoinStage(final EntitySystem system, final SystemAccess access, final List<EntitySystem> stage, final List<SystemAccess> stageAccess) {
+        if (isNull(access) || orderOf(system) != orderOf(stage.getFirst())) {
+            return false;
+        }
+        for (final var other : stageAccess) {
+            if (isNull(other) || access.conflictsWith(other)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private void delayChanges() {
@@ -90,7 +226,11 @@ public class SystemManager {
         } else {
             for (final var system : systemsOfType(systemType)) {
                 systems.remove(system);
+                if (!systems.contains(system)) {
+                    statistics.remove(system);
+                }
             }
+            schedule = null;
         }
     }
 
@@ -0,0 +1,76 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.Duration;
+import io.github.srcimon.screwbox.core.environment.EntitySystem;
+import io.github.srcimon.screwbox.core.environment.SystemMetric;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import static java.util.Objects.isNull;
+
+public class SystemStatistics {
+
+    private static final int SAMPLE_COUNT = 128;
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = initializeThreadBean();
+
+    private final long[] samples = new long[SAMPLE_COUNT];
+    private int sampleCount = 0;
+    private int nextSample = 0;
+    private long updateCount = 0;
+    private long lastNanos = 0;
+    private long lastAllocatedBytes = -1;
+
+    private static com.sun.management.ThreadMXBean initializeThreadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadBean
+                && threadBean.isThreadAllocatedMemorySupported()
+                && threadBean.isThreadAllocatedMemoryEnabled()) {
+            return threadBean;
+        }
+        return null;
+    }
+
+    public static long currentThreadAllocatedBytes() {
+        return isNull(THREAD_BEAN) ? -1 : THREAD_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    public synchronized void record(final long nanos, final long allocatedBytes) {
+        samples[nextSample] = nanos;
+        nextSample = (nextSample + 1) % SAMPLE_COUNT;
+        sampleCount = Math.min(sampleCount + 1, SAMPLE_COUNT);
+        updateCount++;
+        lastNanos = nanos;
+        lastAllocatedBytes = allocatedBytes;
+    }
+
+    public synchronized Duration last() {
+        return Duration.ofNanos(lastNanos);
+    }
+
+    public synchronized Duration average() {
+        if (sampleCount == 0) {
+            return Duration.none();
+        }
+        long total = 0;
+        for (int i = 0; i < sampleCount; i++) {
+            total += samples[i];
+        }
+        return Duration.ofNanos(total / sampleCount);
+    }
+
+    public synchronized SystemMetric toMetric(final EntitySystem system) {
+        final long[] sorted = Arrays.copyOf(samples, sampleCount);
+        Arrays.sort(sorted);
+        return new SystemMetric(system, updateCount, last(), average(),
+                percentile(sorted, 1.0), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                lastAllocatedBytes);
+    }
+
+    private static Duration percentile(final long[] sorted, final double percentile) {
+        if (sorted.length == 0) {
+            return Duration.none();
+        }
+        final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return Duration.ofNanos(sorted[Math.max(0, index)]);
+    }
+}
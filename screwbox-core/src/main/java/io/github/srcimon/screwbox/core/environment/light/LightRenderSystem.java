@@ -26,36 +26,36 @@ public class LightRenderSystem implements EntitySystem {
         // shadow casters
         for (final var entity : environment.fetchAll(SHADOWCASTERS)) {
             final var shadow = entity.get(ShadowCasterComponent.class);
-            light.addShadowCaster(entity.bounds(), shadow.selfShadow);
+            light.addShadowCaster(entity.renderBounds(), shadow.selfShadow);
         }
 
         // orthogeaphic walls
         for (final var entity : environment.fetchAll(ORTHOGRAPHIC_WALL)) {
-            light.addOrthographicWall(entity.bounds());
+            light.addOrthographicWall(entity.renderBounds());
         }
 
         // cone lights
         for (final Entity entity : environment.fetchAll(CONELIGHTS)) {
             final var coneLight = entity.get(ConeLightComponent.class);
-            light.addConeLight(entity.position(), coneLight.direction, coneLight.cone, coneLight.radius, coneLight.color);
+            light.addConeLight(entity.renderBounds().position(), coneLight.direction, coneLight.cone, coneLight.radius, coneLight.color);
         }
 
         // point lights
         for (final Entity entity : environment.fetchAll(POINTLIGHTS)) {
             final var pointLight = entity.get(PointLightComponent.class);
-            light.addPointLight(entity.position(), pointLight.radius, pointLight.color);
+            light.addPointLight(entity.renderBounds().position(), pointLight.radius, pointLight.color);
         }
 
         // spot lights
         for (final Entity entity : environment.fetchAll(SPOTLIGHTS)) {
             final var spotLight = entity.get(SpotLightComponent.class);
-            light.addSpotLight(entity.position(), spotLight.radius, spotLight.color);
+            light.addSpotLight(entity.renderBounds().position(), spotLight.radius, spotLight.color);
         }
 
         // glows
         for (final Entity entity : environment.fetchAll(GLOWS)) {
             final var glow = entity.get(GlowComponent.class);
-            light.addGlow(entity.position(), glow.radius, glow.color);
+            light.addGlow(entity.renderBounds().position(), glow.radius, glow.color);
         }
 
         light.render();
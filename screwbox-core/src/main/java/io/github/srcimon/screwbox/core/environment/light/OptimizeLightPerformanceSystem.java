@@ -1,17 +1,20 @@
 package io.github.srcimon.screwbox.core.environment.light;
 
-import io.github.srcimon.screwbox.core.Bounds;
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.environment.Archetype;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
+import io.github.srcimon.screwbox.core.environment.Environment;
 import io.github.srcimon.screwbox.core.environment.Order;
 import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
-import io.github.srcimon.screwbox.core.utils.GeometryUtil;
-
-import java.util.List;
-import java.util.Optional;
+import io.github.srcimon.screwbox.core.environment.internal.StaticEntityCombiner;
 
+/**
+ * Combines all adjacent {@link Entity entities} having a {@link StaticShadowCasterComponent} on the first update
+ * and removes itself afterwards.
+ *
+ * @see Environment#combineStaticEntities()
+ */
 @Order(Order.SystemOrder.OPTIMIZATION)
 public class OptimizeLightPerformanceSystem implements EntitySystem {
 
@@ -20,40 +23,11 @@ public class OptimizeLightPerformanceSystem implements EntitySystem {
 
     @Override
     public void update(final Engine engine) {
-        final List<Entity> combinables = engine.environment().fetchAll(COMBINABLES);
-        for (final var entity : combinables) {
-            for (final var combinable : combinables) {
-                if (tryToCombine(entity, combinable, engine)) {
-                    return; // only one combination per frame
-                }
-            }
-        }
+        StaticEntityCombiner.combineShadowCasters(engine.environment(), false);
         // at this point all light blockers have been combined
-        for (final var entity : combinables) {
+        for (final var entity : engine.environment().fetchAll(COMBINABLES)) {
             entity.remove(StaticShadowCasterComponent.class);
         }
         engine.environment().remove(OptimizeLightPerformanceSystem.class);
     }
-
-    private boolean tryToCombine(final Entity first, Entity second, final Engine engine) {
-        if (first == second) {
-            return false;
-        }
-        if (first.get(ShadowCasterComponent.class).selfShadow != second.get(ShadowCasterComponent.class).selfShadow) {
-            return false;
-        }
-        Optional<Bounds> result = GeometryUtil.tryToCombine(first.bounds(), second.bounds());
-        if (result.isPresent()) {
-            engine.environment().addEntity(
-                    new ShadowCasterComponent(first.get(ShadowCasterComponent.class).selfShadow),
-                    new StaticShadowCasterComponent(),
-                    new TransformComponent(result.get()));
-            first.remove(StaticShadowCasterComponent.class);
-            first.remove(ShadowCasterComponent.class);
-            second.remove(StaticShadowCasterComponent.class);
-            second.remove(ShadowCasterComponent.class);
-            return true;
-        }
-        return false;
-    }
 }
@@ -5,6 +5,10 @@ import io.github.srcimon.screwbox.core.environment.Archetype;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.physics.Broadphase;
+
+import java.util.HashMap;
+import java.util.Map;
 
 public class AreaTriggerSystem implements EntitySystem {
 
@@ -13,15 +17,17 @@ public class AreaTriggerSystem implements EntitySystem {
 
     @Override
     public void update(Engine engine) {
+        final Map<Archetype, Broadphase> triggers = new HashMap<>();
         for (final Entity entity : engine.environment().fetchAll(TRIGGER_AREAS)) {
             final var triggeredBy = entity.get(TriggerAreaComponent.class).triggeredBy;
-            entity.get(SignalComponent.class).isTriggered = isTriggerd(entity, triggeredBy, engine);
+            final var broadphase = triggers.computeIfAbsent(triggeredBy, archetype -> engine.physics().broadphase(archetype));
+            entity.get(SignalComponent.class).isTriggered = isTriggerd(entity, broadphase);
         }
     }
 
-    private boolean isTriggerd(final Entity entity, final Archetype triggeredBy, final Engine engine) {
+    private boolean isTriggerd(final Entity entity, final Broadphase triggers) {
         final var areaBounds = entity.bounds();
-        for (var trigger : engine.environment().fetchAll(triggeredBy)) {
+        for (var trigger : triggers.findCandidates(areaBounds)) {
             if (trigger.bounds().touches(areaBounds)) {
                 return true;
             }
@@ -5,8 +5,7 @@ import io.github.srcimon.screwbox.core.environment.Archetype;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
-
-import java.util.List;
+import io.github.srcimon.screwbox.core.physics.Broadphase;
 
 import static java.util.Objects.isNull;
 
@@ -21,13 +20,13 @@ public class ParticleInteractionSystem implements EntitySystem {
         if (interactors.isEmpty()) {
             return;
         }
-        final var particles = engine.environment().fetchAll(PARTICLES);
+        final var particles = engine.physics().broadphase(PARTICLES);
         for (final var interactor : interactors) {
             applyMomentumOnParticles(particles, interactor, engine.loop().delta());
         }
     }
 
-    private void applyMomentumOnParticles(final List<Entity> particles, final Entity interactor, final double delta) {
+    private void applyMomentumOnParticles(final Broadphase particles, final Entity interactor, final double delta) {
         final var interaction = interactor.get(ParticleInteractionComponent.class);
         if (isNull(interaction.lastPos)) {
             interaction.lastPos = interactor.position();
@@ -41,14 +40,14 @@ public class ParticleInteractionSystem implements EntitySystem {
             final double momentumLength = momentum.length();
             final var interactionBounds = interactor.bounds().expand(interaction.range);
 
-            for (final var particle : particles) {
+            particles.forEachCandidate(interactionBounds, particle -> {
                 if (particle.bounds().intersects(interactionBounds)) {
                     var physics = particle.get(PhysicsComponent.class);
                     if (physics.momentum.length() < momentumLength) {
                         physics.momentum = physics.momentum.add(momentum.multiply(delta));
                     }
                 }
-            }
+            });
         }
     }
 }
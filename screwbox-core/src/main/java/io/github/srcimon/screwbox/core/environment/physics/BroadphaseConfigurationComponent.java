@@ -0,0 +1,65 @@
+package io.github.srcimon.screwbox.core.environment.physics;
+
+import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.Component;
+import io.github.srcimon.screwbox.core.physics.Broadphase;
+import io.github.srcimon.screwbox.core.physics.Physics;
+
+import java.io.Serial;
+
+/**
+ * Configures the {@link Broadphase} returned by {@link Physics#broadphase(Archetype)} and used by
+ * {@link Physics#searchInRange(io.github.srcimon.screwbox.core.Bounds)} and the physics systems. Should only be
+ * added once per {@link io.github.srcimon.screwbox.core.environment.Environment}. Uses
+ * {@link Strategy#SPATIAL_HASH} when missing.
+ *
+ * @since 2.12.0
+ */
+public class BroadphaseConfigurationComponent implements Component {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Data structure used to find nearby {@link io.github.srcimon.screwbox.core.environment.Entity entities}.
+     */
+    public enum Strategy {
+
+        /**
+         * Uniform grid of cells. Fast for dense worlds containing entities of similar size.
+         */
+        SPATIAL_HASH,
+
+        /**
+         * Dynamic tree of bounding boxes. Uses less memory and is faster for huge sparse worlds with clustered
+         * content and entities of very different size.
+         */
+        AABB_TREE
+    }
+
+    /**
+     * The used {@link Strategy}.
+     */
+    public final Strategy strategy;
+
+    /**
+     * Size of a single cell when using {@link Strategy#SPATIAL_HASH}.
+     */
+    public final double cellSize;
+
+    /**
+     * Margin added to the bounds of every entity when using {@link Strategy#AABB_TREE}. Entities moving within
+     * this margin don't have to be reinserted into the tree.
+     */
+    public final double margin;
+
+    public BroadphaseConfigurationComponent(final Strategy strategy) {
+        this(strategy, 64, 8);
+    }
+
+    public BroadphaseConfigurationComponent(final Strategy strategy, final double cellSize, final double margin) {
+        this.strategy = strategy;
+        this.cellSize = cellSize;
+        this.margin = margin;
+    }
+}
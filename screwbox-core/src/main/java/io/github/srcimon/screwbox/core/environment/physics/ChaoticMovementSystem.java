@@ -3,6 +3,7 @@ package io.github.srcimon.screwbox.core.environment.physics;
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.Vector;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 
@@ -11,6 +12,7 @@ import static io.github.srcimon.screwbox.core.Vector.$;
 /**
  * Enables chaotic movement behaviour for all {@link Entity}s having {@link PhysicsComponent} and {@link ChaoticMovementComponent}.
  */
+@ComponentAccess(reads = ChaoticMovementComponent.class, writes = PhysicsComponent.class)
 public class ChaoticMovementSystem implements EntitySystem {
 
     private static final Archetype MOVING_ENTITIES = Archetype.of(PhysicsComponent.class, ChaoticMovementComponent.class);
@@ -1,5 +1,6 @@
 package io.github.srcimon.screwbox.core.environment.physics;
 
+import io.github.srcimon.screwbox.core.Bounds;
 import io.github.srcimon.screwbox.core.Time;
 import io.github.srcimon.screwbox.core.environment.Component;
 import io.github.srcimon.screwbox.core.environment.Entity;
@@ -29,4 +30,7 @@ public class CollisionDetailsComponent implements Component {
     public boolean touchesBottom;
 
     public Time lastBottomContact = Time.unset();
+
+    transient long contactsVersion;
+    transient Bounds sensorBounds;
 }
@@ -28,11 +28,20 @@ public class CollisionDetailsSystem implements EntitySystem {
     @Override
     public void update(final Engine engine) {
         for (final var sensor : engine.environment().fetchAll(SENSORS)) {
-            var collisions = sensor.get(CollisionSensorComponent.class).collidedEntities;
+            var sensorComponent = sensor.get(CollisionSensorComponent.class);
+            var collisions = sensorComponent.collidedEntities;
             var details = sensor.get(CollisionDetailsComponent.class);
             if (collisions.isEmpty()) {
                 reset(details);
+            } else if (sensorComponent.contactsVersion != 0 && sensorComponent.contactsVersion == details.contactsVersion
+                    && sensor.bounds() == details.sensorBounds) {
+                // neither sensor nor contacts have moved since the last update
+                if (details.touchesBottom) {
+                    details.lastBottomContact = engine.loop().time();
+                }
             } else {
+                details.contactsVersion = sensorComponent.contactsVersion;
+                details.sensorBounds = sensor.bounds();
                 final var sensorBounds = sensor.bounds();
                 final var sensorButton = Bounds.atOrigin(sensorBounds.bottomLeft(), sensorBounds.width(), MIN_DISTANCE);
                 details.entityBottom = getSensorCollision(sensorButton, collisions);
@@ -20,4 +20,20 @@ public class CollisionSensorComponent implements Component {
 
     public List<Entity> collidedEntities = new ArrayList<>();
 
+    /**
+     * {@link Entity Entities} that started colliding within the last update.
+     *
+     * @since 2.12.0
+     */
+    public List<Entity> startedCollisions = new ArrayList<>();
+
+    /**
+     * {@link Entity Entities} that stopped colliding within the last update.
+     *
+     * @since 2.12.0
+     */
+    public List<Entity> endedCollisions = new ArrayList<>();
+
+    transient long contactsVersion;
+
 }
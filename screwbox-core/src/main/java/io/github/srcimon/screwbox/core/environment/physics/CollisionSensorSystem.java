@@ -1,14 +1,14 @@
 package io.github.srcimon.screwbox.core.environment.physics;
 
-import io.github.srcimon.screwbox.core.Bounds;
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.environment.Archetype;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
-import io.github.srcimon.screwbox.core.physics.internal.CollisionCheck;
+import io.github.srcimon.screwbox.core.physics.internal.ContactCache;
 
 /**
  * Collects all collided {@link Entity entities} for any {@link Entity} having {@link CollisionSensorComponent}.
+ * Only updates sensors that have been moved or are near moved colliders.
  *
  * @see CollisionSensorComponent
  * @see CollisionDetailsComponent
@@ -18,20 +18,27 @@ public class CollisionSensorSystem implements EntitySystem {
     private static final Archetype SENSORS = Archetype.ofSpacial(CollisionSensorComponent.class);
     private static final Archetype COLLIDERS = Archetype.ofSpacial(ColliderComponent.class);
 
+    private final ContactCache contactCache = new ContactCache();
+
     @Override
     public void update(final Engine engine) {
-        final var colliders = engine.environment().fetchAll(COLLIDERS);
-        for (final var sensorEntity : engine.environment().fetchAll(SENSORS)) {
-            final var collidedEntities = sensorEntity.get(CollisionSensorComponent.class).collidedEntities;
-            collidedEntities.clear();
-
-            final Bounds sensorBounds = sensorEntity.bounds().expand(0.001);
-            for (final var collider : colliders) {
-                if (sensorEntity != collider && sensorBounds.intersects(collider.bounds())
-                        && new CollisionCheck(sensorEntity, collider).isNoOneWayFalsePositive()) {
-                    collidedEntities.add(collider);
-                }
+        final var sensors = engine.environment().fetchAll(SENSORS);
+        for (final var sensor : sensors) {
+            final var sensorComponent = sensor.get(CollisionSensorComponent.class);
+            sensorComponent.startedCollisions.clear();
+            sensorComponent.endedCollisions.clear();
+            if (sensorComponent.contactsVersion == 0) {
+                contactCache.invalidate(sensor);
             }
         }
+        final var colliders = engine.physics().broadphase(COLLIDERS);
+        contactCache.update(sensors, colliders, engine.physics().broadphase(SENSORS), (sensor, contacts, started, ended) -> {
+            final var sensorComponent = sensor.get(CollisionSensorComponent.class);
+            sensorComponent.collidedEntities.clear();
+            sensorComponent.collidedEntities.addAll(contacts);
+            sensorComponent.startedCollisions.addAll(started);
+            sensorComponent.endedCollisions.addAll(ended);
+            sensorComponent.contactsVersion++;
+        });
     }
-}
\ No newline at end of file
+}
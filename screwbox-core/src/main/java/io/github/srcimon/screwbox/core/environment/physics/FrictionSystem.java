@@ -3,6 +3,7 @@ package io.github.srcimon.screwbox.core.environment.physics;
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.Vector;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 
@@ -13,8 +14,9 @@ import static java.lang.Math.min;
 
 /**
  * Applies friction on all {@link Entity entities} having a {@link PhysicsComponent}. Slows down entities by there specified
- * {@link PhysicsComponent#friction}. May also used to speed up when using negative values.
+ * {@link PhysicsComponent#friction}. May also used to speed up when using negative values. Sleeping bodies are skipped.
  */
+@ComponentAccess(writes = PhysicsComponent.class)
 public class FrictionSystem implements EntitySystem {
 
     private static final Archetype PHYSICS = Archetype.of(PhysicsComponent.class);
@@ -24,7 +26,7 @@ public class FrictionSystem implements EntitySystem {
         for (final var entity : engine.environment().fetchAll(PHYSICS)) {
             final var physicsComponent = entity.get(PhysicsComponent.class);
 
-            if (physicsComponent.friction != 0 && !physicsComponent.momentum.isZero()) {
+            if (physicsComponent.friction != 0 && !physicsComponent.isSleeping && !physicsComponent.momentum.isZero()) {
                 final Vector momentum = physicsComponent.momentum;
                 final var speedChange = momentum
                         .length(abs(physicsComponent.friction) * engine.loop().delta())
@@ -3,10 +3,12 @@ package io.github.srcimon.screwbox.core.environment.physics;
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.Vector;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.Order;
 
 @Order(Order.SystemOrder.SIMULATION_EARLY)
+@ComponentAccess(reads = GravityComponent.class, writes = PhysicsComponent.class)
 public class GravitySystem implements EntitySystem {
 
     private static final Archetype GRAVITY_AFFECTED = Archetype.of(PhysicsComponent.class);
@@ -18,6 +20,9 @@ public class GravitySystem implements EntitySystem {
             final Vector gravityDelta = gravity.multiply(engine.loop().delta());
             for (final var entity : engine.environment().fetchAll(GRAVITY_AFFECTED)) {
                 var physicsBodyComponent = entity.get(PhysicsComponent.class);
+                if (physicsBodyComponent.isSleeping) {
+                    continue;
+                }
                 physicsBodyComponent.momentum = physicsBodyComponent.momentum
                         .add(gravityDelta.multiply(physicsBodyComponent.gravityModifier));
             }
@@ -1,5 +1,6 @@
 package io.github.srcimon.screwbox.core.environment.physics;
 
+import io.github.srcimon.screwbox.core.Bounds;
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.Vector;
 import io.github.srcimon.screwbox.core.environment.Archetype;
@@ -16,12 +17,14 @@ public class MagnetSystem implements EntitySystem {
         if (magnets.isEmpty()) {
             return;
         }
-        final var bodies = engine.environment().fetchAll(BODIES);
+        final var bodies = engine.physics().broadphase(BODIES);
         final var delta = engine.loop().delta();
         for (final var magnet : magnets) {
             final Vector magnetPosition = magnet.position();
             final var magnetComponent = magnet.get(MagnetComponent.class);
-            for (final var body : bodies) {
+            // bodies out of range are not affected by the magnet
+            final var range = Bounds.atPosition(magnetPosition, magnetComponent.range * 2, magnetComponent.range * 2);
+            for (final var body : bodies.findCandidates(range)) {
                 if (!magnet.equals(body)) {
                     var bodyPhysics = body.get(PhysicsComponent.class);
                     var distance = body.position().distanceTo(magnetPosition);
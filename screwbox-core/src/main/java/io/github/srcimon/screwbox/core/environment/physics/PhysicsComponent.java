@@ -1,9 +1,14 @@
 package io.github.srcimon.screwbox.core.environment.physics;
 
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Duration;
+import io.github.srcimon.screwbox.core.Time;
 import io.github.srcimon.screwbox.core.Vector;
 import io.github.srcimon.screwbox.core.environment.Component;
+import io.github.srcimon.screwbox.core.environment.Entity;
 
 import java.io.Serial;
+import java.util.List;
 
 public class PhysicsComponent implements Component {
 
@@ -16,6 +21,15 @@ public class PhysicsComponent implements Component {
     public double gravityModifier = 1;
     public double magnetModifier = 1;
 
+    /**
+     * Enables continuous collision detection. Collisions are detected along the whole movement and resolved at the
+     * time of impact instead of by the overlap after moving. Prevents fast bodies from passing through thin
+     * {@link ColliderComponent colliders} at the cost of some extra calculations.
+     *
+     * @since 2.12.0
+     */
+    public boolean isContinuousCollisionDetection;
+
     /**
      * Specifies the friction constantly applied on {@link #momentum}. Negative values will speed
      * up {@link io.github.srcimon.screwbox.core.environment.Entity} instead of slowing it down.
@@ -23,6 +37,40 @@ public class PhysicsComponent implements Component {
      */
     public double friction = 0;
 
+    /**
+     * Time the {@link #momentum} has to stay below {@link #sleepThreshold} before the body falls asleep. Sleeping
+     * bodies are not moved, affected by gravity or friction and won't be checked for collisions until their
+     * {@link #momentum} is changed, another body pushes them or a {@link ColliderComponent collider} they rest on
+     * is moved or removed. Sleeping is disabled when {@code null}.
+     *
+     * @since 2.12.0
+     */
+    public Duration sleepDelay;
+
+    /**
+     * Maximum length of the {@link #momentum} that is considered as resting.
+     *
+     * @see #sleepDelay
+     * @since 2.12.0
+     */
+    public double sleepThreshold = 2;
+
+    /**
+     * Is true while the body is sleeping. Set to false to wake up the body.
+     *
+     * @see #sleepDelay
+     * @since 2.12.0
+     */
+    public boolean isSleeping;
+
+    record Contact(Entity collider, Bounds bounds) {
+    }
+
+    transient Time restingSince;
+    transient List<Contact> contacts;
+    transient Bounds previousBounds;
+    transient Bounds simulatedBounds;
+
     public PhysicsComponent() {
         this(Vector.zero());
     }
@@ -1,55 +1,264 @@
 package io.github.srcimon.screwbox.core.environment.physics;
 
+import io.github.srcimon.screwbox.core.Bounds;
 import io.github.srcimon.screwbox.core.Engine;
+import io.github.srcimon.screwbox.core.Time;
+import io.github.srcimon.screwbox.core.Vector;
 import io.github.srcimon.screwbox.core.environment.Archetype;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.Order;
+import io.github.srcimon.screwbox.core.environment.Query;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.physics.Broadphase;
 import io.github.srcimon.screwbox.core.physics.internal.CollisionCheck;
 import io.github.srcimon.screwbox.core.physics.internal.CollisionResolver;
+import io.github.srcimon.screwbox.core.utils.Validate;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
 @Order(Order.SystemOrder.SIMULATION_EARLY)
 public class PhysicsSystem implements EntitySystem {
 
     private static final Archetype PHYSICS = Archetype.ofSpacial(PhysicsComponent.class);
     private static final Archetype COLLIDERS = Archetype.ofSpacial(ColliderComponent.class);
 
+    // resting bodies are pushed into their supporting colliders and corrected every frame which causes tiny rounding errors
+    private static final double CONTACT_TOLERANCE = 0.01;
+
+    // the consumer is created once to avoid allocating a capturing lambda every step
+    private final Query.ComponentConsumer<PhysicsComponent> simulateBody = this::simulateBody;
+    // contacts of the simulated body are reused for every body and only copied when the body falls asleep
+    private final List<PhysicsComponent.Contact> contacts = new ArrayList<>();
+    private double accumulator;
+    private boolean hasInterpolatedBodies;
+
+    // state of the current simulation step
+    private Time time;
+    private Broadphase colliders;
+    private double stepDelta;
+    private boolean hasGravity;
+
     @Override
     public void update(final Engine engine) {
-        final double delta = engine.loop().delta();
-        final var colliders = engine.environment().fetchAll(COLLIDERS);
-        for (final Entity entity : engine.environment().fetchAll(PHYSICS)) {
-            final var physicsBody = entity.get(PhysicsComponent.class);
-            entity.moveBy(physicsBody.momentum.multiply(delta));
-
-            if (!physicsBody.ignoreCollisions) {
-                for (final var collisionCheck : fetchOrderedCollisionChecks(entity, colliders)) {
-                    if (collisionCheck.bodiesIntersect()) {
-                        CollisionResolver.resolveCollision(collisionCheck, delta);
+        final var configuration = engine.environment().tryFetchSingletonComponent(PhysicsTimestepConfigurationComponent.class);
+        if (hasInterpolatedBodies && (configuration.isEmpty() || !configuration.get().interpolate)) {
+            stopInterpolation(engine.environment().query(PHYSICS));
+        }
+        if (configuration.isPresent()) {
+            updateInFixedSteps(engine, configuration.get());
+        } else {
+            accumulator = 0;
+            simulate(engine, engine.loop().delta());
+        }
+    }
+
+    private void updateInFixedSteps(final Engine engine, final PhysicsTimestepConfigurationComponent configuration) {
+        Validate.positive(configuration.stepsPerSecond, "steps per second must be positive");
+        final double timestep = 1.0 / configuration.stepsPerSecond;
+        final int substeps = Math.max(1, configuration.substeps);
+        accumulator += engine.loop().delta();
+        final int steps = Math.min((int) (accumulator / timestep), configuration.maxStepsPerUpdate);
+        // time exceeding the maximum steps is dropped to prevent slow machines from falling further behind
+        accumulator = Math.min(accumulator - steps * timestep, timestep);
+
+        final Query bodies = engine.environment().query(PHYSICS);
+        for (int step = 0; step < steps; step++) {
+            if (configuration.interpolate && step == steps - 1) {
+                bodies.forEach(PhysicsComponent.class, (entity, physicsBody) -> physicsBody.previousBounds = entity.bounds());
+            }
+            for (int substep = 0; substep < substeps; substep++) {
+                simulate(engine, timestep / substeps);
+            }
+        }
+        if (configuration.interpolate) {
+            interpolate(bodies, accumulator / timestep, steps > 0);
+        }
+    }
+
+    // the interpolated bounds are only used for rendering, the simulated bounds stay untouched for all other systems
+    private void interpolate(final Query bodies, final double alpha, final boolean hasSimulated) {
+        bodies.forEach(PhysicsComponent.class, TransformComponent.class, (entity, physicsBody, transform) -> {
+            final Bounds simulated = transform.bounds;
+            if (!hasSimulated && nonNull(physicsBody.simulatedBounds) && physicsBody.simulatedBounds != simulated) {
+                // body has been moved by another system: don't interpolate from the outdated position
+                physicsBody.previousBounds = simulated;
+            }
+            if (isNull(physicsBody.previousBounds) || physicsBody.previousBounds == simulated) {
+                physicsBody.simulatedBounds = null;
+                transform.setRenderBounds(null);
+                return;
+            }
+            final Vector previous = physicsBody.previousBounds.position();
+            physicsBody.simulatedBounds = simulated;
+            transform.setRenderBounds(simulated.moveTo(previous.add(simulated.position().substract(previous).multiply(alpha))));
+            hasInterpolatedBodies = true;
+        });
+    }
+
+    private void stopInterpolation(final Query bodies) {
+        bodies.forEach(PhysicsComponent.class, TransformComponent.class, (entity, physicsBody, transform) -> {
+            physicsBody.previousBounds = null;
+            physicsBody.simulatedBounds = null;
+            transform.setRenderBounds(null);
+        });
+        hasInterpolatedBodies = false;
+    }
+
+    private void simulate(final Engine engine, final double delta) {
+        hasGravity = engine.environment().tryFetchSingletonComponent(GravityComponent.class)
+                .map(gravity -> !gravity.gravity.isZero())
+                .orElse(false);
+        time = engine.loop().time();
+        colliders = engine.physics().broadphase(COLLIDERS);
+        stepDelta = delta;
+        engine.environment().query(PHYSICS).forEach(PhysicsComponent.class, simulateBody);
+        colliders = null;
+    }
+
+    private void simulateBody(final Entity entity, final PhysicsComponent physicsBody) {
+        if (physicsBody.isSleeping) {
+            if (physicsBody.momentum.isZero() && !isContactChanged(physicsBody)) {
+                return;
+            }
+            wakeUp(physicsBody);
+        }
+        final boolean canSleep = nonNull(physicsBody.sleepDelay);
+        contacts.clear();
+        if (physicsBody.isContinuousCollisionDetection && !physicsBody.ignoreCollisions) {
+            final CollisionCheck impact = moveUntilImpact(entity, physicsBody, colliders, stepDelta);
+            if (canSleep && nonNull(impact)) {
+                contacts.add(new PhysicsComponent.Contact(impact.collider(), impact.colliderBounds()));
+            }
+        } else {
+            entity.moveBy(physicsBody.momentum.multiply(stepDelta));
+        }
+
+        if (!physicsBody.ignoreCollisions) {
+            for (final var collisionCheck : fetchOrderedCollisionChecks(entity, colliders)) {
+                if (collisionCheck.bodiesIntersect()) {
+                    wakeUpPushedBody(collisionCheck);
+                    CollisionResolver.resolveCollision(collisionCheck, stepDelta);
+                    if (canSleep) {
+                        contacts.add(new PhysicsComponent.Contact(collisionCheck.collider(), collisionCheck.colliderBounds()));
                     }
                 }
             }
         }
+        colliders.refresh(entity);
+        if (canSleep) {
+            updateSleepState(physicsBody, contacts, time, hasGravity);
+        }
+    }
+
+    // the remaining movement after the impact is checked by the regular overlap resolution
+    private static CollisionCheck moveUntilImpact(final Entity entity, final PhysicsComponent physicsBody, final Broadphase colliders, final double delta) {
+        final Vector movement = physicsBody.momentum.multiply(delta);
+        if (movement.isZero()) {
+            return null;
+        }
+        final Bounds bounds = entity.bounds();
+        final Bounds sweptArea = Bounds.atOrigin(
+                Math.min(bounds.minX(), bounds.minX() + movement.x()),
+                Math.min(bounds.minY(), bounds.minY() + movement.y()),
+                bounds.width() + Math.abs(movement.x()),
+                bounds.height() + Math.abs(movement.y()));
+
+        CollisionCheck impact = null;
+        double timeOfImpact = Double.POSITIVE_INFINITY;
+        for (final var collider : colliders.findCandidates(sweptArea)) {
+            if (entity != collider) {
+                final CollisionCheck check = new CollisionCheck(entity, collider);
+                if (check.isNoOneWayFalsePositive()) {
+                    final double time = check.timeOfImpact(movement);
+                    if (time < timeOfImpact) {
+                        timeOfImpact = time;
+                        impact = check;
+                    }
+                }
+            }
+        }
+        if (isNull(impact)) {
+            entity.moveBy(movement);
+            return null;
+        }
+        entity.moveBy(movement.multiply(timeOfImpact));
+        wakeUpPushedBody(impact);
+        CollisionResolver.resolveImpact(impact, delta);
+        entity.moveBy(physicsBody.momentum.multiply(delta * (1 - timeOfImpact)));
+        return impact;
+    }
+
+    private static void updateSleepState(final PhysicsComponent physicsBody, final List<PhysicsComponent.Contact> contacts,
+                                         final Time time, final boolean hasGravity) {
+        // falling bodies may be slow at the peak of a jump but are not resting
+        final boolean isFalling = hasGravity && physicsBody.gravityModifier != 0 && contacts.isEmpty();
+        if (isFalling || physicsBody.momentum.length() > physicsBody.sleepThreshold) {
+            physicsBody.restingSince = null;
+            return;
+        }
+        if (isNull(physicsBody.restingSince)) {
+            physicsBody.restingSince = time;
+        } else if (!physicsBody.sleepDelay.addTo(physicsBody.restingSince).isAfter(time)) {
+            physicsBody.isSleeping = true;
+            physicsBody.momentum = Vector.zero();
+            physicsBody.contacts = List.copyOf(contacts);
+        }
+    }
+
+    private static void wakeUpPushedBody(final CollisionCheck collisionCheck) {
+        final var pushedBody = collisionCheck.collider().get(PhysicsComponent.class);
+        if (nonNull(pushedBody) && pushedBody.isSleeping
+                && collisionCheck.physicsBodyComponent().momentum.length() > pushedBody.sleepThreshold) {
+            wakeUp(pushedBody);
+        }
+    }
+
+    private static void wakeUp(final PhysicsComponent physicsBody) {
+        physicsBody.isSleeping = false;
+        physicsBody.restingSince = null;
+        physicsBody.contacts = null;
     }
 
-    private List<CollisionCheck> fetchOrderedCollisionChecks(final Entity entity, final List<Entity> colliders) {
+    // removed and moved contacts may no longer support the sleeping body
+    private boolean isContactChanged(final PhysicsComponent physicsBody) {
+        if (isNull(physicsBody.contacts)) {
+            return false;
+        }
+        for (final var contact : physicsBody.contacts) {
+            final Entity collider = contact.collider();
+            if (!colliders.contains(collider) || !collider.hasComponent(TransformComponent.class)) {
+                return true;
+            }
+            final var bounds = collider.bounds();
+            if (bounds != contact.bounds() && (bounds.position().distanceTo(contact.bounds().position()) > CONTACT_TOLERANCE
+                    || bounds.width() != contact.bounds().width() || bounds.height() != contact.bounds().height())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<CollisionCheck> fetchOrderedCollisionChecks(final Entity entity, final Broadphase colliders) {
         final List<CollisionCheck> collisionChecks = new ArrayList<>();
-        for (final var collider : colliders) {
-            if (entity != collider && entity.bounds().intersects(collider.bounds())) {
+        final var bounds = entity.bounds();
+        colliders.forEachCandidate(bounds, collider -> {
+            if (entity != collider && bounds.intersects(collider.bounds())) {
                 final CollisionCheck check = new CollisionCheck(entity, collider);
                 if (check.isNoOneWayFalsePositive()) {
                     collisionChecks.add(check);
                 }
             }
-        }
+        });
         if (collisionChecks.size() > 1) {
             Collections.sort(collisionChecks);
         }
         return collisionChecks;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+package io.github.srcimon.screwbox.core.environment.physics;
+
+import io.github.srcimon.screwbox.core.environment.Component;
+import io.github.srcimon.screwbox.core.utils.Validate;
+
+import java.io.Serial;
+
+/**
+ * Lets the {@link PhysicsSystem} move bodies in steps of fixed length instead of using the variable
+ * {@link io.github.srcimon.screwbox.core.loop.Loop#delta()}. Results in stable collisions at low frame rates and
+ * limits the cost of the physics on slow machines. Should only be added once per
+ * {@link io.github.srcimon.screwbox.core.environment.Environment}. Uses variable steps when missing.
+ *
+ * @since 2.12.0
+ */
+public class PhysicsTimestepConfigurationComponent implements Component {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Number of fixed steps simulated per second.
+     */
+    public int stepsPerSecond;
+
+    /**
+     * Number of sub steps every fixed step is split into. Higher values prevent fast bodies from passing through
+     * thin colliders.
+     */
+    public int substeps = 1;
+
+    /**
+     * Maximum number of fixed steps per update. Time that exceeds this limit is dropped, slowing down the
+     * simulation instead of freezing the game on slow machines.
+     */
+    public int maxStepsPerUpdate = 5;
+
+    /**
+     * Renders bodies between the positions of the last two fixed steps to hide stuttering when the frame rate
+     * doesn't match the {@link #stepsPerSecond}. Rendered bodies lag behind by less than one fixed step. Doesn't
+     * change the {@link io.github.srcimon.screwbox.core.environment.Entity#bounds()} used by other systems.
+     *
+     * @see io.github.srcimon.screwbox.core.environment.core.TransformComponent#renderBounds()
+     */
+    public boolean interpolate = true;
+
+    public PhysicsTimestepConfigurationComponent() {
+        this(60);
+    }
+
+    public PhysicsTimestepConfigurationComponent(final int stepsPerSecond) {
+        Validate.positive(stepsPerSecond, "steps per second must be positive");
+        this.stepsPerSecond = stepsPerSecond;
+    }
+}
@@ -18,7 +18,7 @@ public class CameraSystem implements EntitySystem {
             final var target = targetEntity.get(CameraTargetComponent.class);
             engine.graphics().viewport(target.viewportId).ifPresent(viewport -> {
                 final var cameraPosition = viewport.camera().position();
-                final var targetBounds = targetEntity.bounds();
+                final var targetBounds = targetEntity.renderBounds();
 
                 final var configuration = engine.environment().tryFetchSingletonComponent(CameraBoundsComponent.class);
                 if (target.allowJumping
@@ -7,6 +7,7 @@ import io.github.srcimon.screwbox.core.environment.Archetype;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.Order;
+import io.github.srcimon.screwbox.core.environment.Query;
 import io.github.srcimon.screwbox.core.graphics.Offset;
 import io.github.srcimon.screwbox.core.graphics.ScreenBounds;
 import io.github.srcimon.screwbox.core.graphics.Size;
@@ -39,40 +40,78 @@ public class RenderSystem implements EntitySystem {
 
     @Override
     public void update(final Engine engine) {
-        final List<Entity> entities = fetchRenderEntities(engine);
+        final Query renders = queryRenderEntities(engine);
         for (final var viewport : engine.graphics().viewports()) {
-            final SpriteBatch spriteBatch = renderEntitiesOnViewport(viewport, entities, render -> !render.renderOverLight);
+            final SpriteBatch spriteBatch = renderEntitiesOnViewport(viewport, renders, render -> !render.renderOverLight);
             addReflectionsToBatch(engine, viewport, spriteBatch);
             viewport.canvas().drawSpriteBatch(spriteBatch);
         }
     }
 
+    /**
+     * @deprecated use {@link #queryRenderEntities(Engine)} instead
+     */
+    @Deprecated(since = "2.12.0", forRemoval = true)
     protected List<Entity> fetchRenderEntities(Engine engine) {
         return engine.environment().fetchAll(RENDERS);
     }
 
+    /**
+     * @deprecated use {@link #renderEntitiesOnViewport(Viewport, Query, Predicate)} instead
+     */
+    @Deprecated(since = "2.12.0", forRemoval = true)
     protected SpriteBatch renderEntitiesOnViewport(final Viewport viewport, final List<Entity> entities, final Predicate<RenderComponent> renderCondition) {
         final SpriteBatch spriteBatch = new SpriteBatch();
-        final double zoom = viewport.camera().zoom();
         final ScreenBounds visibleBounds = new ScreenBounds(Offset.origin(), viewport.canvas().size());
         for (final Entity entity : entities) {
             final RenderComponent render = entity.get(RenderComponent.class);
             if (renderCondition.test(render)) {
-                final double width = render.sprite.width() * render.options.scale();
-                final double height = render.sprite.height() * render.options.scale();
-                final var spriteBounds = Bounds.atPosition(entity.position(), width, height);
-
-                final var entityScreenBounds = viewport.toCanvas(spriteBounds, render.parallaxX, render.parallaxY);
-                if (visibleBounds.intersects(entityScreenBounds)) {
-                    spriteBatch.add(render.sprite, entityScreenBounds.offset(), render.options.scale(render.options.scale() * zoom), render.drawOrder);
-                }
+                renderEntity(entity, render, viewport, visibleBounds, spriteBatch);
             }
         }
         return spriteBatch;
     }
 
+    /**
+     * Returns a {@link Query} of all {@link Entity entities} that will be rendered.
+     *
+     * @since 2.12.0
+     */
+    protected Query queryRenderEntities(final Engine engine) {
+        return engine.environment().query(RENDERS);
+    }
+
+    /**
+     * Adds all {@link Entity entities} matching the render condition that are visible on the {@link Viewport} to a
+     * new {@link SpriteBatch}.
+     *
+     * @since 2.12.0
+     */
+    protected SpriteBatch renderEntitiesOnViewport(final Viewport viewport, final Query renders, final Predicate<RenderComponent> renderCondition) {
+        final SpriteBatch spriteBatch = new SpriteBatch();
+        final ScreenBounds visibleBounds = new ScreenBounds(Offset.origin(), viewport.canvas().size());
+        renders.forEach(RenderComponent.class, (entity, render) -> {
+            if (renderCondition.test(render)) {
+                renderEntity(entity, render, viewport, visibleBounds, spriteBatch);
+            }
+        });
+        return spriteBatch;
+    }
+
+    private void renderEntity(final Entity entity, final RenderComponent render, final Viewport viewport,
+                              final ScreenBounds visibleBounds, final SpriteBatch spriteBatch) {
+        final double width = render.sprite.width() * render.options.scale();
+        final double height = render.sprite.height() * render.options.scale();
+        final var spriteBounds = Bounds.atPosition(entity.renderBounds().position(), width, height);
+
+        final var entityScreenBounds = viewport.toCanvas(spriteBounds, render.parallaxX, render.parallaxY);
+        if (visibleBounds.intersects(entityScreenBounds)) {
+            spriteBatch.add(render.sprite, entityScreenBounds.offset(), render.options.scale(render.options.scale() * viewport.camera().zoom()), render.drawOrder);
+        }
+    }
+
     private void addReflectionsToBatch(final Engine engine, final Viewport viewport, final SpriteBatch spriteBatch) {
-        final List<Entity> renderEntities = fetchRenderEntities(engine);
+        final Query renders = queryRenderEntities(engine);
         final var visibleArea = Pixelperfect.bounds(viewport.visibleArea());
         final var zoom = viewport.camera().zoom();
         for (final Entity mirror : engine.environment().fetchAll(MIRRORS)) {
@@ -93,9 +132,7 @@ public class RenderSystem implements EntitySystem {
                     final var reflectedBounds = reflection.moveBy(Vector.y(-reflection.height()));
                     final var reflectedAreaOnSreen = viewport.toCanvas(reflectedBounds);
                     final var reflectionImage = new ReflectionImage(viewport, reflectionConfig.drawOrder, size, reflectedAreaOnSreen, entityMotion);
-                    for (final var entity : renderEntities) {
-                        reflectionImage.addEntity(entity);
-                    }
+                    renders.forEach(reflectionImage::addEntity);
                     BufferedImage image = postprocessReflection(reflectionConfig, reflectionImage.create(), seed);
 
                     spriteBatch.add(Sprite.fromImage(image), viewport.toCanvas(reflection.origin()), SpriteDrawOptions.scaled(zoom).opacity(reflectionConfig.opacityModifier), reflectionConfig.drawOrder);
@@ -2,6 +2,7 @@ package io.github.srcimon.screwbox.core.environment.tweening;
 
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.light.ConeLightComponent;
@@ -14,6 +15,7 @@ import static java.util.Objects.nonNull;
 /**
  * Updates the opacity of all light components of an {@link Entity}, that use tweening and have an {@link TweenLightComponent}.
  */
+@ComponentAccess(reads = {TweenComponent.class, TweenLightComponent.class}, writes = {PointLightComponent.class, SpotLightComponent.class, ConeLightComponent.class, GlowComponent.class})
 public class TweenLightSystem implements EntitySystem {
 
     private static final Archetype TWEENS = Archetype.of(TweenLightComponent.class, TweenComponent.class);
@@ -3,6 +3,7 @@ package io.github.srcimon.screwbox.core.environment.tweening;
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.Percent;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.Order;
@@ -14,6 +15,7 @@ import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteDrawOptions;
  * {@link TweenOpacityComponent}.
  */
 @Order(Order.SystemOrder.PRESENTATION_PREPARE)
+@ComponentAccess(reads = {TweenComponent.class, TweenOpacityComponent.class}, writes = RenderComponent.class)
 public class TweenOpacitySystem implements EntitySystem {
 
     private static final Archetype TWEENS = Archetype.of(TweenComponent.class, TweenOpacityComponent.class, RenderComponent.class);
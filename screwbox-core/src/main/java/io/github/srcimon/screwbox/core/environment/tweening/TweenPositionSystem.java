@@ -4,12 +4,15 @@ import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.Line;
 import io.github.srcimon.screwbox.core.Rotation;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
 
 /**
  * Updates the postion of all {@link Entity}s that use tweening and have an {@link TweenPositionComponent} or {@link TweenOrbitPositionComponent}.
  */
+@ComponentAccess(reads = {TweenComponent.class, TweenPositionComponent.class, TweenOrbitPositionComponent.class}, writes = TransformComponent.class)
 public class TweenPositionSystem implements EntitySystem {
 
     private static final Archetype POSITION_TWEENS = Archetype.ofSpacial(TweenComponent.class, TweenPositionComponent.class);
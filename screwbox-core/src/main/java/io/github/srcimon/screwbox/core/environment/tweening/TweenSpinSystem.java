@@ -2,6 +2,7 @@ package io.github.srcimon.screwbox.core.environment.tweening;
 
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.EntitySystem;
 import io.github.srcimon.screwbox.core.environment.Order;
@@ -13,6 +14,7 @@ import io.github.srcimon.screwbox.core.graphics.drawoptions.SpriteDrawOptions;
  * {@link Entity entities} that use tweening and have an {@link TweenOpacityComponent}.
  */
 @Order(Order.SystemOrder.PRESENTATION_PREPARE)
+@ComponentAccess(reads = {TweenComponent.class, TweenSpinComponent.class}, writes = RenderComponent.class)
 public class TweenSpinSystem implements EntitySystem {
 
     private static final Archetype TWEENS = Archetype.of(TweenComponent.class, TweenSpinComponent.class, RenderComponent.class);
@@ -17,6 +17,7 @@ import java.util.stream.Stream;
 
 import static java.util.Arrays.stream;
 import static java.util.Comparator.reverseOrder;
+import static java.util.Objects.isNull;
 
 public class DefaultGraphics implements Graphics, Updatable {
 
@@ -130,6 +131,9 @@ public class DefaultGraphics implements Graphics, Updatable {
 
     @Override
     public List<Size> supportedResolutions() {
+        if (isNull(graphicsDevice)) {
+            return List.of(configuration.resolution());
+        }
         return stream(graphicsDevice.getDisplayModes())
                 .map(this::toDimension)
                 .distinct()
@@ -169,7 +173,9 @@ public class DefaultGraphics implements Graphics, Updatable {
 
     @Override
     public Size currentResolution() {
-        return toDimension(graphicsDevice.getDisplayMode());
+        return isNull(graphicsDevice)
+                ? configuration.resolution()
+                : toDimension(graphicsDevice.getDisplayMode());
     }
 
     @Override
@@ -46,8 +46,7 @@ public class DefaultScreen implements Screen, Updatable {
 
     public void updateScreen(final boolean antialiased) {
         final Supplier<Graphics2D> graphicsSupplier = () -> {
-            frame.getCanvas().getBufferStrategy().show();
-            final Graphics2D graphics = getDrawGraphics();
+            final Graphics2D graphics = nextDrawGraphics();
             if (nonNull(lastGraphics)) {
                 lastGraphics.dispose();
             }
@@ -64,12 +63,13 @@ public class DefaultScreen implements Screen, Updatable {
         };
         renderer.updateContext(graphicsSupplier);
         final var color = configuration.backgroundColor();
-        renderer.rotate(absoluteRotation(), new ScreenBounds(frame.getCanvasSize()), color);
-        renderer.fillWith(color, new ScreenBounds(frame.getCanvasSize()));
+        renderer.rotate(absoluteRotation(), new ScreenBounds(size()), color);
+        renderer.fillWith(color, new ScreenBounds(size()));
         canvas.updateClip(canvasBounds());
     }
 
-    private Graphics2D getDrawGraphics() {
+    protected Graphics2D nextDrawGraphics() {
+        frame.getCanvas().getBufferStrategy().show();
         try {
             return (Graphics2D) frame.getCanvas().getBufferStrategy().getDrawGraphics();
             // avoid Component must have a valid peer while closing the Window
@@ -80,6 +80,11 @@ public class DefaultScreen implements Screen, Updatable {
 
     @Override
     public Sprite takeScreenshot() {
+        lastScreenshot = Sprite.fromImage(captureScreen());
+        return lastScreenshot;
+    }
+
+    protected BufferedImage captureScreen() {
         if (!frame.isVisible()) {
             throw new IllegalStateException("window must be opend first to create screenshot");
         }
@@ -88,9 +93,7 @@ public class DefaultScreen implements Screen, Updatable {
                 frame.getY() + frame.getInsets().top + menuBarHeight,
                 width(), height());
 
-        final BufferedImage screenCapture = robot.createScreenCapture(rectangle);
-        lastScreenshot = Sprite.fromImage(screenCapture);
-        return lastScreenshot;
+        return robot.createScreenCapture(rectangle);
     }
 
     @Override
@@ -154,12 +157,12 @@ public class DefaultScreen implements Screen, Updatable {
     }
 
     private ScreenBounds canvasBounds() {
-        return isNull(canvasBounds) ? new ScreenBounds(frame.getCanvasSize()) : canvasBounds;
+        return isNull(canvasBounds) ? new ScreenBounds(size()) : canvasBounds;
     }
 
     private void validateCanvasBounds(final ScreenBounds canvasBounds) {
         requireNonNull(canvasBounds, "bounds must not be null");
-        if (!new ScreenBounds(frame.getCanvasSize()).intersects(canvasBounds)) {
+        if (!new ScreenBounds(size()).intersects(canvasBounds)) {
             throw new IllegalArgumentException("bounds must be on screen");
         }
     }
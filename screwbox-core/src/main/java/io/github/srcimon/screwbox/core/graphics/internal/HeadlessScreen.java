@@ -0,0 +1,57 @@
+package io.github.srcimon.screwbox.core.graphics.internal;
+
+import io.github.srcimon.screwbox.core.graphics.GraphicsConfiguration;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.Size;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static java.util.Objects.isNull;
+
+public class HeadlessScreen extends DefaultScreen {
+
+    private final GraphicsConfiguration configuration;
+    private BufferedImage frontImage;
+    private BufferedImage backImage;
+
+    public HeadlessScreen(final Renderer renderer, final DefaultCanvas canvas, final ViewportManager viewportManager, final GraphicsConfiguration configuration) {
+        super(null, renderer, null, canvas, viewportManager, configuration);
+        this.configuration = configuration;
+    }
+
+    @Override
+    protected synchronized Graphics2D nextDrawGraphics() {
+        final Size size = size();
+        if (isNull(frontImage) || frontImage.getWidth() != size.width() || frontImage.getHeight() != size.height()) {
+            frontImage = new BufferedImage(size.width(), size.height(), BufferedImage.TYPE_INT_RGB);
+            backImage = new BufferedImage(size.width(), size.height(), BufferedImage.TYPE_INT_RGB);
+        }
+        final BufferedImage renderedImage = backImage;
+        backImage = frontImage;
+        frontImage = renderedImage;
+        return backImage.createGraphics();
+    }
+
+    @Override
+    protected synchronized BufferedImage captureScreen() {
+        if (isNull(frontImage)) {
+            throw new IllegalStateException("screen must be rendered first to create screenshot");
+        }
+        final var screenshot = new BufferedImage(frontImage.getWidth(), frontImage.getHeight(), BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = screenshot.createGraphics();
+        graphics.drawImage(frontImage, 0, 0, null);
+        graphics.dispose();
+        return screenshot;
+    }
+
+    @Override
+    public Size size() {
+        return configuration.resolution();
+    }
+
+    @Override
+    public Offset position() {
+        return Offset.origin();
+    }
+}
@@ -38,7 +38,7 @@ public final class ReflectionImage {
         if (render.drawOrder > drawOrder) {
             return;
         }
-        final Bounds entityBounds = isNull(entityMotion) ? entity.bounds() : entityMotion.apply(entity.bounds());
+        final Bounds entityBounds = isNull(entityMotion) ? entity.renderBounds() : entityMotion.apply(entity.renderBounds());
         final Bounds entityRenderArea = Bounds.atPosition(entityBounds.position(),
                 entityBounds.width() * render.options.scale(),
                 entityBounds.height() * render.options.scale());
@@ -0,0 +1,55 @@
+package io.github.srcimon.screwbox.core.physics;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Line;
+import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.Entity;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Spatial index of all {@link Entity entities} matching an {@link Archetype}. Used to find {@link Entity entities}
+ * near a specified area without checking every single {@link Entity}. Returns candidates only: the
+ * {@link Entity#bounds()} of a candidate may not touch the searched area.
+ *
+ * @see Physics#broadphase(Archetype)
+ * @since 2.12.0
+ */
+public interface Broadphase {
+
+    /**
+     * Returns all {@link Entity entities} that may touch the specified area. Every {@link Entity} touching the
+     * area is returned exactly once.
+     */
+    List<Entity> findCandidates(Bounds area);
+
+    /**
+     * Calls the consumer for every {@link Entity} that may touch the specified area without allocating a result
+     * list. Every {@link Entity} touching the area is consumed exactly once.
+     */
+    void forEachCandidate(Bounds area, Consumer<Entity> consumer);
+
+    /**
+     * Returns all {@link Entity entities} that may be crossed by the specified ray. Every {@link Entity} crossed by
+     * the ray is returned exactly once.
+     */
+    List<Entity> findCandidates(Line ray);
+
+    /**
+     * Calls the consumer for every {@link Entity} that may be crossed by the specified ray without allocating a
+     * result list. Every {@link Entity} crossed by the ray is consumed exactly once.
+     */
+    void forEachCandidate(Line ray, Consumer<Entity> consumer);
+
+    /**
+     * Returns {@code true} if the specified {@link Entity} is contained in the {@link Broadphase}.
+     */
+    boolean contains(Entity entity);
+
+    /**
+     * Updates the position of the specified {@link Entity} within the {@link Broadphase} after it has been moved.
+     * Won't do anything if the {@link Entity} is not contained.
+     */
+    Broadphase refresh(Entity entity);
+}
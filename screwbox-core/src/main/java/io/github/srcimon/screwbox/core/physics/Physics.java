@@ -4,6 +4,7 @@ import io.github.srcimon.screwbox.core.Bounds;
 import io.github.srcimon.screwbox.core.Grid;
 import io.github.srcimon.screwbox.core.Path;
 import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.environment.Archetype;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.Environment;
 
@@ -20,6 +21,16 @@ public interface Physics {
 
     SelectEntityBuilder searchInRange(Bounds range);
 
+    /**
+     * Returns a {@link Broadphase} containing all {@link Entity entities} matching the specified {@link Archetype}.
+     * The {@link Broadphase} is updated incrementally on every call to reflect {@link Entity entities} that have been
+     * added, removed or moved since the last call. Use {@link Broadphase#refresh(Entity)} when moving
+     * {@link Entity entities} while using the {@link Broadphase}.
+     *
+     * @since 2.12.0
+     */
+    Broadphase broadphase(Archetype archetype);
+
     /**
      * Finds a {@link Path} between specified start and end position. Will be empty if there is no {@link Path}.
      * Requires a {@link Grid}. Searches only within the {@link Grid}.
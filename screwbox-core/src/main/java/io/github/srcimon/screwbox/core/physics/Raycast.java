@@ -3,6 +3,7 @@ package io.github.srcimon.screwbox.core.physics;
 import io.github.srcimon.screwbox.core.Line;
 import io.github.srcimon.screwbox.core.Vector;
 import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.physics.internal.BorderCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,13 +18,15 @@ public class Raycast {
     private final List<Entity> entities;
     private final List<Predicate<Entity>> filters;
     private final Borders borders;
+    private final BorderCache borderCache;
 
     Raycast(final Line ray, final List<Entity> entities, final List<Predicate<Entity>> filters,
-            final Borders borders) {
+            final Borders borders, final BorderCache borderCache) {
         this.ray = ray;
         this.entities = entities;
         this.filters = filters;
         this.borders = borders;
+        this.borderCache = borderCache;
     }
 
     public Optional<Vector> nearestHit() {
@@ -71,7 +74,9 @@ public class Raycast {
     }
 
     private List<Line> getLines(final Entity entity) {
-        return borders.extractFrom(entity.bounds());
+        return isNull(borderCache)
+                ? borders.extractFrom(entity.bounds())
+                : borderCache.linesOf(entity, borders);
     }
 
     public boolean hasHit() {
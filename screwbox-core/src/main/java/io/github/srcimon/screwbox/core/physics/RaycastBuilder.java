@@ -9,6 +9,8 @@ import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.Environment;
 import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
 import io.github.srcimon.screwbox.core.environment.physics.ColliderComponent;
+import io.github.srcimon.screwbox.core.physics.internal.BorderCache;
+import io.github.srcimon.screwbox.core.physics.internal.DefaultPhysics;
 import io.github.srcimon.screwbox.core.physics.internal.EntityHasComponentFilter;
 import io.github.srcimon.screwbox.core.physics.internal.EntityIsInRaycastFilter;
 import io.github.srcimon.screwbox.core.physics.internal.EntityNotInRangeFilter;
@@ -17,8 +19,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
+import static java.util.Objects.isNull;
+
 public final class RaycastBuilder {
 
+    private final Physics physics;
+    private final BorderCache borderCache;
     private final Environment environment;
     private final Vector from;
     private final List<Predicate<Entity>> filters = new ArrayList<>();
@@ -27,6 +33,18 @@ public final class RaycastBuilder {
     private Archetype archetype = DEFAULT_ARCHETYPE;
 
     public RaycastBuilder(final Environment environment, final Vector from) {
+        this(null, environment, from);
+    }
+
+    /**
+     * Creates a new instance that uses the {@link Physics#broadphase(Archetype)} to find {@link Entity entities}
+     * along the ray. Borders of static colliders are reused when using the {@link Physics} of the engine.
+     *
+     * @since 2.12.0
+     */
+    public RaycastBuilder(final Physics physics, final Environment environment, final Vector from) {
+        this.physics = physics;
+        this.borderCache = physics instanceof DefaultPhysics defaultPhysics ? defaultPhysics.borderCache() : null;
         this.environment = environment;
         this.from = from;
     }
@@ -70,8 +88,33 @@ public final class RaycastBuilder {
 
     public Raycast castingTo(final Vector to) {
         final var ray = Line.between(from, to);
-        final List<Entity> matchingEntities = environment.fetchAll(archetype);
-        return new Raycast(ray, matchingEntities, filters, borders);
+        final List<Entity> matchingEntities = isNull(physics)
+                ? environment.fetchAll(archetype)
+                : physics.broadphase(archetype).findCandidates(ray);
+        return new Raycast(ray, matchingEntities, filters, borders, borderCache);
+    }
+
+    /**
+     * Creates a {@link Raycast} for every specified target using the same settings. Much faster than casting the
+     * rays one by one when casting a lot of rays e.g. for line of sight checks.
+     *
+     * @since 2.12.0
+     */
+    public List<Raycast> castingToAll(final List<Vector> targets) {
+        final List<Raycast> raycasts = new ArrayList<>(targets.size());
+        if (isNull(physics)) {
+            final List<Entity> matchingEntities = environment.fetchAll(archetype);
+            for (final var target : targets) {
+                raycasts.add(new Raycast(Line.between(from, target), matchingEntities, filters, borders, borderCache));
+            }
+        } else {
+            final Broadphase broadphase = physics.broadphase(archetype);
+            for (final var target : targets) {
+                final var ray = Line.between(from, target);
+                raycasts.add(new Raycast(ray, broadphase.findCandidates(ray), filters, borders, borderCache));
+            }
+        }
+        return raycasts;
     }
 
     public Raycast castingVertical(final double length) {
@@ -15,23 +15,54 @@ import io.github.srcimon.screwbox.core.physics.internal.EntityNotInRangeFilter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.function.Predicate;
 
+import static java.util.Objects.isNull;
+
 public final class SelectEntityBuilder {
 
-    private final List<Predicate<Entity>> filters = new ArrayList<>();
+    // below this count scanning all entities is cheaper than syncing and querying the broadphase
+    private static final int MIN_ENTITIES_FOR_BROADPHASE = 32;
+
+    private final List<Class<? extends Component>> ignoredComponents = new ArrayList<>();
+    private final Predicate<Entity> positionFilter;
+    private final Physics physics;
     private final Environment environment;
+    private final Bounds area;
 
     private Archetype archetype = Archetype.ofSpacial(ColliderComponent.class);
 
     public SelectEntityBuilder(final Environment environment, final Bounds bounds) {
-        this.environment = environment;
-        filters.add(new EntityNotInRangeFilter(bounds));
+        this(null, environment, bounds);
     }
 
     public SelectEntityBuilder(final Environment environment, final Vector position) {
+        this(null, environment, position);
+    }
+
+    /**
+     * Creates a new instance that uses the {@link Physics#broadphase(Archetype)} to find candidates.
+     *
+     * @since 2.12.0
+     */
+    public SelectEntityBuilder(final Physics physics, final Environment environment, final Bounds bounds) {
+        this.physics = physics;
         this.environment = environment;
-        filters.add(new EntityContainsPositionFilter(position));
+        this.area = bounds;
+        this.positionFilter = new EntityNotInRangeFilter(bounds);
+    }
+
+    /**
+     * Creates a new instance that uses the {@link Physics#broadphase(Archetype)} to find candidates.
+     *
+     * @since 2.12.0
+     */
+    public SelectEntityBuilder(final Physics physics, final Environment environment, final Vector position) {
+        this.physics = physics;
+        this.environment = environment;
+        this.area = Bounds.atPosition(position, 0, 0);
+        this.positionFilter = new EntityContainsPositionFilter(position);
     }
 
     public SelectEntityBuilder checkingFor(final Archetype archetype) {
@@ -44,36 +75,60 @@ public final class SelectEntityBuilder {
     }
 
     public SelectEntityBuilder ignoringEntitiesHaving(final Class<? extends Component> componentClass) {
-        filters.add(new EntityHasComponentFilter(componentClass));
+        ignoredComponents.add(componentClass);
         return this;
     }
 
     public Optional<Entity> selectAny() {
-        for (final Entity entity : environment.fetchAll(archetype)) {
-            if (isNotFiltered(entity)) {
+        final List<Predicate<Entity>> filters = new ArrayList<>();
+        for (final Entity entity : planQuery(filters)) {
+            if (isNotFiltered(entity, filters)) {
                 return Optional.of(entity);
             }
         }
         return Optional.empty();
     }
 
-    private boolean isNotFiltered(final Entity entity) {
-        for (final Predicate<Entity> filter : filters) {
-            if (filter.test(entity)) {
-                return false;
+    public List<Entity> selectAll() {
+        final List<Predicate<Entity>> filters = new ArrayList<>();
+        final var selectedEntities = new ArrayList<Entity>();
+        for (final Entity entity : planQuery(filters)) {
+            if (isNotFiltered(entity, filters)) {
+                selectedEntities.add(entity);
             }
         }
-        return true;
+        return selectedEntities;
     }
 
-    public List<Entity> selectAll() {
-        var selectedEntities = new ArrayList<Entity>();
-        for (final Entity foundEntities : environment.fetchAll(archetype)) {
-            if (isNotFiltered(foundEntities)) {
-                selectedEntities.add(foundEntities);
+    // resolves component filters via already cached archetype counts and the position via the broadphase, returns the
+    // candidates that still have to be checked against the filters that are added to the specified list
+    private List<Entity> planQuery(final List<Predicate<Entity>> filters) {
+        final List<Entity> entities = environment.fetchAll(archetype);
+        if (entities.isEmpty()) {
+            return entities;
+        }
+        filters.add(positionFilter);
+        for (final var componentClass : ignoredComponents) {
+            final OptionalLong ignoredCount = environment.cachedEntityCount(archetype.with(componentClass));
+            if (ignoredCount.isPresent() && ignoredCount.getAsLong() >= entities.size()) {
+                return List.of();
+            }
+            if (ignoredCount.isEmpty() || ignoredCount.getAsLong() > 0) {
+                filters.add(new EntityHasComponentFilter(componentClass));
             }
         }
-        return selectedEntities;
+        return isNull(physics) || entities.size() < MIN_ENTITIES_FOR_BROADPHASE
+                ? entities
+                : physics.broadphase(archetype).findCandidates(area);
+    }
+
+    private static boolean isNotFiltered(final Entity entity, final List<Predicate<Entity>> filters) {
+        for (final Predicate<Entity> filter : filters) {
+            if (filter.test(entity)) {
+                return false;
+            }
+        }
+        return true;
     }
 
 }
@@ -0,0 +1,291 @@
+package io.github.srcimon.screwbox.core.physics.internal;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Line;
+import io.github.srcimon.screwbox.core.environment.Entity;
+
+import java.util.function.Consumer;
+
+import static io.github.srcimon.screwbox.core.utils.Validate.zeroOrPositive;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class AabbTree extends BroadphaseIndex<AabbTree.Node> {
+
+    protected static final class Node extends BroadphaseIndex.Entry {
+        private double minX;
+        private double minY;
+        private double maxX;
+        private double maxY;
+        private Node parent;
+        private Node left;
+        private Node right;
+        private int height;
+
+        private Node(final Entity entity) {
+            super(entity);
+        }
+
+        private boolean isLeaf() {
+            return isNull(left);
+        }
+
+        private boolean contains(final Bounds bounds) {
+            return minX <= bounds.minX() && minY <= bounds.minY() && maxX >= bounds.maxX() && maxY >= bounds.maxY();
+        }
+
+        private boolean touches(final Bounds bounds) {
+            return minX <= bounds.maxX() && maxX >= bounds.minX() && minY <= bounds.maxY() && maxY >= bounds.minY();
+        }
+
+        // slab test of the ray against the bounds of this node
+        private boolean isCrossedBy(final Line ray) {
+            final double fromX = ray.from().x();
+            final double fromY = ray.from().y();
+            final double deltaX = ray.to().x() - fromX;
+            final double deltaY = ray.to().y() - fromY;
+            double enter = 0;
+            double exit = 1;
+            if (deltaX == 0) {
+                if (fromX < minX || fromX > maxX) {
+                    return false;
+                }
+            } else {
+                final double first = (minX - fromX) / deltaX;
+                final double second = (maxX - fromX) / deltaX;
+                enter = Math.max(enter, Math.min(first, second));
+                exit = Math.min(exit, Math.max(first, second));
+            }
+            if (deltaY == 0) {
+                return fromY >= minY && fromY <= maxY && enter <= exit;
+            }
+            final double first = (minY - fromY) / deltaY;
+            final double second = (maxY - fromY) / deltaY;
+            enter = Math.max(enter, Math.min(first, second));
+            exit = Math.min(exit, Math.max(first, second));
+            return enter <= exit;
+        }
+
+        private double perimeter() {
+            return 2 * (maxX - minX + maxY - minY);
+        }
+
+        private double combinedPerimeter(final Node other) {
+            return 2 * (Math.max(maxX, other.maxX) - Math.min(minX, other.minX)
+                    + Math.max(maxY, other.maxY) - Math.min(minY, other.minY));
+        }
+
+        private void fitChildren() {
+            minX = Math.min(left.minX, right.minX);
+            minY = Math.min(left.minY, right.minY);
+            maxX = Math.max(left.maxX, right.maxX);
+            maxY = Math.max(left.maxY, right.maxY);
+            height = 1 + Math.max(left.height, right.height);
+        }
+
+        private void replaceChild(final Node child, final Node replacement) {
+            if (left == child) {
+                left = replacement;
+            } else {
+                right = replacement;
+            }
+        }
+    }
+
+    private final double margin;
+    private Node root;
+
+    public AabbTree(final double margin) {
+        zeroOrPositive(margin, "margin must not be negative");
+        this.margin = margin;
+    }
+
+    @Override
+    public void forEachCandidate(final Bounds area, final Consumer<Entity> consumer) {
+        if (nonNull(root)) {
+            collectCandidates(root, area, consumer);
+        }
+    }
+
+    @Override
+    public void forEachCandidate(final Line ray, final Consumer<Entity> consumer) {
+        if (nonNull(root)) {
+            collectCandidates(root, ray, consumer);
+        }
+    }
+
+    public int height() {
+        return isNull(root) ? 0 : root.height;
+    }
+
+    @Override
+    protected Node insert(final Entity entity) {
+        final var leaf = new Node(entity);
+        fatten(leaf, entity.bounds());
+        insertLeaf(leaf);
+        return leaf;
+    }
+
+    // leafs only have to be reinserted when the entity has left the fattened bounds
+    @Override
+    protected void move(final Node leaf) {
+        final Bounds bounds = leaf.entity.bounds();
+        if (!leaf.contains(bounds)) {
+            removeLeaf(leaf);
+            fatten(leaf, bounds);
+            insertLeaf(leaf);
+        }
+    }
+
+    @Override
+    protected void remove(final Node leaf) {
+        removeLeaf(leaf);
+    }
+
+    private void collectCandidates(final Node node, final Bounds area, final Consumer<Entity> consumer) {
+        if (!node.touches(area)) {
+            return;
+        }
+        if (node.isLeaf()) {
+            consumer.accept(node.entity);
+        } else {
+            collectCandidates(node.left, area, consumer);
+            collectCandidates(node.right, area, consumer);
+        }
+    }
+
+    private void collectCandidates(final Node node, final Line ray, final Consumer<Entity> consumer) {
+        if (!node.isCrossedBy(ray)) {
+            return;
+        }
+        if (node.isLeaf()) {
+            consumer.accept(node.entity);
+        } else {
+            collectCandidates(node.left, ray, consumer);
+            collectCandidates(node.right, ray, consumer);
+        }
+    }
+
+    private void fatten(final Node leaf, final Bounds bounds) {
+        leaf.minX = bounds.minX() - margin;
+        leaf.minY = bounds.minY() - margin;
+        leaf.maxX = bounds.maxX() + margin;
+        leaf.maxY = bounds.maxY() + margin;
+    }
+
+    private void insertLeaf(final Node leaf) {
+        if (isNull(root)) {
+            root = leaf;
+            leaf.parent = null;
+            return;
+        }
+        final Node sibling = findBestSibling(leaf);
+        final Node oldParent = sibling.parent;
+        final Node newParent = new Node(null);
+        newParent.parent = oldParent;
+        newParent.left = sibling;
+        newParent.right = leaf;
+        newParent.fitChildren();
+        sibling.parent = newParent;
+        leaf.parent = newParent;
+        if (isNull(oldParent)) {
+            root = newParent;
+        } else {
+            oldParent.replaceChild(sibling, newParent);
+        }
+        refitAncestors(newParent.parent);
+    }
+
+    // uses the surface area heuristic to find the sibling adding the smallest perimeter to the tree
+    private Node findBestSibling(final Node leaf) {
+        Node node = root;
+        while (!node.isLeaf()) {
+            final double combinedPerimeter = node.combinedPerimeter(leaf);
+            final double cost = 2 * combinedPerimeter;
+            final double inheritanceCost = 2 * (combinedPerimeter - node.perimeter());
+            final double leftCost = descendCost(node.left, leaf) + inheritanceCost;
+            final double rightCost = descendCost(node.right, leaf) + inheritanceCost;
+            if (cost < leftCost && cost < rightCost) {
+                return node;
+            }
+            node = leftCost < rightCost ? node.left : node.right;
+        }
+        return node;
+    }
+
+    private static double descendCost(final Node child, final Node leaf) {
+        final double combinedPerimeter = child.combinedPerimeter(leaf);
+        return child.isLeaf() ? combinedPerimeter : combinedPerimeter - child.perimeter();
+    }
+
+    private void removeLeaf(final Node leaf) {
+        if (leaf == root) {
+            root = null;
+            return;
+        }
+        final Node parent = leaf.parent;
+        final Node grandParent = parent.parent;
+        final Node sibling = parent.left == leaf ? parent.right : parent.left;
+        sibling.parent = grandParent;
+        if (isNull(grandParent)) {
+            root = sibling;
+        } else {
+            grandParent.replaceChild(parent, sibling);
+            refitAncestors(grandParent);
+        }
+        leaf.parent = null;
+    }
+
+    private void refitAncestors(final Node start) {
+        Node node = start;
+        while (nonNull(node)) {
+            node = balance(node);
+            node.fitChildren();
+            node = node.parent;
+        }
+    }
+
+    private Node balance(final Node a) {
+        if (a.isLeaf() || a.height < 2) {
+            return a;
+        }
+        final Node b = a.left;
+        final Node c = a.right;
+        final int balance = c.height - b.height;
+        if (balance > 1) {
+            return rotateUp(a, c, b, false);
+        }
+        if (balance < -1) {
+            return rotateUp(a, b, c, true);
+        }
+        return a;
+    }
+
+    // moves the higher child of a one level up and moves a down
+    private Node rotateUp(final Node a, final Node higher, final Node other, final boolean isLeft) {
+        final Node first = higher.left;
+        final Node second = higher.right;
+        higher.left = a;
+        higher.parent = a.parent;
+        a.parent = higher;
+        if (isNull(higher.parent)) {
+            root = higher;
+        } else {
+            higher.parent.replaceChild(a, higher);
+        }
+        final Node kept = first.height > second.height ? first : second;
+        final Node moved = kept == first ? second : first;
+        higher.right = kept;
+        if (isLeft) {
+            a.left = moved;
+            a.right = other;
+        } else {
+            a.left = other;
+            a.right = moved;
+        }
+        moved.parent = a;
+        a.fitChildren();
+        higher.fitChildren();
+        return higher;
+    }
+}
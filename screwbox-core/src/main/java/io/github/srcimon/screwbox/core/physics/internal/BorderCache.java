@@ -0,0 +1,39 @@
+package io.github.srcimon.screwbox.core.physics.internal;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Line;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.physics.StaticColliderComponent;
+import io.github.srcimon.screwbox.core.physics.Borders;
+
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static java.util.Objects.nonNull;
+
+public class BorderCache {
+
+    private record CachedBorders(Bounds bounds, Borders borders, List<Line> lines) {
+    }
+
+    private final Map<Entity, CachedBorders> cache = new WeakHashMap<>();
+
+    public synchronized List<Line> linesOf(final Entity entity, final Borders borders) {
+        final Bounds bounds = entity.bounds();
+        if (!entity.hasComponent(StaticColliderComponent.class)) {
+            return borders.extractFrom(bounds);
+        }
+        final CachedBorders cached = cache.get(entity);
+        if (nonNull(cached) && cached.borders == borders && cached.bounds.equals(bounds)) {
+            return cached.lines;
+        }
+        final List<Line> lines = borders.extractFrom(bounds);
+        cache.put(entity, new CachedBorders(bounds, borders, lines));
+        return lines;
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.srcimon.screwbox.core.physics.internal;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Line;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.physics.Broadphase;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public abstract class BroadphaseIndex<T extends BroadphaseIndex.Entry> implements Broadphase {
+
+    public static class Entry {
+        protected final Entity entity;
+        long generation;
+        Bounds indexedBounds;
+
+        protected Entry(final Entity entity) {
+            this.entity = entity;
+        }
+    }
+
+    private static final int MAX_TRACKED_CHANGES = 1024;
+
+    private final Map<Entity, T> entries = new IdentityHashMap<>();
+    private final List<Bounds> changedAreas = new ArrayList<>();
+    private long generation;
+    private long version;
+    private long firstTrackedVersion;
+
+    public BroadphaseIndex<T> update(final List<Entity> entities) {
+        generation++;
+        for (final var entity : entities) {
+            T entry = entries.get(entity);
+            if (isNull(entry)) {
+                entry = insert(entity);
+                entry.indexedBounds = entity.bounds();
+                entries.put(entity, entry);
+                trackChange(entry.indexedBounds);
+            } else {
+                moveIfChanged(entry);
+            }
+            entry.generation = generation;
+        }
+        if (entries.size() > entities.size()) {
+            final var iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                final T entry = iterator.next();
+                if (entry.generation != generation) {
+                    remove(entry);
+                    iterator.remove();
+                    trackChange(entry.indexedBounds);
+                }
+            }
+        }
+        return this;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    // consumes the areas of all changes after the specified version, returns false if these are not tracked anymore
+    public boolean forEachChangeSince(final long sinceVersion, final Consumer<Bounds> consumer) {
+        if (sinceVersion < firstTrackedVersion || sinceVersion > version) {
+            return false;
+        }
+        for (int i = (int) (sinceVersion - firstTrackedVersion); i < changedAreas.size(); i++) {
+            consumer.accept(changedAreas.get(i));
+        }
+        return true;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public List<Entity> findCandidates(final Bounds area) {
+        final List<Entity> candidates = new ArrayList<>();
+        forEachCandidate(area, candidates::add);
+        return candidates;
+    }
+
+    @Override
+    public List<Entity> findCandidates(final Line ray) {
+        final List<Entity> candidates = new ArrayList<>();
+        forEachCandidate(ray, candidates::add);
+        return candidates;
+    }
+
+    @Override
+    public boolean contains(final Entity entity) {
+        return entries.containsKey(entity);
+    }
+
+    @Override
+    public BroadphaseIndex<T> refresh(final Entity entity) {
+        final T entry = entries.get(entity);
+        if (nonNull(entry)) {
+            moveIfChanged(entry);
+        }
+        return this;
+    }
+
+    // bounds are immutable, so unchanged references identify entities that haven't moved since the last sync
+    private void moveIfChanged(final T entry) {
+        final Bounds bounds = entry.entity.bounds();
+        if (entry.indexedBounds != bounds) {
+            move(entry);
+            trackChange(entry.indexedBounds);
+            trackChange(bounds);
+            entry.indexedBounds = bounds;
+        }
+    }
+
+    private void trackChange(final Bounds area) {
+        version++;
+        if (changedAreas.size() == MAX_TRACKED_CHANGES) {
+            changedAreas.clear();
+            firstTrackedVersion = version;
+        } else {
+            changedAreas.add(area);
+        }
+    }
+
+    protected Collection<T> entries() {
+        return entries.values();
+    }
+
+    protected abstract T insert(Entity entity);
+
+    protected abstract void move(T entry);
+
+    protected abstract void remove(T entry);
+}
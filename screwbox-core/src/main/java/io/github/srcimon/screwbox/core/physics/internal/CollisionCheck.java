@@ -15,6 +15,7 @@ public final class CollisionCheck implements Comparable<CollisionCheck> {
     private final Bounds colliderBounds;
     private final ColliderComponent colliderComponent;
     private final PhysicsComponent physicsComponent;
+    private Vector impactNormal = Vector.zero();
 
     public CollisionCheck(final Entity physics, final Entity collider) {
         this.colliderBounds = collider.bounds();
@@ -68,6 +69,46 @@ public final class CollisionCheck implements Comparable<CollisionCheck> {
         return physics.bounds().overlapArea(colliderBounds);
     }
 
+    // swept aabb test: returns the fraction of the movement until the bodies touch or infinity when not colliding
+    public double timeOfImpact(final Vector movement) {
+        final Bounds bounds = physicsBounds();
+        final double entryX = entryTime(movement.x(), bounds.minX(), bounds.maxX(), colliderBounds.minX(), colliderBounds.maxX());
+        final double entryY = entryTime(movement.y(), bounds.minY(), bounds.maxY(), colliderBounds.minY(), colliderBounds.maxY());
+        final double exitX = exitTime(movement.x(), bounds.minX(), bounds.maxX(), colliderBounds.minX(), colliderBounds.maxX());
+        final double exitY = exitTime(movement.y(), bounds.minY(), bounds.maxY(), colliderBounds.minY(), colliderBounds.maxY());
+        final double entry = Math.max(entryX, entryY);
+        // negative entry times are already intersecting bodies that are resolved by overlap
+        if (entry > Math.min(exitX, exitY) || entry < 0 || entry >= 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        impactNormal = entryX > entryY
+                ? Vector.x(-Math.signum(movement.x()))
+                : Vector.y(-Math.signum(movement.y()));
+        return entry;
+    }
+
+    public Vector impactNormal() {
+        return impactNormal;
+    }
+
+    private static double entryTime(final double movement, final double min, final double max, final double colliderMin, final double colliderMax) {
+        if (movement == 0) {
+            return min < colliderMax && max > colliderMin ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        return movement > 0
+                ? (colliderMin - max) / movement
+                : (colliderMax - min) / movement;
+    }
+
+    private static double exitTime(final double movement, final double min, final double max, final double colliderMin, final double colliderMax) {
+        if (movement == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return movement > 0
+                ? (colliderMax - min) / movement
+                : (colliderMin - max) / movement;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(collider, physics);
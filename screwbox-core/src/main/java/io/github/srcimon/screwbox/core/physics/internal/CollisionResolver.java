@@ -20,6 +20,15 @@ public final class CollisionResolver {
         check.movePhysics(correction);
     }
 
+    public static void resolveImpact(final CollisionCheck check, final double updateFactor) {
+        final Vector normal = check.impactNormal();
+        if (normal.x() == 0) {
+            reactOnVerticalCollision(check, updateFactor);
+        } else {
+            reactOnHorizontalCollision(check, normal);
+        }
+    }
+
     private static Vector getResolveVector(final CollisionCheck check) {
         final var colliderBounds = check.colliderBounds();
         final var entityBounds = check.physicsBounds();
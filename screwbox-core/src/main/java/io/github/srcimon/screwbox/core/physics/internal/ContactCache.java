@@ -0,0 +1,119 @@
+package io.github.srcimon.screwbox.core.physics.internal;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.physics.Broadphase;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+// keeps the contacts of every sensor and only updates sensors that have been moved or are near changed colliders
+public class ContactCache {
+
+    private static final double SENSOR_EXPANSION = 0.001;
+
+    @FunctionalInterface
+    public interface ContactListener {
+
+        void contactsUpdated(Entity sensor, List<Entity> contacts, List<Entity> began, List<Entity> ended);
+    }
+
+    private static final class SensorState {
+        private List<Entity> contacts = List.of();
+        private Bounds bounds;
+        private boolean isDirty = true;
+        private boolean hasOneWayCandidates;
+        private long generation;
+    }
+
+    private final Map<Entity, SensorState> sensors = new IdentityHashMap<>();
+    private Broadphase colliders;
+    private long colliderVersion;
+    private long generation;
+
+    public void update(final List<Entity> sensorEntities, final Broadphase colliders, final Broadphase sensorIndex,
+                       final ContactListener listener) {
+        generation++;
+        final boolean isFullUpdate = !isTrackingChanges(colliders, sensorIndex);
+        for (final var sensor : sensorEntities) {
+            SensorState state = sensors.get(sensor);
+            if (isNull(state)) {
+                state = new SensorState();
+                sensors.put(sensor, state);
+            }
+            // one way collisions depend on the momentum of the sensor, so these can't be cached
+            if (isFullUpdate || state.isDirty || state.hasOneWayCandidates || state.bounds != sensor.bounds()) {
+                updateContacts(sensor, state, colliders, listener);
+            }
+            state.generation = generation;
+        }
+        if (sensors.size() > sensorEntities.size()) {
+            sensors.values().removeIf(state -> state.generation != generation);
+        }
+    }
+
+    public void invalidate(final Entity sensor) {
+        final SensorState state = sensors.get(sensor);
+        if (nonNull(state)) {
+            state.isDirty = true;
+        }
+    }
+
+    public int size() {
+        return sensors.size();
+    }
+
+    private boolean isTrackingChanges(final Broadphase colliders, final Broadphase sensorIndex) {
+        if (colliders != this.colliders || !(colliders instanceof BroadphaseIndex<?> index)) {
+            this.colliders = colliders;
+            colliderVersion = colliders instanceof BroadphaseIndex<?> trackingIndex ? trackingIndex.version() : 0;
+            return false;
+        }
+        final boolean isTracked = index.forEachChangeSince(colliderVersion, area ->
+                sensorIndex.forEachCandidate(area.expand(SENSOR_EXPANSION), sensor -> {
+                    final SensorState state = sensors.get(sensor);
+                    if (nonNull(state)) {
+                        state.isDirty = true;
+                    }
+                }));
+        colliderVersion = index.version();
+        return isTracked;
+    }
+
+    private void updateContacts(final Entity sensor, final SensorState state, final Broadphase colliders,
+                                final ContactListener listener) {
+        final Bounds sensorBounds = sensor.bounds().expand(SENSOR_EXPANSION);
+        final List<Entity> contacts = new ArrayList<>();
+        state.hasOneWayCandidates = false;
+        for (final var collider : colliders.findCandidates(sensorBounds)) {
+            if (sensor != collider && sensorBounds.intersects(collider.bounds())) {
+                final var check = new CollisionCheck(sensor, collider);
+                state.hasOneWayCandidates |= check.colliderComponent().isOneWay;
+                if (check.isNoOneWayFalsePositive()) {
+                    contacts.add(collider);
+                }
+            }
+        }
+        final List<Entity> began = new ArrayList<>();
+        for (final var contact : contacts) {
+            if (!state.contacts.contains(contact)) {
+                began.add(contact);
+            }
+        }
+        final List<Entity> ended = new ArrayList<>();
+        for (final var contact : state.contacts) {
+            if (!contacts.contains(contact)) {
+                ended.add(contact);
+            }
+        }
+        state.contacts = contacts;
+        state.bounds = sensor.bounds();
+        state.isDirty = false;
+        listener.contactsUpdated(sensor, contacts, began, ended);
+    }
+}
@@ -1,10 +1,14 @@
 package io.github.srcimon.screwbox.core.physics.internal;
 
 import io.github.srcimon.screwbox.core.*;
+import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.physics.BroadphaseConfigurationComponent;
 import io.github.srcimon.screwbox.core.physics.*;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.util.Objects.isNull;
@@ -13,7 +17,13 @@ import static java.util.Optional.ofNullable;
 
 public class DefaultPhysics implements Physics {
 
+    private static final BroadphaseConfigurationComponent DEFAULT_BROADPHASE_CONFIGURATION =
+            new BroadphaseConfigurationComponent(BroadphaseConfigurationComponent.Strategy.SPATIAL_HASH);
+
     private final Engine engine;
+    private final Map<Archetype, BroadphaseIndex<?>> broadphases = new HashMap<>();
+    private final BorderCache borderCache = new BorderCache();
+    private BroadphaseConfigurationComponent broadphaseConfiguration = DEFAULT_BROADPHASE_CONFIGURATION;
 
     private PathfindingAlgorithm algorithm = new AStarAlgorithm();
 
@@ -25,17 +35,34 @@ public class DefaultPhysics implements Physics {
 
     @Override
     public RaycastBuilder raycastFrom(final Vector position) {
-        return new RaycastBuilder(engine.environment(), position);
+        return new RaycastBuilder(this, engine.environment(), position);
+    }
+
+    public BorderCache borderCache() {
+        return borderCache;
     }
 
     @Override
     public SelectEntityBuilder searchAtPosition(final Vector position) {
-        return new SelectEntityBuilder(engine.environment(), position);
+        return new SelectEntityBuilder(this, engine.environment(), position);
     }
 
     @Override
     public SelectEntityBuilder searchInRange(final Bounds range) {
-        return new SelectEntityBuilder(engine.environment(), range);
+        return new SelectEntityBuilder(this, engine.environment(), range);
+    }
+
+    @Override
+    public Broadphase broadphase(final Archetype archetype) {
+        requireNonNull(archetype, "archetype must not be null");
+        final var configuration = engine.environment().tryFetchSingletonComponent(BroadphaseConfigurationComponent.class)
+                .orElse(DEFAULT_BROADPHASE_CONFIGURATION);
+        if (configuration != broadphaseConfiguration) {
+            broadphases.clear();
+            broadphaseConfiguration = configuration;
+        }
+        return broadphases.computeIfAbsent(archetype, key -> createBroadphase(configuration))
+                .update(engine.environment().fetchAll(archetype));
     }
 
     @Override
@@ -103,6 +130,13 @@ public class DefaultPhysics implements Physics {
         return algorithm;
     }
 
+    private static BroadphaseIndex<?> createBroadphase(final BroadphaseConfigurationComponent configuration) {
+        return switch (configuration.strategy) {
+            case SPATIAL_HASH -> new SpatialHash(configuration.cellSize);
+            case AABB_TREE -> new AabbTree(configuration.margin);
+        };
+    }
+
     private void checkGridPresent() {
         if (isNull(grid)) {
             throw new IllegalStateException("no grid present");
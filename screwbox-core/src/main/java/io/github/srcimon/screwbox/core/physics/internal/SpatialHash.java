@@ -0,0 +1,195 @@
+package io.github.srcimon.screwbox.core.physics.internal;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Line;
+import io.github.srcimon.screwbox.core.environment.Entity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static io.github.srcimon.screwbox.core.utils.Validate.positive;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class SpatialHash extends BroadphaseIndex<SpatialHash.Item> {
+
+    private static final int MAX_CELLS_PER_ITEM = 256;
+
+    protected static final class Item extends BroadphaseIndex.Entry {
+        private int minX;
+        private int minY;
+        private int maxX;
+        private int maxY;
+        private boolean isOversized;
+
+        private Item(final Entity entity) {
+            super(entity);
+        }
+
+        private boolean covers(final int x, final int y) {
+            return x >= minX && x <= maxX && y >= minY && y <= maxY;
+        }
+    }
+
+    private final double cellSize;
+    private final Map<Long, List<Item>> cells = new HashMap<>();
+    private final List<Item> oversizedItems = new ArrayList<>();
+
+    public SpatialHash(final double cellSize) {
+        positive(cellSize, "cell size must be positive");
+        this.cellSize = cellSize;
+    }
+
+    @Override
+    public void forEachCandidate(final Bounds area, final Consumer<Entity> consumer) {
+        final int minX = cell(area.minX());
+        final int minY = cell(area.minY());
+        final int maxX = cell(area.maxX());
+        final int maxY = cell(area.maxY());
+        if (cellCount(minX, minY, maxX, maxY) > Math.max(cells.size(), MAX_CELLS_PER_ITEM)) {
+            for (final var item : entries()) {
+                consumer.accept(item.entity);
+            }
+            return;
+        }
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                final List<Item> cell = cells.get(key(x, y));
+                if (isNull(cell)) {
+                    continue;
+                }
+                for (final var item : cell) {
+                    // items covering multiple cells are only reported from the first cell shared with the area
+                    if (x == Math.max(item.minX, minX) && y == Math.max(item.minY, minY)) {
+                        consumer.accept(item.entity);
+                    }
+                }
+            }
+        }
+        for (final var item : oversizedItems) {
+            consumer.accept(item.entity);
+        }
+    }
+
+    // walks all cells crossed by the ray using a digital differential analyzer
+    @Override
+    public void forEachCandidate(final Line ray, final Consumer<Entity> consumer) {
+        final double fromX = ray.from().x();
+        final double fromY = ray.from().y();
+        final double deltaX = ray.to().x() - fromX;
+        final double deltaY = ray.to().y() - fromY;
+        int x = cell(fromX);
+        int y = cell(fromY);
+        final int endX = cell(ray.to().x());
+        final int endY = cell(ray.to().y());
+        final double cellsOnRay = Math.abs((double) endX - x) + Math.abs((double) endY - y) + 1;
+        if (cellsOnRay > Math.max(cells.size(), MAX_CELLS_PER_ITEM)) {
+            for (final var item : entries()) {
+                consumer.accept(item.entity);
+            }
+            return;
+        }
+        final int stepX = Integer.signum(endX - x);
+        final int stepY = Integer.signum(endY - y);
+        double nextX = stepX == 0 ? Double.MAX_VALUE : ((stepX > 0 ? x + 1 : x) * cellSize - fromX) / deltaX;
+        double nextY = stepY == 0 ? Double.MAX_VALUE : ((stepY > 0 ? y + 1 : y) * cellSize - fromY) / deltaY;
+        final double stepDistanceX = stepX == 0 ? 0 : cellSize / Math.abs(deltaX);
+        final double stepDistanceY = stepY == 0 ? 0 : cellSize / Math.abs(deltaY);
+        int previousX = x - stepX;
+        int previousY = y - stepY;
+        for (int i = 0; i < cellsOnRay; i++) {
+            final List<Item> cell = cells.get(key(x, y));
+            if (nonNull(cell)) {
+                for (final var item : cell) {
+                    // items covering multiple cells are only reported from the first crossed cell
+                    if (i == 0 || !item.covers(previousX, previousY)) {
+                        consumer.accept(item.entity);
+                    }
+                }
+            }
+            previousX = x;
+            previousY = y;
+            if (x != endX && (y == endY || nextX < nextY)) {
+                x += stepX;
+                nextX += stepDistanceX;
+            } else {
+                y += stepY;
+                nextY += stepDistanceY;
+            }
+        }
+        for (final var item : oversizedItems) {
+            consumer.accept(item.entity);
+        }
+    }
+
+    @Override
+    protected Item insert(final Entity entity) {
+        final var item = new Item(entity);
+        add(item, entity.bounds());
+        return item;
+    }
+
+    // entities are only moved between cells when the range of covered cells has changed
+    @Override
+    protected void move(final Item item) {
+        final Bounds bounds = item.entity.bounds();
+        final int minX = cell(bounds.minX());
+        final int minY = cell(bounds.minY());
+        final int maxX = cell(bounds.maxX());
+        final int maxY = cell(bounds.maxY());
+        if (minX != item.minX || minY != item.minY || maxX != item.maxX || maxY != item.maxY) {
+            remove(item);
+            add(item, bounds);
+        }
+    }
+
+    @Override
+    protected void remove(final Item item) {
+        if (item.isOversized) {
+            oversizedItems.remove(item);
+            return;
+        }
+        for (int x = item.minX; x <= item.maxX; x++) {
+            for (int y = item.minY; y <= item.maxY; y++) {
+                final long key = key(x, y);
+                final List<Item> cell = cells.get(key);
+                cell.remove(item);
+                if (cell.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+    }
+
+    private void add(final Item item, final Bounds bounds) {
+        item.minX = cell(bounds.minX());
+        item.minY = cell(bounds.minY());
+        item.maxX = cell(bounds.maxX());
+        item.maxY = cell(bounds.maxY());
+        item.isOversized = cellCount(item.minX, item.minY, item.maxX, item.maxY) > MAX_CELLS_PER_ITEM;
+        if (item.isOversized) {
+            oversizedItems.add(item);
+            return;
+        }
+        for (int x = item.minX; x <= item.maxX; x++) {
+            for (int y = item.minY; y <= item.maxY; y++) {
+                cells.computeIfAbsent(key(x, y), key -> new ArrayList<>()).add(item);
+            }
+        }
+    }
+
+    private int cell(final double value) {
+        return (int) Math.floor(value / cellSize);
+    }
+
+    private static double cellCount(final int minX, final int minY, final int maxX, final int maxY) {
+        return ((double) maxX - minX + 1) * ((double) maxY - minY + 1);
+    }
+
+    private static long key(final int x, final int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+}
@@ -4,6 +4,7 @@ import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.Time;
 import io.github.srcimon.screwbox.core.environment.Environment;
 import io.github.srcimon.screwbox.core.environment.internal.DefaultEnvironment;
+import io.github.srcimon.screwbox.core.environment.internal.SavegameCatalog;
 import io.github.srcimon.screwbox.core.graphics.Canvas;
 import io.github.srcimon.screwbox.core.loop.internal.Updatable;
 import io.github.srcimon.screwbox.core.scenes.DefaultLoadingScene;
@@ -22,6 +23,7 @@ import static java.util.Objects.requireNonNull;
 public class DefaultScenes implements Scenes, Updatable {
 
     private final Map<Class<? extends Scene>, SceneData> sceneData = new HashMap<>();
+    private final SavegameCatalog savegameCatalog = new SavegameCatalog();
     private final Executor executor;
     private final Engine engine;
     private final Canvas canvas;
@@ -201,7 +203,7 @@ public class DefaultScenes implements Scenes, Updatable {
     }
 
     private SceneData createSceneData(final Scene scene) {
-        final var sceneEnvironment = new DefaultEnvironment(engine);
+        final var sceneEnvironment = new DefaultEnvironment(engine, executor, savegameCatalog);
         return new SceneData(scene, sceneEnvironment);
     }
 }
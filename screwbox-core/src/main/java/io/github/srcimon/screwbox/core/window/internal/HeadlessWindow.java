@@ -0,0 +1,132 @@
+package io.github.srcimon.screwbox.core.window.internal;
+
+import io.github.srcimon.screwbox.core.graphics.GraphicsConfiguration;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.Size;
+import io.github.srcimon.screwbox.core.graphics.Sprite;
+import io.github.srcimon.screwbox.core.graphics.internal.renderer.StandbyProxyRenderer;
+import io.github.srcimon.screwbox.core.loop.internal.Updatable;
+import io.github.srcimon.screwbox.core.window.FilesDropedOnWindow;
+import io.github.srcimon.screwbox.core.window.MouseCursor;
+import io.github.srcimon.screwbox.core.window.Window;
+
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+public class HeadlessWindow implements Window, Updatable {
+
+    private final GraphicsConfiguration configuration;
+    private final StandbyProxyRenderer renderer;
+    private String title = "";
+    private Offset position = Offset.origin();
+    private boolean isOpen = false;
+
+    public HeadlessWindow(final GraphicsConfiguration configuration, final StandbyProxyRenderer renderer) {
+        this.configuration = configuration;
+        this.renderer = renderer;
+    }
+
+    @Override
+    public Offset position() {
+        return position;
+    }
+
+    @Override
+    public boolean hasFocus() {
+        return isOpen;
+    }
+
+    @Override
+    public Window open() {
+        if (!isOpen) {
+            isOpen = true;
+            renderer.toggle();
+        }
+        return this;
+    }
+
+    @Override
+    public Window close() {
+        if (isOpen) {
+            isOpen = false;
+            renderer.toggle();
+        }
+        return this;
+    }
+
+    @Override
+    public Window setTitle(final String title) {
+        this.title = requireNonNull(title, "title must not be null");
+        return this;
+    }
+
+    @Override
+    public Window moveTo(final Offset position) {
+        if (configuration.isFullscreen()) {
+            throw new IllegalStateException("cannot move Window in fullscreen");
+        }
+        this.position = requireNonNull(position, "position must not be null");
+        return this;
+    }
+
+    @Override
+    public Optional<FilesDropedOnWindow> filesDropedOnWindow() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Window setCursor(final MouseCursor cursor) {
+        return this;
+    }
+
+    @Override
+    public Window setWindowCursor(final MouseCursor cursor) {
+        return this;
+    }
+
+    @Override
+    public Window setFullscreenCursor(final MouseCursor cursor) {
+        return this;
+    }
+
+    @Override
+    public Window setCursor(final Sprite cursor) {
+        return this;
+    }
+
+    @Override
+    public Window setFullscreenCursor(final Sprite cursor) {
+        return this;
+    }
+
+    @Override
+    public Window setWindowCursor(final Sprite cursor) {
+        return this;
+    }
+
+    @Override
+    public Window setApplicationIcon(final Sprite icon) {
+        return this;
+    }
+
+    @Override
+    public String title() {
+        return title;
+    }
+
+    @Override
+    public Size size() {
+        return configuration.resolution();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return isOpen;
+    }
+
+    @Override
+    public void update() {
+        // nothing to update without a window
+    }
+}
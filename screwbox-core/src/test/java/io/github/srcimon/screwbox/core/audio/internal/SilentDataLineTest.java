@@ -0,0 +1,64 @@
+package io.github.srcimon.screwbox.core.audio.internal;
+
+import io.github.srcimon.screwbox.core.Percent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.FloatControl;
+
+import static javax.sound.sampled.AudioFormat.Encoding.PCM_SIGNED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SilentDataLineTest {
+
+    private static final AudioFormat FORMAT = new AudioFormat(PCM_SIGNED, 44100, 16, 2, 4, 44100, false);
+
+    SilentDataLine line;
+
+    @BeforeEach
+    void beforeEach() {
+        line = (SilentDataLine) new HeadlessAudioAdapter().createSourceLine(FORMAT);
+    }
+
+    @Test
+    void createSourceLine_returnsStartedLine() {
+        assertThat(line.isOpen()).isTrue();
+        assertThat(line.isRunning()).isTrue();
+        assertThat(line.getFormat()).isEqualTo(FORMAT);
+    }
+
+    @Test
+    void write_someBytes_consumesAllBytes() {
+        int written = line.write(new byte[400], 0, 400);
+
+        assertThat(written).isEqualTo(400);
+        assertThat(line.getLongFramePosition()).isEqualTo(100);
+    }
+
+    @Test
+    void read_someBytes_returnsSilence() {
+        byte[] buffer = new byte[]{1, 2, 3, 4};
+
+        int read = line.read(buffer, 0, 4);
+
+        assertThat(read).isEqualTo(4);
+        assertThat(buffer).containsOnly(0);
+    }
+
+    @Test
+    void getControl_volumeAndPan_canBeUsedToAdjustLine() {
+        AudioAdapter.setVolume(line, Percent.half());
+        AudioAdapter.setPan(line, -0.5);
+
+        assertThat(((FloatControl) line.getControl(FloatControl.Type.PAN)).getValue()).isEqualTo(-0.5f);
+    }
+
+    @Test
+    void getControl_unsupportedControl_throwsException() {
+        assertThatThrownBy(() -> line.getControl(FloatControl.Type.SAMPLE_RATE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("unsupported control type: Sample Rate");
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.srcimon.screwbox.core.environment;
+
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.environment.physics.ColliderComponent;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArchetypeTest {
+
+    @Test
+    void of_sameComponentsInDifferentOrder_returnsSameInstance() {
+        var archetype = Archetype.of(PhysicsComponent.class, ColliderComponent.class);
+        var other = Archetype.of(ColliderComponent.class, PhysicsComponent.class);
+
+        assertThat(archetype).isSameAs(other);
+    }
+
+    @Test
+    void of_differentComponents_returnsDifferentInstances() {
+        var archetype = Archetype.of(PhysicsComponent.class, ColliderComponent.class);
+        var other = Archetype.of(PhysicsComponent.class);
+
+        assertThat(archetype).isNotEqualTo(other);
+    }
+
+    @Test
+    void ofSpacial_returnsSameInstanceAsOfWithTransformComponent() {
+        var archetype = Archetype.ofSpacial(PhysicsComponent.class);
+        var other = Archetype.of(TransformComponent.class, PhysicsComponent.class);
+
+        assertThat(archetype).isSameAs(other);
+    }
+
+    @Test
+    void matches_entityHasAllComponents_isTrue() {
+        var entity = new Entity().add(new PhysicsComponent(), new ColliderComponent(), new TransformComponent());
+
+        assertThat(Archetype.of(PhysicsComponent.class, ColliderComponent.class).matches(entity)).isTrue();
+    }
+
+    @Test
+    void matches_entityMissesComponent_isFalse() {
+        var entity = new Entity().add(new PhysicsComponent());
+
+        assertThat(Archetype.of(PhysicsComponent.class, ColliderComponent.class).matches(entity)).isFalse();
+    }
+
+    @Test
+    void contains_componentPartOfArchetype_isTrue() {
+        var archetype = Archetype.of(PhysicsComponent.class, ColliderComponent.class);
+
+        assertThat(archetype.contains(ColliderComponent.class)).isTrue();
+        assertThat(archetype.contains(TransformComponent.class)).isFalse();
+    }
+
+    @Test
+    void with_additionalComponent_returnsSameInstanceAsOf() {
+        var archetype = Archetype.of(PhysicsComponent.class).with(ColliderComponent.class);
+
+        assertThat(archetype).isSameAs(Archetype.of(ColliderComponent.class, PhysicsComponent.class));
+    }
+
+    @Test
+    void with_componentAlreadyContained_returnsSameArchetype() {
+        var archetype = Archetype.of(PhysicsComponent.class, ColliderComponent.class);
+
+        assertThat(archetype.with(PhysicsComponent.class)).isSameAs(archetype);
+    }
+
+    @Test
+    void deserialize_returnsInternedInstance() throws Exception {
+        var archetype = Archetype.of(PhysicsComponent.class, ColliderComponent.class);
+        var bytes = new ByteArrayOutputStream();
+        try (var outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeObject(archetype);
+        }
+
+        try (var inputStream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(inputStream.readObject()).isSameAs(archetype);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import io.github.srcimon.screwbox.core.environment.physics.ColliderComponent;
 import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.util.Optional;
@@ -16,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -189,6 +191,28 @@ class EntityTest {
         assertThat(entity.bounds()).isEqualTo($$(2, 12, 16, 16));
     }
 
+    @Test
+    void renderBounds_renderBoundsSet_returnsRenderBounds() {
+        var transform = new TransformComponent(10, 20, 16, 16);
+        entity.add(transform);
+
+        transform.setRenderBounds($$(0, 0, 16, 16));
+
+        assertThat(entity.renderBounds()).isEqualTo($$(0, 0, 16, 16));
+        assertThat(entity.bounds()).isEqualTo($$(2, 12, 16, 16));
+    }
+
+    @Test
+    void renderBounds_movedAfterSettingRenderBounds_returnsBounds() {
+        var transform = new TransformComponent(10, 20, 16, 16);
+        entity.add(transform);
+        transform.setRenderBounds($$(0, 0, 16, 16));
+
+        entity.moveTo($(19, 30));
+
+        assertThat(entity.renderBounds()).isEqualTo($$(11, 22, 16, 16));
+    }
+
     @Test
     void origin_hasTransform_returnsOrigin() {
         entity.add(new TransformComponent(10, 20, 16, 16));
@@ -279,4 +303,40 @@ class EntityTest {
         verify(listener).componentAdded(any());
         assertThat(entity.position()).isEqualTo($(10, 10));
     }
+
+    @Test
+    void unregisterListener_listenerRegistered_noLongerNotifiesListener() {
+        var listener = Mockito.mock(EntityListener.class);
+        entity.registerListener(listener);
+
+        entity.unregisterListener(listener);
+        entity.add(new PhysicsComponent());
+
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    void unregisterAllListeners_listenersRegistered_noLongerNotifiesListeners() {
+        var listener = Mockito.mock(EntityListener.class);
+        var otherListener = Mockito.mock(EntityListener.class);
+        entity.registerListener(listener);
+        entity.registerListener(otherListener);
+
+        entity.unregisterAllListeners();
+        entity.add(new PhysicsComponent());
+
+        verifyNoInteractions(listener, otherListener);
+    }
+
+    @Test
+    void add_multipleComponents_reusesEntityEvent() {
+        var listener = Mockito.mock(EntityListener.class);
+        entity.registerListener(listener);
+        var events = ArgumentCaptor.forClass(EntityEvent.class);
+
+        entity.add(new PhysicsComponent(), new ColliderComponent());
+
+        verify(listener, times(2)).componentAdded(events.capture());
+        assertThat(events.getAllValues().getFirst()).isSameAs(events.getAllValues().getLast());
+    }
 }
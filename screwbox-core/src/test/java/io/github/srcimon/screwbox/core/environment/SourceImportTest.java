@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -103,4 +104,17 @@ class SourceImportTest {
 
         assertThat(environment.entities()).hasSize(4);
     }
+
+    @Test
+    void parallel_multipleSources_addsEntitiesInOrderOfInputs(DefaultEnvironment environment) {
+        List<Integer> inputs = IntStream.range(0, 500).boxed().toList();
+
+        environment.importSource(inputs)
+                .parallel()
+                .as(Entity::new);
+
+        assertThat(environment.entities()).hasSize(500)
+                .extracting(entity -> entity.id().orElseThrow())
+                .containsExactlyElementsOf(inputs);
+    }
 }
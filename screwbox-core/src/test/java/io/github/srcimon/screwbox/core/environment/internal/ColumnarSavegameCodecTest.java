@@ -0,0 +1,139 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.environment.Component;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import static io.github.srcimon.screwbox.core.Bounds.$$;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnarSavegameCodecTest {
+
+    record NamedComponent(String value) implements Component {
+    }
+
+    static class CounterComponent implements Component {
+        int count;
+        transient int cached = 7;
+        List<String> tags = new ArrayList<>();
+    }
+
+    static class TargetComponent implements Component {
+        Entity target;
+        List<Entity> followers = new ArrayList<>();
+    }
+
+    ColumnarSavegameCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        codec = new ColumnarSavegameCodec(Deflater.BEST_SPEED);
+    }
+
+    @Test
+    void encode_anyEntities_writesHeader() throws IOException {
+        final var outputStream = new ByteArrayOutputStream();
+
+        codec.encode(List.of(new Entity()), outputStream);
+
+        assertThat(ColumnarSavegameCodec.hasHeader(outputStream.toByteArray())).isTrue();
+    }
+
+    @Test
+    void hasHeader_gzipHeader_isFalse() {
+        assertThat(ColumnarSavegameCodec.hasHeader(new byte[]{0x1f, (byte) 0x8b, 8, 0})).isFalse();
+    }
+
+    @Test
+    void decode_entitiesOfDifferentArchetypes_restoresOriginalOrder() throws IOException, ClassNotFoundException {
+        final var entities = List.of(
+                new Entity(1).add(new TransformComponent($$(0, 0, 16, 16))),
+                new Entity(2, "moving").add(new TransformComponent($$(20, 0, 16, 16)), new PhysicsComponent()),
+                new Entity(3),
+                new Entity(4).add(new TransformComponent($$(40, 0, 16, 16))));
+
+        final var result = encodeAndDecode(entities);
+
+        assertThat(result).extracting(entity -> entity.id().orElseThrow()).containsExactly(1, 2, 3, 4);
+        assertThat(result.get(1).name()).contains("moving");
+        assertThat(result.get(2).getAll()).isEmpty();
+    }
+
+    @Test
+    void decode_columnarComponents_restoresFieldValues() throws IOException, ClassNotFoundException {
+        final var physics = new PhysicsComponent(Vector.of(4, -2));
+        physics.gravityModifier = 0.5;
+        physics.ignoreOneWayCollisions = true;
+        final var counter = new CounterComponent();
+        counter.count = 12;
+        counter.cached = 99;
+        counter.tags.add("enemy");
+
+        final var result = encodeAndDecode(List.of(new Entity().add(new TransformComponent($$(10, 20, 30, 40)), physics, counter)));
+
+        final Entity entity = result.getFirst();
+        assertThat(entity.bounds()).isEqualTo($$(10, 20, 30, 40));
+        assertThat(entity.get(PhysicsComponent.class).momentum).isEqualTo(Vector.of(4, -2));
+        assertThat(entity.get(PhysicsComponent.class).gravityModifier).isEqualTo(0.5);
+        assertThat(entity.get(PhysicsComponent.class).ignoreOneWayCollisions).isTrue();
+        assertThat(entity.get(CounterComponent.class).count).isEqualTo(12);
+        assertThat(entity.get(CounterComponent.class).cached).isEqualTo(7);
+        assertThat(entity.get(CounterComponent.class).tags).containsExactly("enemy");
+    }
+
+    @Test
+    void decode_componentWithoutDefaultConstructor_restoresUsingSerialization() throws IOException, ClassNotFoundException {
+        final var result = encodeAndDecode(List.of(new Entity().add(new NamedComponent("boss"))));
+
+        assertThat(result.getFirst().get(NamedComponent.class).value()).isEqualTo("boss");
+    }
+
+    @Test
+    void decode_componentsReferenceEntities_restoresReferencesToDecodedEntities() throws IOException, ClassNotFoundException {
+        final var hunter = new TargetComponent();
+        final var prey = new Entity(2, "prey").add(new TransformComponent($$(0, 0, 16, 16)));
+        hunter.target = prey;
+        hunter.followers.add(prey);
+        final var entities = List.of(new Entity(1).add(hunter), prey);
+
+        final var result = encodeAndDecode(entities);
+
+        final var restoredHunter = result.getFirst().get(TargetComponent.class);
+        assertThat(restoredHunter.target).isSameAs(result.get(1));
+        assertThat(restoredHunter.followers).singleElement().isSameAs(result.get(1));
+        assertThat(result.get(1).id()).contains(2);
+        assertThat(result.get(1).name()).contains("prey");
+        assertThat(result.get(1).bounds()).isEqualTo($$(0, 0, 16, 16));
+    }
+
+    @Test
+    void decode_newerVersion_throwsException() throws IOException {
+        final var outputStream = new ByteArrayOutputStream();
+        codec.encode(List.of(new Entity()), outputStream);
+        final byte[] savegame = outputStream.toByteArray();
+        savegame[5] = (byte) (ColumnarSavegameCodec.VERSION + 1);
+
+        final var inputStream = new ByteArrayInputStream(savegame);
+        assertThatThrownBy(() -> codec.decode(inputStream))
+                .isInstanceOf(IOException.class)
+                .hasMessage("unsupported savegame version: " + (ColumnarSavegameCodec.VERSION + 1));
+    }
+
+    private List<Entity> encodeAndDecode(final List<Entity> entities) throws IOException, ClassNotFoundException {
+        final var outputStream = new ByteArrayOutputStream();
+        codec.encode(entities, outputStream);
+        return codec.decode(new ByteArrayInputStream(outputStream.toByteArray()));
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.environment.logic.SignalComponent;
+import io.github.srcimon.screwbox.core.environment.physics.ColliderComponent;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ComponentMaskTest {
+
+    @Test
+    void idOf_sameClass_returnsSameId() {
+        assertThat(ComponentMask.idOf(PhysicsComponent.class)).isEqualTo(ComponentMask.idOf(PhysicsComponent.class));
+    }
+
+    @Test
+    void idOf_differentClasses_returnsDifferentIds() {
+        assertThat(ComponentMask.idOf(PhysicsComponent.class)).isNotEqualTo(ComponentMask.idOf(ColliderComponent.class));
+    }
+
+    @Test
+    void contains_componentSet_isTrue() {
+        var mask = new ComponentMask();
+
+        mask.set(PhysicsComponent.class);
+
+        assertThat(mask.contains(PhysicsComponent.class)).isTrue();
+        assertThat(mask.contains(ColliderComponent.class)).isFalse();
+    }
+
+    @Test
+    void contains_componentCleared_isFalse() {
+        var mask = new ComponentMask(List.of(PhysicsComponent.class, ColliderComponent.class));
+
+        mask.clear(PhysicsComponent.class);
+
+        assertThat(mask.contains(PhysicsComponent.class)).isFalse();
+        assertThat(mask.contains(ColliderComponent.class)).isTrue();
+    }
+
+    @Test
+    void containsAll_otherIsSubset_isTrue() {
+        var mask = new ComponentMask(List.of(PhysicsComponent.class, ColliderComponent.class, TransformComponent.class));
+        var other = new ComponentMask(List.of(PhysicsComponent.class, TransformComponent.class));
+
+        assertThat(mask.containsAll(other)).isTrue();
+    }
+
+    @Test
+    void containsAll_otherHasAdditionalComponent_isFalse() {
+        var mask = new ComponentMask(List.of(PhysicsComponent.class, TransformComponent.class));
+        var other = new ComponentMask(List.of(PhysicsComponent.class, SignalComponent.class));
+
+        assertThat(mask.containsAll(other)).isFalse();
+    }
+
+    @Test
+    void containsAll_otherIsEmpty_isTrue() {
+        var mask = new ComponentMask();
+
+        assertThat(mask.containsAll(new ComponentMask())).isTrue();
+    }
+
+    @Test
+    void intersects_sharedComponent_isTrue() {
+        var mask = new ComponentMask(List.of(PhysicsComponent.class, TransformComponent.class));
+        var other = new ComponentMask(List.of(TransformComponent.class, SignalComponent.class));
+
+        assertThat(mask.intersects(other)).isTrue();
+    }
+
+    @Test
+    void intersects_noSharedComponent_isFalse() {
+        var mask = new ComponentMask(List.of(PhysicsComponent.class));
+        var other = new ComponentMask(List.of(SignalComponent.class));
+
+        assertThat(mask.intersects(other)).isFalse();
+    }
+
+    @Test
+    void equals_sameComponents_isTrue() {
+        var mask = new ComponentMask(List.of(PhysicsComponent.class, TransformComponent.class));
+        var other = new ComponentMask(List.of(TransformComponent.class, PhysicsComponent.class));
+
+        assertThat(mask).isEqualTo(other).hasSameHashCodeAs(other);
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.Component;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ComponentSchemaTest {
+
+    record NamedComponent(String value) implements Component {
+    }
+
+    static class LabelComponent implements Component {
+        final String label;
+
+        LabelComponent(final String label) {
+            this.label = label;
+        }
+    }
+
+    @Test
+    void of_componentWithDefaultConstructor_isColumnar() {
+        var schema = ComponentSchema.of(PhysicsComponent.class);
+
+        assertThat(schema.isColumnar()).isTrue();
+        assertThat(schema.field("momentum", ComponentSchema.TYPE_VECTOR)).isNotNull();
+        assertThat(schema.field("momentum", ComponentSchema.TYPE_DOUBLE)).isNull();
+    }
+
+    @Test
+    void of_componentWithoutDefaultConstructor_isNotColumnar() {
+        var schema = ComponentSchema.of(LabelComponent.class);
+
+        assertThat(schema.isColumnar()).isFalse();
+        assertThat(schema.fieldCount()).isZero();
+    }
+
+    @Test
+    void stateOf_columnarComponent_keepsValuesAndSerializesMutableValues() {
+        var component = new ColumnarSavegameCodecTest.TargetComponent();
+
+        var state = (Object[]) ComponentSchema.of(ColumnarSavegameCodecTest.TargetComponent.class).stateOf(component, value -> new byte[]{1});
+
+        assertThat(state).containsExactly(null, new byte[]{1});
+    }
+
+    @Test
+    void stateOf_record_returnsSameInstance() {
+        var component = new NamedComponent("immutable");
+
+        assertThat(ComponentSchema.of(NamedComponent.class).stateOf(component, value -> new byte[0])).isSameAs(component);
+    }
+
+    @Test
+    void stateOf_notColumnar_serializesComponent() {
+        var component = new LabelComponent("boss");
+
+        assertThat(ComponentSchema.of(LabelComponent.class).stateOf(component, value -> new byte[]{2})).isEqualTo(new byte[]{2});
+    }
+}
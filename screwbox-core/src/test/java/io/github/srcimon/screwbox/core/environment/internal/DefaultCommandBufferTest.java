@@ -0,0 +1,126 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.EntityChangeSet;
+import io.github.srcimon.screwbox.core.environment.logic.SignalComponent;
+import io.github.srcimon.screwbox.core.environment.physics.ColliderComponent;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DefaultCommandBufferTest {
+
+    private static final Archetype COLLIDERS = Archetype.of(ColliderComponent.class);
+
+    private EntityManager entityManager;
+    private DefaultCommandBuffer commandBuffer;
+
+    @BeforeEach
+    void beforeEach() {
+        entityManager = new EntityManager();
+        commandBuffer = new DefaultCommandBuffer();
+    }
+
+    @Test
+    void addEntity_entityNull_throwsException() {
+        assertThatThrownBy(() -> commandBuffer.addEntity((Entity) null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("entity must not be null");
+    }
+
+    @Test
+    void addEntity_notPlayedBack_doesntAddEntity() {
+        commandBuffer.addEntity(new PhysicsComponent());
+
+        assertThat(entityManager.allEntities()).isEmpty();
+        assertThat(commandBuffer.pendingCount()).isOne();
+    }
+
+    @Test
+    void playback_entitiesAdded_addsEntities() {
+        commandBuffer.addEntity(new PhysicsComponent()).addEntity(new Entity().add(new SignalComponent()));
+
+        commandBuffer.playback(entityManager);
+
+        assertThat(entityManager.allEntities()).hasSize(2);
+        assertThat(commandBuffer.pendingCount()).isZero();
+    }
+
+    @Test
+    void playback_entityAddedAndRemoved_doesntAddEntity() {
+        var entity = new Entity();
+        commandBuffer.addEntity(entity).remove(entity);
+
+        commandBuffer.playback(entityManager);
+
+        assertThat(entityManager.allEntities()).isEmpty();
+    }
+
+    @Test
+    void playback_entityRemoved_removesEntity() {
+        var entity = new Entity().add(new ColliderComponent());
+        entityManager.addEntity(entity);
+        commandBuffer.remove(entity);
+
+        commandBuffer.playback(entityManager);
+
+        assertThat(entityManager.allEntities()).isEmpty();
+        assertThat(entityManager.entitiesMatching(COLLIDERS)).isEmpty();
+    }
+
+    @Test
+    void playback_componentsChanged_refreshesArchetypeCaches() {
+        var entity = new Entity().add(new PhysicsComponent());
+        entityManager.addEntity(entity);
+        entityManager.entitiesMatching(COLLIDERS); // create cached request
+        commandBuffer.addComponent(entity, new ColliderComponent())
+                .removeComponent(entity, PhysicsComponent.class);
+
+        commandBuffer.playback(entityManager);
+
+        assertThat(entity.hasComponent(PhysicsComponent.class)).isFalse();
+        assertThat(entityManager.entitiesMatching(COLLIDERS)).containsExactly(entity);
+    }
+
+    @Test
+    void playback_componentAddedToNewEntity_addsEntityWithComponent() {
+        var entity = new Entity().add(new PhysicsComponent());
+        commandBuffer.addEntity(entity).addComponent(entity, new ColliderComponent());
+
+        commandBuffer.playback(entityManager);
+
+        assertThat(entityManager.entitiesMatching(COLLIDERS)).containsExactly(entity);
+    }
+
+    @Test
+    void playback_newEntityAddedAndRemoved_doesntReportChanges() {
+        List<EntityChangeSet> changes = new ArrayList<>();
+        entityManager.registerChangeListener(changes::add);
+        var entity = new Entity().add(new PhysicsComponent());
+        commandBuffer.addEntity(entity).remove(entity);
+
+        commandBuffer.playback(entityManager);
+        entityManager.deliverChanges();
+
+        assertThat(changes).isEmpty();
+    }
+
+    @Test
+    void playback_entityAlreadyManaged_doesntAddEntityTwice() {
+        var entity = new Entity().add(new ColliderComponent());
+        entityManager.addEntity(entity);
+        commandBuffer.addEntity(entity);
+
+        commandBuffer.playback(entityManager);
+
+        assertThat(entityManager.allEntities()).containsExactly(entity);
+        assertThat(entityManager.entitiesMatching(COLLIDERS)).containsExactly(entity);
+    }
+}
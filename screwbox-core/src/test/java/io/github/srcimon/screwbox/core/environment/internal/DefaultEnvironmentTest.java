@@ -4,12 +4,18 @@ import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.Vector;
 import io.github.srcimon.screwbox.core.environment.Archetype;
 import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.EntityChangeSet;
 import io.github.srcimon.screwbox.core.environment.Order;
+import io.github.srcimon.screwbox.core.environment.SavegameFormat;
+import io.github.srcimon.screwbox.core.environment.SavegameInfo;
+import io.github.srcimon.screwbox.core.environment.SavegameTask;
 import io.github.srcimon.screwbox.core.environment.audio.SoundSystem;
 import io.github.srcimon.screwbox.core.environment.core.QuitOnKeySystem;
 import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
 import io.github.srcimon.screwbox.core.environment.light.LightRenderSystem;
 import io.github.srcimon.screwbox.core.environment.light.OptimizeLightPerformanceSystem;
+import io.github.srcimon.screwbox.core.environment.light.ShadowCasterComponent;
+import io.github.srcimon.screwbox.core.environment.light.StaticShadowCasterComponent;
 import io.github.srcimon.screwbox.core.environment.logic.AreaTriggerSystem;
 import io.github.srcimon.screwbox.core.environment.logic.StateSystem;
 import io.github.srcimon.screwbox.core.environment.particles.ParticleBurstSystem;
@@ -28,6 +34,8 @@ import io.github.srcimon.screwbox.core.utils.Cache;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 
@@ -79,6 +87,19 @@ class DefaultEnvironmentTest {
                 .isInstanceOf(NullPointerException.class);
     }
 
+    @Test
+    void addEntities_listContainsNull_addsNoEntity() {
+        var entities = new ArrayList<Entity>();
+        entities.add(new Entity());
+        entities.add(null);
+
+        assertThatThrownBy(() -> environment.addEntities(entities))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("entity must not be null");
+
+        assertThat(environment.entities()).isEmpty();
+    }
+
     @Test
     void importSource_sourceNull_exception() {
         assertThatThrownBy(() -> environment.importSource((String) null))
@@ -117,6 +138,22 @@ class DefaultEnvironmentTest {
         assertThat(environment.entityCount(Archetype.of(TransformComponent.class))).isOne();
     }
 
+    @Test
+    void cachedEntityCount_archetypeNotFetchedBefore_isEmpty() {
+        environment.addEntity(new TransformComponent());
+
+        assertThat(environment.cachedEntityCount(Archetype.of(TransformComponent.class))).isEmpty();
+    }
+
+    @Test
+    void cachedEntityCount_archetypeFetchedBefore_returnsCount() {
+        environment.addEntity(new TransformComponent());
+        environment.fetchAll(Archetype.of(TransformComponent.class));
+        environment.addEntity(new TransformComponent());
+
+        assertThat(environment.cachedEntityCount(Archetype.of(TransformComponent.class))).hasValue(2);
+    }
+
     @Test
     void addEntity_freshEntity_addsEntity() {
         Entity freshEntity = new Entity();
@@ -268,6 +305,274 @@ class DefaultEnvironmentTest {
         assertThat(environment.tryFetchById(2)).isEmpty();
     }
 
+    @Test
+    void saveToFile_formatNull_throwsException() {
+        assertThatThrownBy(() -> environment.saveToFile(SAVEGAME_NAME, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("format must not be null");
+    }
+
+    @ParameterizedTest
+    @EnumSource(SavegameFormat.class)
+    void loadFromFile_savedUsingFormat_restoresEntities(final SavegameFormat format) {
+        environment.addEntity(1, "player", new TransformComponent($$(0, 0, 32, 32)), new PhysicsComponent(Vector.x(20)));
+        environment.saveToFile(SAVEGAME_NAME, format);
+        environment.clearEntities();
+
+        environment.loadFromFile(SAVEGAME_NAME);
+
+        final Entity player = environment.fetchById(1);
+        assertThat(player.name()).contains("player");
+        assertThat(player.bounds()).isEqualTo($$(0, 0, 32, 32));
+        assertThat(player.get(PhysicsComponent.class).momentum).isEqualTo(Vector.x(20));
+    }
+
+    @Test
+    void saveToFileAsync_outsideOfUpdate_writesSavegame() {
+        environment.addEntity(1, new TransformComponent($$(0, 0, 32, 32)));
+
+        SavegameTask task = environment.saveToFileAsync(SAVEGAME_NAME);
+
+        assertThat(task.isDone()).isTrue();
+        assertThat(task.failure()).isEmpty();
+        assertThat(task.name()).isEqualTo(SAVEGAME_NAME);
+        assertThat(environment.savegameFileExists(SAVEGAME_NAME)).isTrue();
+    }
+
+    @Test
+    void saveToFileAsync_duringUpdate_savesStateAtEndOfFrame() {
+        environment.addEntity(1, new TransformComponent($$(0, 0, 32, 32)));
+        environment.addSystem(Order.SystemOrder.PREPARATION, e -> environment.saveToFileAsync(SAVEGAME_NAME));
+        environment.addSystem(Order.SystemOrder.SIMULATION, e -> environment.fetchById(1).moveTo(Vector.of(100, 0)));
+        environment.update();
+        environment.fetchById(1).moveTo(Vector.of(200, 0));
+
+        final var loadedEnvironment = new DefaultEnvironment(engine).loadFromFile(SAVEGAME_NAME);
+
+        assertThat(loadedEnvironment.fetchById(1).position()).isEqualTo(Vector.of(100, 0));
+    }
+
+    @Test
+    void saveToFileAsync_usingExecutor_writesSnapshotInBackground() {
+        final List<Runnable> tasks = new ArrayList<>();
+        environment = new DefaultEnvironment(engine, tasks::add);
+        environment.addEntity(1, new TransformComponent($$(0, 0, 32, 32)));
+
+        SavegameTask task = environment.saveToFileAsync(SAVEGAME_NAME, SavegameFormat.BINARY_COMPACT);
+        environment.fetchById(1).moveTo(Vector.of(200, 0));
+
+        assertThat(task.isDone()).isFalse();
+        assertThat(SAVEGAME).doesNotExist();
+
+        tasks.forEach(Runnable::run);
+        environment.loadFromFile(SAVEGAME_NAME);
+
+        assertThat(task.isDone()).isTrue();
+        assertThat(environment.fetchById(1).position()).isEqualTo(Vector.of(16, 16));
+    }
+
+    @Test
+    void saveToFileAsync_newerSavegameCreatedBeforeWriting_keepsNewerSavegame() {
+        final List<Runnable> tasks = new ArrayList<>();
+        environment = new DefaultEnvironment(engine, tasks::add);
+        environment.addEntity(1, new TransformComponent($$(0, 0, 32, 32)));
+
+        SavegameTask task = environment.saveToFileAsync(SAVEGAME_NAME);
+        environment.fetchById(1).moveTo(Vector.of(200, 0));
+        environment.saveToFile(SAVEGAME_NAME);
+        tasks.forEach(Runnable::run);
+
+        assertThat(task.isDone()).isTrue();
+        assertThat(new DefaultEnvironment(engine).loadFromFile(SAVEGAME_NAME).fetchById(1).position()).isEqualTo(Vector.of(200, 0));
+    }
+
+    @Test
+    void saveToFileAsync_componentsReferenceEntities_restoresReferences() {
+        final List<Runnable> tasks = new ArrayList<>();
+        environment = new DefaultEnvironment(engine, tasks::add);
+        final var hunter = new ColumnarSavegameCodecTest.TargetComponent();
+        hunter.target = new Entity(2);
+        hunter.followers.add(hunter.target);
+        environment.addEntity(new Entity(1).add(hunter));
+        environment.addEntity(hunter.target);
+
+        environment.saveToFileAsync(SAVEGAME_NAME);
+        hunter.followers.clear();
+        tasks.forEach(Runnable::run);
+        environment.loadFromFile(SAVEGAME_NAME);
+
+        final var restoredHunter = environment.fetchById(1).get(ColumnarSavegameCodecTest.TargetComponent.class);
+        assertThat(restoredHunter.target).isSameAs(environment.fetchById(2));
+        assertThat(restoredHunter.followers).singleElement().isSameAs(environment.fetchById(2));
+    }
+
+    @Test
+    void saveDeltaToFile_afterAsyncSavegame_createsDeltaForAsyncSavegame() {
+        final List<Runnable> tasks = new ArrayList<>();
+        environment = new DefaultEnvironment(engine, tasks::add);
+        environment.addEntity(1, new TransformComponent($$(0, 0, 32, 32)));
+        environment.saveDeltaToFile(SAVEGAME_NAME);
+        environment.fetchById(1).moveTo(Vector.of(40, 0));
+
+        environment.saveToFileAsync(SAVEGAME_NAME);
+        tasks.forEach(Runnable::run);
+        environment.fetchById(1).moveTo(Vector.of(80, 0));
+        environment.saveDeltaToFile(SAVEGAME_NAME);
+
+        assertThat(Path.of(SAVEGAME_NAME + ".delta-1")).exists();
+        assertThat(new DefaultEnvironment(engine).loadFromFile(SAVEGAME_NAME).fetchById(1).position()).isEqualTo(Vector.of(80, 0));
+    }
+
+    @Test
+    void saveToFileAsync_directoryDoesntExist_reportsFailure() {
+        SavegameTask task = environment.saveToFileAsync("missing-directory" + File.separator + SAVEGAME_NAME);
+
+        assertThat(task.isDone()).isTrue();
+        assertThat(task.failure()).isPresent()
+                .get().extracting(Exception::getMessage)
+                .isEqualTo("could not create savegame: missing-directory" + File.separator + SAVEGAME_NAME);
+    }
+
+    @Test
+    void saveDeltaToFile_noPreviousSavegame_createsFullSavegame() {
+        environment.addEntity(1, new TransformComponent($$(0, 0, 32, 32)));
+
+        environment.saveDeltaToFile(SAVEGAME_NAME);
+
+        assertThat(SAVEGAME).exists();
+        assertThat(Path.of(SAVEGAME_NAME + ".delta-1")).doesNotExist();
+    }
+
+    @Test
+    void saveDeltaToFile_nothingChanged_createsNoDelta() {
+        environment.addEntity(1, new TransformComponent($$(0, 0, 32, 32)));
+        environment.saveDeltaToFile(SAVEGAME_NAME);
+
+        environment.saveDeltaToFile(SAVEGAME_NAME);
+
+        assertThat(Path.of(SAVEGAME_NAME + ".delta-1")).doesNotExist();
+    }
+
+    @Test
+    void loadFromFile_deltasPresent_appliesAllChangesAndCompacts() {
+        environment.addEntity(1, new TransformComponent($$(0, 0, 32, 32)));
+        environment.addEntity(2, new TransformComponent($$(0, 0, 32, 32)));
+        environment.addEntity(3, new TransformComponent($$(0, 0, 32, 32)), new PhysicsComponent());
+        environment.saveToFile(SAVEGAME_NAME);
+        environment.saveDeltaToFile(SAVEGAME_NAME);
+
+        environment.fetchById(1).moveTo(Vector.of(40, 0));
+        environment.remove(environment.fetchById(2));
+        environment.saveDeltaToFile(SAVEGAME_NAME);
+
+        environment.fetchById(3).remove(PhysicsComponent.class);
+        environment.addEntity(4, new TransformComponent($$(0, 0, 32, 32)));
+        environment.saveDeltaToFile(SAVEGAME_NAME);
+
+        assertThat(Path.of(SAVEGAME_NAME + ".delta-1")).exists();
+        assertThat(Path.of(SAVEGAME_NAME + ".delta-2")).exists();
+
+        final var loadedEnvironment = new DefaultEnvironment(engine).loadFromFile(SAVEGAME_NAME);
+
+        assertThat(loadedEnvironment.entities()).extracting(entity -> entity.id().orElseThrow()).containsExactly(1, 3, 4);
+        assertThat(loadedEnvironment.fetchById(1).position()).isEqualTo(Vector.of(40, 0));
+        assertThat(loadedEnvironment.fetchById(3).hasComponent(PhysicsComponent.class)).isFalse();
+        assertThat(Path.of(SAVEGAME_NAME + ".delta-1")).doesNotExist();
+    }
+
+    @Test
+    void compactSavegameFile_deltasPresent_mergesDeltasIntoSavegame() {
+        environment.addEntity(1, new TransformComponent($$(0, 0, 32, 32)));
+        environment.saveDeltaToFile(SAVEGAME_NAME);
+        environment.fetchById(1).moveTo(Vector.of(40, 0));
+        environment.saveDeltaToFile(SAVEGAME_NAME);
+
+        environment.compactSavegameFile(SAVEGAME_NAME);
+        environment.fetchById(1).moveTo(Vector.of(80, 0));
+        environment.saveDeltaToFile(SAVEGAME_NAME);
+
+        assertThat(Path.of(SAVEGAME_NAME + ".delta-1")).doesNotExist();
+        assertThat(Path.of(SAVEGAME_NAME + ".delta-2")).exists();
+        assertThat(new DefaultEnvironment(engine).loadFromFile(SAVEGAME_NAME).fetchById(1).position()).isEqualTo(Vector.of(80, 0));
+    }
+
+    @Test
+    void deleteSavegameFile_deltasPresent_deletesDeltas() {
+        environment.addEntity(1, new TransformComponent($$(0, 0, 32, 32)));
+        environment.saveDeltaToFile(SAVEGAME_NAME);
+        environment.fetchById(1).moveTo(Vector.of(40, 0));
+        environment.saveDeltaToFile(SAVEGAME_NAME);
+
+        environment.deleteSavegameFile(SAVEGAME_NAME);
+
+        assertThat(Path.of(SAVEGAME_NAME + ".delta-1")).doesNotExist();
+    }
+
+    @Test
+    void savegames_savegameCreated_containsSavegameInfo() {
+        environment.addEntity(new TransformComponent($$(0, 0, 32, 32)));
+        environment.saveToFile(SAVEGAME_NAME);
+
+        assertThat(environment.savegames()).singleElement().satisfies(info -> {
+            assertThat(info.name()).isEqualTo(SAVEGAME_NAME);
+            assertThat(info.size()).isEqualTo(Files.size(SAVEGAME));
+            assertThat(info.version()).isEqualTo(ColumnarSavegameCodec.VERSION);
+            assertThat(info.thumbnail()).isEmpty();
+        });
+    }
+
+    @Test
+    void savegames_deltaSavegameCreated_sizeContainsCompleteDelta() throws IOException {
+        environment.addEntity(1, new TransformComponent($$(0, 0, 32, 32)));
+        environment.saveDeltaToFile(SAVEGAME_NAME);
+        environment.fetchById(1).moveTo(Vector.of(40, 0));
+
+        environment.saveDeltaToFile(SAVEGAME_NAME);
+
+        assertThat(environment.savegames()).singleElement()
+                .satisfies(info -> assertThat(info.size()).isEqualTo(Files.size(SAVEGAME) + Files.size(Path.of(SAVEGAME_NAME + ".delta-1"))));
+    }
+
+    @Test
+    void savegames_savegameDeleted_isEmpty() {
+        environment.saveToFile(SAVEGAME_NAME);
+
+        environment.deleteSavegameFile(SAVEGAME_NAME);
+
+        assertThat(environment.savegames()).isEmpty();
+    }
+
+    @Test
+    void savegames_newEnvironment_readsSavegameIndex() {
+        environment.saveToFile(SAVEGAME_NAME, SavegameFormat.SERIALIZED);
+        environment.setSavegameThumbnail(SAVEGAME_NAME, "thumbnail.png");
+
+        final var savegames = new DefaultEnvironment(engine).savegames();
+
+        assertThat(savegames).singleElement().satisfies(info -> {
+            assertThat(info.version()).isZero();
+            assertThat(info.thumbnail()).contains("thumbnail.png");
+        });
+    }
+
+    @Test
+    void savegameFileExists_savegameMissingInCatalog_addsSavegameToCatalog() throws IOException {
+        environment.saveToFile(SAVEGAME_NAME);
+        Files.delete(Path.of("savegames.index"));
+        final var otherEnvironment = new DefaultEnvironment(engine);
+
+        assertThat(otherEnvironment.savegames()).isEmpty();
+        assertThat(otherEnvironment.savegameFileExists(SAVEGAME_NAME)).isTrue();
+        assertThat(otherEnvironment.savegames()).extracting(SavegameInfo::name).containsExactly(SAVEGAME_NAME);
+    }
+
+    @Test
+    void setSavegameThumbnail_noSuchSavegame_throwsException() {
+        assertThatThrownBy(() -> environment.setSavegameThumbnail("unknown.sav", "thumbnail.png"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("savegame is not present: unknown.sav");
+    }
+
     @Test
     void addOrReplaceSystem_systemNull_throwsException() {
         assertThatThrownBy(() -> environment.addOrReplaceSystem(null))
@@ -577,5 +882,77 @@ class DefaultEnvironmentTest {
         if (Files.exists(SAVEGAME)) {
             Files.delete(SAVEGAME);
         }
+        for (int deltaNumber = 1; deltaNumber <= 3; deltaNumber++) {
+            Files.deleteIfExists(Path.of(SAVEGAME_NAME + ".delta-" + deltaNumber));
+        }
+        Files.deleteIfExists(Path.of("savegames.index"));
+    }
+
+    @Test
+    void commandBuffer_changesRecordedDuringUpdate_appliesChangesAfterAllSystems() {
+        List<Long> entityCounts = new ArrayList<>();
+        environment.addSystem(Order.SystemOrder.SIMULATION, e -> environment.commandBuffer().addEntity(new TransformComponent()));
+        environment.addSystem(Order.SystemOrder.PRESENTATION_WORLD, e -> entityCounts.add(environment.entityCount()));
+
+        environment.update();
+
+        assertThat(entityCounts).containsExactly(0L);
+        assertThat(environment.entityCount()).isOne();
+    }
+
+    @Test
+    void registerChangeListener_entitiesChangedDuringUpdate_deliversOneChangeSetPerUpdate() {
+        List<EntityChangeSet> changeSets = new ArrayList<>();
+        Entity changed = new Entity().add(new TransformComponent());
+        environment.addEntity(changed);
+        environment.update();
+        environment.registerChangeListener(changeSets::add);
+        environment.addSystem(Order.SystemOrder.SIMULATION, e -> environment.addEntity(new TransformComponent()));
+        environment.addSystem(Order.SystemOrder.PRESENTATION_WORLD, e -> changed.add(new PhysicsComponent()));
+
+        environment.update();
+
+        assertThat(changeSets).hasSize(1);
+        assertThat(changeSets.getFirst().added()).hasSize(1);
+        assertThat(changeSets.getFirst().changed()).containsExactly(changed);
+        assertThat(changeSets.getFirst().removed()).isEmpty();
+    }
+
+    @Test
+    void combineStaticEntities_tileMap_combinesCollidersIntoFewRectangles() {
+        for (int x = 0; x < 100; x++) {
+            for (int y = 0; y < 5; y++) {
+                environment.addEntity(new StaticColliderComponent(), new ColliderComponent(), new TransformComponent($$(x * 16, y * 16, 16, 16)));
+            }
+        }
+        environment.addEntity(new StaticColliderComponent(), new ColliderComponent(), new TransformComponent($$(0, 80, 16, 16)));
+
+        environment.combineStaticEntities();
+
+        var colliders = environment.fetchAll(Archetype.of(ColliderComponent.class));
+        assertThat(colliders).hasSize(2).extracting(Entity::bounds)
+                .containsExactlyInAnyOrder($$(0, 0, 1600, 80), $$(0, 80, 16, 16));
+    }
+
+    @Test
+    void combineStaticEntities_differentColliderProperties_doesntCombineColliders() {
+        environment.addEntity(new StaticColliderComponent(), new ColliderComponent(4), new TransformComponent($$(0, 0, 16, 16)));
+        environment.addEntity(new StaticColliderComponent(), new ColliderComponent(2), new TransformComponent($$(16, 0, 16, 16)));
+
+        environment.combineStaticEntities();
+
+        assertThat(environment.fetchAll(Archetype.of(ColliderComponent.class))).hasSize(2);
+    }
+
+    @Test
+    void combineStaticEntities_shadowCasters_combinesShadowCasters() {
+        environment.addEntity(new StaticShadowCasterComponent(), new ShadowCasterComponent(), new TransformComponent($$(0, 0, 16, 16)));
+        environment.addEntity(new StaticShadowCasterComponent(), new ShadowCasterComponent(), new TransformComponent($$(0, 16, 16, 16)));
+
+        environment.combineStaticEntities();
+
+        var shadowCasters = environment.fetchAll(Archetype.of(ShadowCasterComponent.class));
+        assertThat(shadowCasters).hasSize(1);
+        assertThat(shadowCasters.getFirst().bounds()).isEqualTo($$(0, 0, 16, 32));
     }
 }
@@ -0,0 +1,166 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.github.srcimon.screwbox.core.Bounds.$$;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeltaTrackerTest {
+
+    List<Entity> entities;
+    DeltaTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        entities = new ArrayList<>(List.of(
+                new Entity(1).add(new TransformComponent($$(0, 0, 16, 16))),
+                new Entity(2).add(new TransformComponent($$(20, 0, 16, 16)), new PhysicsComponent())));
+        tracker = new DeltaTracker(entities, 1);
+    }
+
+    @Test
+    void createDelta_nothingChanged_isEmpty() {
+        assertThat(tracker.createDelta(entities).isEmpty()).isTrue();
+    }
+
+    @Test
+    void createDelta_fieldChanged_containsOnlyChangedComponent() {
+        entities.get(1).get(PhysicsComponent.class).momentum = Vector.of(4, 0);
+
+        var delta = tracker.createDelta(entities);
+
+        assertThat(delta.removedEntities()).isEmpty();
+        assertThat(delta.addedEntities()).isEmpty();
+        assertThat(delta.changedEntities()).hasSize(1);
+        assertThat(delta.changedEntities().getFirst().index()).isEqualTo(1);
+        assertThat(delta.changedEntities().getFirst().components()).singleElement().isInstanceOf(PhysicsComponent.class);
+        tracker.commitDelta();
+        assertThat(tracker.createDelta(entities).isEmpty()).isTrue();
+    }
+
+    @Test
+    void createDelta_entitiesAddedAndRemoved_containsAddedAndRemovedEntities() {
+        entities.removeFirst();
+        entities.add(new Entity(3));
+
+        var delta = tracker.createDelta(entities);
+
+        assertThat(delta.removedEntities()).containsExactly(0);
+        assertThat(delta.addedEntities()).extracting(entity -> entity.id().orElseThrow()).containsExactly(3);
+    }
+
+    @Test
+    void createDelta_componentRemoved_containsRemovedComponent() {
+        entities.get(1).remove(PhysicsComponent.class);
+
+        var delta = tracker.createDelta(entities);
+
+        assertThat(delta.changedEntities().getFirst().removedComponents()).containsExactly(PhysicsComponent.class);
+    }
+
+    @Test
+    void applyOn_encodedDelta_restoresCurrentState() throws IOException, ClassNotFoundException {
+        final List<Entity> restored = new ArrayList<>(List.of(new Entity(1), new Entity(2).add(new TransformComponent($$(20, 0, 16, 16)))));
+        entities.removeFirst();
+        entities.getFirst().moveTo(Vector.of(100, 0));
+        entities.add(new Entity(3));
+        final var outputStream = new ByteArrayOutputStream();
+        tracker.createDelta(entities).encode(outputStream);
+
+        SavegameDelta.decode(new ByteArrayInputStream(outputStream.toByteArray())).applyOn(restored);
+        restored.removeIf(entity -> entity == null);
+
+        assertThat(restored).extracting(entity -> entity.id().orElseThrow()).containsExactly(2, 3);
+        assertThat(restored.getFirst().position()).isEqualTo(Vector.of(100, 0));
+    }
+
+    @Test
+    void createDelta_nestedValueChanged_containsChangedComponent() {
+        final var hunter = new ColumnarSavegameCodecTest.TargetComponent();
+        entities.getFirst().add(hunter);
+        tracker = new DeltaTracker(entities, 1);
+
+        hunter.followers.add(entities.get(1));
+
+        assertThat(tracker.createDelta(entities).changedEntities()).singleElement()
+                .satisfies(change -> assertThat(change.components()).containsExactly(hunter));
+        tracker.commitDelta();
+        assertThat(tracker.createDelta(entities).isEmpty()).isTrue();
+    }
+
+    @Test
+    void createDelta_notColumnarComponentUnchanged_isEmpty() {
+        entities.getFirst().add(new ComponentSchemaTest.LabelComponent("boss"));
+        tracker = new DeltaTracker(entities, 1);
+
+        assertThat(tracker.createDelta(entities).isEmpty()).isTrue();
+    }
+
+    @Test
+    void createDelta_entityRenamed_containsRename() {
+        entities.getFirst().name("player");
+
+        var delta = tracker.createDelta(entities);
+        final List<Entity> restored = new ArrayList<>(List.of(new Entity(1), new Entity(2)));
+        delta.applyOn(restored);
+
+        assertThat(delta.changedEntities()).singleElement()
+                .satisfies(change -> assertThat(change.components()).isEmpty());
+        assertThat(restored.getFirst().name()).contains("player");
+    }
+
+    @Test
+    void compact_entitiesRemoved_renumbersRemainingEntities() {
+        entities.removeFirst();
+        tracker.createDelta(entities);
+        tracker.commitDelta();
+
+        tracker.compact();
+        entities.getFirst().moveTo(Vector.of(100, 0));
+
+        assertThat(tracker.createDelta(entities).changedEntities().getFirst().index()).isZero();
+    }
+
+    @Test
+    void createDelta_previousDeltaNotCommitted_containsChangesOfPreviousDelta() {
+        entities.get(1).get(PhysicsComponent.class).momentum = Vector.of(4, 0);
+        tracker.createDelta(entities);
+        entities.removeFirst();
+
+        var delta = tracker.createDelta(entities);
+
+        assertThat(delta.removedEntities()).containsExactly(0);
+        assertThat(delta.changedEntities()).singleElement()
+                .satisfies(change -> assertThat(change.components()).singleElement().isInstanceOf(PhysicsComponent.class));
+        assertThat(tracker.nextDeltaNumber()).isEqualTo(1);
+    }
+
+    @Test
+    void commitDelta_deltaCreated_incrementsDeltaNumber() {
+        tracker.createDelta(entities);
+
+        tracker.commitDelta();
+
+        assertThat(tracker.nextDeltaNumber()).isEqualTo(2);
+        assertThat(tracker.lastDeltaNumber()).isEqualTo(1);
+    }
+
+    @Test
+    void commitDelta_noDeltaCreated_throwsException() {
+        assertThatThrownBy(() -> tracker.commitDelta())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("there is no delta to commit");
+    }
+}
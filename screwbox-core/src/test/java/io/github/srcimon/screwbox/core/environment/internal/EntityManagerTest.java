@@ -2,6 +2,7 @@ package io.github.srcimon.screwbox.core.environment.internal;
 
 import io.github.srcimon.screwbox.core.environment.Archetype;
 import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.EntityChangeSet;
 import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
 import io.github.srcimon.screwbox.core.environment.logic.SignalComponent;
 import io.github.srcimon.screwbox.core.environment.physics.ColliderComponent;
@@ -9,8 +10,12 @@ import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
 
 class EntityManagerTest {
 
@@ -155,4 +160,327 @@ class EntityManagerTest {
 
         assertThat(entityManager.findById(666)).isNull();
     }
+
+    @Test
+    void componentRemovedFromManagedEntity_pickedUpChanges_removesEntityFromCache() {
+        Archetype colliderEntities = Archetype.of(ColliderComponent.class);
+        Entity entity = new Entity().add(new PhysicsComponent(), new ColliderComponent());
+        entityManager.addEntity(entity);
+        entityManager.entitiesMatching(colliderEntities); // create cached request
+
+        entity.remove(ColliderComponent.class);
+        entityManager.pickUpChanges();
+
+        assertThat(entityManager.entitiesMatching(colliderEntities)).isEmpty();
+    }
+
+    @Test
+    void componentAddedToManagedEntity_pickedUpChangesTwice_entityIsCachedOnlyOnce() {
+        Archetype colliderEntities = Archetype.of(ColliderComponent.class);
+        Entity entity = new Entity().add(new PhysicsComponent());
+        entityManager.addEntity(entity);
+        entityManager.entitiesMatching(colliderEntities); // create cached request
+
+        entity.add(new ColliderComponent());
+        entityManager.pickUpChanges();
+        entity.add(new TransformComponent());
+        entityManager.pickUpChanges();
+
+        assertThat(entityManager.entitiesMatching(colliderEntities)).containsExactly(entity);
+    }
+
+    @Test
+    void removeEntity_pooledEntity_recyclesEntity() {
+        Entity entity = entityManager.entityPool().obtainEntity().add(new PhysicsComponent());
+        entityManager.addEntity(entity);
+
+        entityManager.removeEntity(entity);
+        entityManager.pickUpChanges();
+        entityManager.deliverChanges();
+
+        assertThat(entity.isEmpty()).isTrue();
+        assertThat(entityManager.allEntities()).isEmpty();
+        assertThat(entityManager.entityPool().obtainEntity()).isSameAs(entity);
+    }
+
+    @Test
+    void removeEntity_pooledEntityNeverAdded_doesntRecycleOrReportEntity() {
+        List<EntityChangeSet> changes = new ArrayList<>();
+        entityManager.registerChangeListener(changes::add);
+        Entity entity = entityManager.entityPool().obtainEntity().add(new PhysicsComponent());
+
+        entityManager.removeEntity(entity);
+        entityManager.deliverChanges();
+
+        assertThat(entity.isEmpty()).isFalse();
+        assertThat(entityManager.entityPool().freeEntityCount()).isZero();
+        assertThat(changes).isEmpty();
+    }
+
+    @Test
+    void removeEntity_pooledEntityRemovedTwice_isOnlyRecycledOnce() {
+        Entity entity = entityManager.entityPool().obtainEntity().add(new PhysicsComponent());
+        entityManager.addEntity(entity);
+
+        entityManager.removeEntity(entity);
+        entityManager.removeEntity(entity);
+        entityManager.deliverChanges();
+
+        assertThat(entityManager.entityPool().freeEntityCount()).isOne();
+    }
+
+    @Test
+    void deliverChanges_pooledEntityRemoved_listenersReceiveEntityBeforeRecycling() {
+        List<Boolean> hadComponents = new ArrayList<>();
+        Entity entity = entityManager.entityPool().obtainEntity().add(new PhysicsComponent());
+        entityManager.addEntity(entity);
+        entityManager.registerChangeListener(changes -> hadComponents.add(changes.removed().getFirst().hasComponent(PhysicsComponent.class)));
+
+        entityManager.removeEntity(entity);
+        assertThat(entity.isEmpty()).isFalse();
+        entityManager.deliverChanges();
+
+        assertThat(hadComponents).containsExactly(true);
+        assertThat(entity.isEmpty()).isTrue();
+    }
+
+    @Test
+    void deliverChanges_pooledEntityRemovedAndAddedAgain_doesntRecycleEntity() {
+        Entity entity = entityManager.entityPool().obtainEntity().add(new PhysicsComponent());
+        entityManager.addEntity(entity);
+        entityManager.removeEntity(entity);
+        entityManager.addEntity(entity);
+
+        entityManager.deliverChanges();
+
+        assertThat(entity.isEmpty()).isFalse();
+        assertThat(entityManager.entityPool().freeEntityCount()).isZero();
+    }
+
+    @Test
+    void removeEntity_entityAddedAgain_isOnlyRemovedOnce() {
+        Entity entity = new Entity().add(new PhysicsComponent());
+        entityManager.addEntity(entity);
+        entityManager.removeEntity(entity);
+        entityManager.addEntity(entity);
+
+        entity.remove(PhysicsComponent.class);
+        entityManager.pickUpChanges();
+
+        assertThat(entityManager.allEntities()).isEmpty();
+    }
+
+    @Test
+    void query_entitiesPresent_providesComponentsOfMatchingEntities() {
+        PhysicsComponent physics = new PhysicsComponent();
+        Entity entity = new Entity().add(physics, new ColliderComponent());
+        entityManager.addEntity(entity);
+        entityManager.addEntity(new Entity().add(new PhysicsComponent()));
+        List<PhysicsComponent> found = new ArrayList<>();
+
+        entityManager.query(Archetype.of(PhysicsComponent.class, ColliderComponent.class))
+                .forEach(PhysicsComponent.class, (match, component) -> {
+                    assertThat(match).isSameAs(entity);
+                    found.add(component);
+                });
+
+        assertThat(found).containsExactly(physics);
+    }
+
+    @Test
+    void query_componentReplaced_providesReplacement() {
+        Entity entity = new Entity().add(new PhysicsComponent(), new ColliderComponent());
+        entityManager.addEntity(entity);
+        var query = entityManager.query(Archetype.of(PhysicsComponent.class, ColliderComponent.class));
+        query.forEach(PhysicsComponent.class, (match, component) -> {
+        });
+        PhysicsComponent replacement = new PhysicsComponent();
+
+        entity.addOrReplace(replacement);
+        entityManager.pickUpChanges();
+
+        query.forEach(PhysicsComponent.class, ColliderComponent.class, (match, physics, collider) -> assertThat(physics).isSameAs(replacement));
+        assertThat(query.size()).isOne();
+    }
+
+    @Test
+    void query_entityRemoved_noLongerProvidesEntity() {
+        Entity entity = new Entity().add(new PhysicsComponent());
+        entityManager.addEntity(entity);
+        var query = entityManager.query(Archetype.of(PhysicsComponent.class));
+
+        entityManager.removeEntity(entity);
+
+        assertThat(query.isEmpty()).isTrue();
+        query.forEach(PhysicsComponent.class, (match, component) -> fail("no entity expected"));
+    }
+
+    @Test
+    void query_entitiesRemovedAndAddedAfterFirstIteration_keepsComponentsAligned() {
+        PhysicsComponent first = new PhysicsComponent();
+        PhysicsComponent second = new PhysicsComponent();
+        PhysicsComponent third = new PhysicsComponent();
+        Entity firstEntity = new Entity().add(first);
+        entityManager.addEntities(List.of(firstEntity, new Entity().add(second)));
+        var query = entityManager.query(Archetype.of(PhysicsComponent.class));
+        query.forEach(PhysicsComponent.class, (entity, component) -> {
+        });
+
+        entityManager.removeEntity(firstEntity);
+        entityManager.addEntity(new Entity().add(third));
+
+        List<PhysicsComponent> components = new ArrayList<>();
+        query.forEach(PhysicsComponent.class, (entity, component) -> {
+            assertThat(entity.get(PhysicsComponent.class)).isSameAs(component);
+            components.add(component);
+        });
+        assertThat(components).containsExactly(second, third);
+    }
+
+    @Test
+    void query_entityRemovedFromMiddleAndLastComponentReplaced_keepsComponentsAligned() {
+        Entity first = new Entity().add(new PhysicsComponent());
+        Entity second = new Entity().add(new PhysicsComponent());
+        Entity third = new Entity().add(new PhysicsComponent());
+        entityManager.addEntities(List.of(first, second, third));
+        var query = entityManager.query(Archetype.of(PhysicsComponent.class));
+        query.forEach(PhysicsComponent.class, (entity, component) -> {
+        });
+
+        entityManager.removeEntity(second);
+        PhysicsComponent replacement = new PhysicsComponent();
+        third.addOrReplace(replacement);
+        entityManager.pickUpChanges();
+
+        List<Entity> visited = new ArrayList<>();
+        query.forEach(PhysicsComponent.class, (entity, component) -> {
+            assertThat(entity.get(PhysicsComponent.class)).isSameAs(component);
+            visited.add(entity);
+        });
+        assertThat(visited).containsExactlyInAnyOrder(first, third);
+        assertThat(third.get(PhysicsComponent.class)).isSameAs(replacement);
+    }
+
+    @Test
+    void query_entitiesRemovedWhileIteratingAndChangesNotDelayed_visitsAllEntitiesAndRemovesThemAfterwards() {
+        entityManager.addEntities(List.of(
+                new Entity().add(new PhysicsComponent()),
+                new Entity().add(new PhysicsComponent()),
+                new Entity().add(new PhysicsComponent())));
+        List<Entity> visited = new ArrayList<>();
+
+        entityManager.query(Archetype.of(PhysicsComponent.class)).forEach(entity -> {
+            visited.add(entity);
+            entityManager.removeEntity(entity);
+        });
+
+        assertThat(visited).hasSize(3);
+        assertThat(entityManager.allEntities()).isEmpty();
+    }
+
+    @Test
+    void query_componentNotInArchetype_throwsException() {
+        var query = entityManager.query(Archetype.of(PhysicsComponent.class));
+
+        assertThatThrownBy(() -> query.forEach(ColliderComponent.class, (entity, collider) -> {
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("component is not part of the archetype: ColliderComponent");
+    }
+
+    @Test
+    void removeAll_changesNotDelayed_removesAllMatchingEntities() {
+        entityManager.addEntity(new Entity().add(new PhysicsComponent()));
+        entityManager.addEntity(new Entity().add(new PhysicsComponent()));
+        entityManager.addEntity(new Entity().add(new ColliderComponent()));
+
+        entityManager.removeAll(Archetype.of(PhysicsComponent.class));
+
+        assertThat(entityManager.allEntities()).hasSize(1);
+    }
+
+    @Test
+    void deliverChanges_noListenerRegistered_doesntRecordChanges() {
+        List<EntityChangeSet> changeSets = new ArrayList<>();
+        entityManager.addEntity(new Entity().add(new PhysicsComponent()));
+        entityManager.registerChangeListener(changeSets::add);
+
+        entityManager.deliverChanges();
+
+        assertThat(changeSets).isEmpty();
+    }
+
+    @Test
+    void deliverChanges_entitiesAddedRemovedAndChanged_deliversCompactChangeSet() {
+        Entity removed = new Entity().add(new PhysicsComponent());
+        Entity changed = new Entity().add(new PhysicsComponent());
+        entityManager.addEntity(removed);
+        entityManager.addEntity(changed);
+        List<EntityChangeSet> changeSets = new ArrayList<>();
+        entityManager.registerChangeListener(changeSets::add);
+        Entity added = new Entity().add(new PhysicsComponent());
+        Entity addedAndRemoved = new Entity().add(new PhysicsComponent());
+
+        entityManager.addEntity(added);
+        entityManager.addEntity(addedAndRemoved);
+        entityManager.removeEntity(addedAndRemoved);
+        entityManager.removeEntity(removed);
+        changed.add(new ColliderComponent());
+        changed.add(new SignalComponent());
+        entityManager.pickUpChanges();
+        entityManager.deliverChanges();
+        entityManager.deliverChanges();
+
+        assertThat(changeSets).containsExactly(new EntityChangeSet(List.of(added), List.of(removed), List.of(changed)));
+    }
+
+    @Test
+    void addEntities_changesNotDelayed_addsEntitiesToArchetypeCaches() {
+        Archetype physics = Archetype.of(PhysicsComponent.class);
+        entityManager.entitiesMatching(physics);
+        Entity first = new Entity().add(new PhysicsComponent());
+        Entity second = new Entity().add(new ColliderComponent());
+        Entity third = new Entity().add(new PhysicsComponent());
+
+        entityManager.addEntities(List.of(first, second, third));
+
+        assertThat(entityManager.allEntities()).containsExactly(first, second, third);
+        assertThat(entityManager.entitiesMatching(physics)).containsExactly(first, third);
+    }
+
+    @Test
+    void addEntities_duplicateIdInBatch_addsNoEntity() {
+        List<Entity> entities = List.of(new Entity(1), new Entity(2), new Entity(1));
+
+        assertThatThrownBy(() -> entityManager.addEntities(entities))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("duplicate entity id detected: 1");
+
+        assertThat(entityManager.allEntities()).isEmpty();
+        assertThat(entityManager.findById(2)).isNull();
+    }
+
+    @Test
+    void addEntities_idAlreadyPresent_addsNoEntity() {
+        entityManager.addEntity(new Entity(1));
+        List<Entity> entities = List.of(new Entity(2), new Entity(1));
+
+        assertThatThrownBy(() -> entityManager.addEntities(entities))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("duplicate entity id detected: 1");
+
+        assertThat(entityManager.allEntities()).hasSize(1);
+        assertThat(entityManager.findById(2)).isNull();
+    }
+
+    @Test
+    void addEntities_changesDelayed_addsEntitiesOnPickUp() {
+        entityManager.delayChanges();
+
+        entityManager.addEntities(List.of(new Entity().add(new PhysicsComponent())));
+
+        assertThat(entityManager.allEntities()).isEmpty();
+        entityManager.pickUpChanges();
+        assertThat(entityManager.allEntities()).hasSize(1);
+    }
 }
@@ -0,0 +1,124 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.EntityListener;
+import io.github.srcimon.screwbox.core.environment.PoolableComponent;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class EntityPoolTest {
+
+    private static class BulletComponent implements PoolableComponent {
+
+        private int damage;
+
+        @Override
+        public void reset() {
+            damage = 0;
+        }
+    }
+
+    private EntityPool entityPool;
+
+    @BeforeEach
+    void beforeEach() {
+        entityPool = new EntityPool();
+    }
+
+    @Test
+    void obtainEntity_poolEmpty_createsNewPooledEntity() {
+        Entity entity = entityPool.obtainEntity();
+
+        assertThat(entity.isEmpty()).isTrue();
+        assertThat(entityPool.isPooled(entity)).isTrue();
+    }
+
+    @Test
+    void isPooled_entityNotFromPool_isFalse() {
+        assertThat(entityPool.isPooled(new Entity())).isFalse();
+    }
+
+    @Test
+    void recycle_pooledEntity_removesComponentsAndReusesEntity() {
+        Entity entity = entityPool.obtainEntity()
+                .name("bullet")
+                .add(new PhysicsComponent());
+
+        entityPool.recycle(entity);
+
+        assertThat(entityPool.freeEntityCount()).isOne();
+        Entity reused = entityPool.obtainEntity();
+        assertThat(reused).isSameAs(entity);
+        assertThat(reused.isEmpty()).isTrue();
+        assertThat(reused.name()).isEmpty();
+        assertThat(entityPool.freeEntityCount()).isZero();
+    }
+
+    @Test
+    void recycle_entityRecycledTwice_isOnlyReusedOnce() {
+        Entity entity = entityPool.obtainEntity();
+
+        entityPool.recycle(entity);
+        entityPool.recycle(entity);
+
+        assertThat(entityPool.freeEntityCount()).isOne();
+        assertThat(entityPool.obtainEntity()).isSameAs(entity);
+        assertThat(entityPool.obtainEntity()).isNotSameAs(entity);
+    }
+
+    @Test
+    void recycle_entityHasListener_unregistersListenerBeforeRemovingComponents() {
+        var listener = Mockito.mock(EntityListener.class);
+        Entity entity = entityPool.obtainEntity().add(new PhysicsComponent());
+        entity.registerListener(listener);
+
+        entityPool.recycle(entity);
+        entity.add(new PhysicsComponent());
+
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    void recycle_entityNotFromPool_doesntTouchEntity() {
+        Entity entity = new Entity().add(new PhysicsComponent());
+
+        entityPool.recycle(entity);
+
+        assertThat(entity.isEmpty()).isFalse();
+        assertThat(entityPool.freeEntityCount()).isZero();
+    }
+
+    @Test
+    void recycle_hasPoolableComponent_resetsAndReusesComponent() {
+        BulletComponent bullet = entityPool.obtainComponent(BulletComponent.class, BulletComponent::new);
+        bullet.damage = 20;
+        Entity entity = entityPool.obtainEntity().add(bullet);
+
+        entityPool.recycle(entity);
+
+        BulletComponent reused = entityPool.obtainComponent(BulletComponent.class, BulletComponent::new);
+        assertThat(reused).isSameAs(bullet);
+        assertThat(reused.damage).isZero();
+    }
+
+    @Test
+    void obtainComponent_poolEmpty_createsComponentUsingFactory() {
+        BulletComponent first = entityPool.obtainComponent(BulletComponent.class, BulletComponent::new);
+        BulletComponent second = entityPool.obtainComponent(BulletComponent.class, BulletComponent::new);
+
+        assertThat(first).isNotSameAs(second);
+    }
+
+    @Test
+    void obtainComponent_factoryNull_throwsException() {
+        assertThatThrownBy(() -> entityPool.obtainComponent(BulletComponent.class, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("factory must not be null");
+    }
+}
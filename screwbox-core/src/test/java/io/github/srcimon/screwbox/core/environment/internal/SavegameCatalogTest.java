@@ -0,0 +1,104 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.SavegameInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SavegameCatalogTest {
+
+    private static final Path INDEX_FILE = Path.of("catalog-test.index");
+
+    SavegameCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new SavegameCatalog(INDEX_FILE);
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        Files.deleteIfExists(INDEX_FILE);
+    }
+
+    @Test
+    void list_noIndexFile_isEmpty() {
+        assertThat(catalog.list()).isEmpty();
+    }
+
+    @Test
+    void list_multipleSavegames_sortedByMostRecentFirst() {
+        catalog.register("first.sav", Instant.ofEpochMilli(1000), 10, 1);
+        catalog.register("third.sav", Instant.ofEpochMilli(3000), 30, 1);
+        catalog.register("second.sav", Instant.ofEpochMilli(2000), 20, 1);
+
+        assertThat(catalog.list()).extracting(SavegameInfo::name).containsExactly("third.sav", "second.sav", "first.sav");
+    }
+
+    @Test
+    void register_savegameWithThumbnail_keepsThumbnail() {
+        catalog.register("slot1.sav", Instant.ofEpochMilli(1000), 10, 1);
+        catalog.setThumbnail("slot1.sav", "slot1.png");
+
+        catalog.register("slot1.sav", Instant.ofEpochMilli(2000), 20, 1);
+
+        assertThat(catalog.find("slot1.sav")).contains(new SavegameInfo("slot1.sav", Instant.ofEpochMilli(2000), 20, 1, Optional.of("slot1.png")));
+    }
+
+    @Test
+    void find_otherCatalogRegisteredSavegame_readsIndexFile() {
+        catalog.register("slot1.sav", Instant.ofEpochMilli(1000), 10, 1);
+
+        assertThat(new SavegameCatalog(INDEX_FILE).find("slot1.sav")).isPresent();
+    }
+
+    @Test
+    void contains_otherCatalogChangedIndexFile_reloadsIndexFile() {
+        final var otherCatalog = new SavegameCatalog(INDEX_FILE);
+        catalog.register("slot1.sav", Instant.ofEpochMilli(1000), 10, 1);
+        assertThat(otherCatalog.contains("slot1.sav")).isTrue();
+
+        catalog.register("slot2.sav", Instant.ofEpochMilli(2000), 20, 1);
+        otherCatalog.remove("slot1.sav");
+
+        assertThat(catalog.contains("slot1.sav")).isFalse();
+        assertThat(otherCatalog.contains("slot2.sav")).isTrue();
+    }
+
+    @Test
+    void contains_indexFileDeleted_isFalse() throws IOException {
+        catalog.register("slot1.sav", Instant.ofEpochMilli(1000), 10, 1);
+
+        Files.delete(INDEX_FILE);
+
+        assertThat(catalog.contains("slot1.sav")).isFalse();
+    }
+
+    @Test
+    void remove_registeredSavegame_removesSavegame() {
+        catalog.register("slot1.sav", Instant.ofEpochMilli(1000), 10, 1);
+
+        catalog.remove("slot1.sav");
+
+        assertThat(catalog.contains("slot1.sav")).isFalse();
+        assertThat(new SavegameCatalog(INDEX_FILE).contains("slot1.sav")).isFalse();
+    }
+
+    @Test
+    void contains_invalidIndexFile_throwsException() throws IOException {
+        Files.writeString(INDEX_FILE, "invalid");
+
+        assertThatThrownBy(() -> catalog.contains("slot1.sav"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("could not read savegame index: catalog-test.index");
+    }
+}
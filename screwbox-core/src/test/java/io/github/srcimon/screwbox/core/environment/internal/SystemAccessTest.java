@@ -0,0 +1,64 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.environment.physics.CollisionSensorSystem;
+import io.github.srcimon.screwbox.core.environment.physics.FrictionSystem;
+import io.github.srcimon.screwbox.core.environment.physics.GravitySystem;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
+import io.github.srcimon.screwbox.core.environment.tweening.TweenPositionSystem;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SystemAccessTest {
+
+    @Test
+    void of_systemNotAnnotated_isNull() {
+        assertThat(SystemAccess.of(new CollisionSensorSystem())).isNull();
+    }
+
+    @Test
+    void of_systemAnnotated_containsDeclaredComponents() {
+        var access = SystemAccess.of(new TweenPositionSystem());
+
+        assertThat(access.writes().contains(TransformComponent.class)).isTrue();
+        assertThat(access.reads().contains(TransformComponent.class)).isFalse();
+    }
+
+    @Test
+    void conflictsWith_bothWriteSameComponent_isTrue() {
+        var access = SystemAccess.of(new FrictionSystem());
+        var other = SystemAccess.of(new GravitySystem());
+
+        assertThat(access.conflictsWith(other)).isTrue();
+    }
+
+    @Test
+    void conflictsWith_writesComponentReadByOther_isTrue() {
+        var access = SystemAccess.of(new FrictionSystem());
+        var other = SystemAccess.of(new ReadsPhysicsSystem());
+
+        assertThat(access.conflictsWith(other)).isTrue();
+        assertThat(other.conflictsWith(access)).isTrue();
+    }
+
+    @Test
+    void conflictsWith_differentComponents_isFalse() {
+        var access = SystemAccess.of(new FrictionSystem());
+        var other = SystemAccess.of(new TweenPositionSystem());
+
+        assertThat(access.conflictsWith(other)).isFalse();
+    }
+
+    @Test
+    void conflictsWith_bothOnlyReadSameComponent_isFalse() {
+        var access = SystemAccess.of(new ReadsPhysicsSystem());
+
+        assertThat(access.conflictsWith(access)).isFalse();
+    }
+
+    @ComponentAccess(reads = PhysicsComponent.class)
+    private static class ReadsPhysicsSystem extends CollisionSensorSystem {
+    }
+}
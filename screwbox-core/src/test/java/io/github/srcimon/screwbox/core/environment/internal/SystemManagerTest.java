@@ -1,11 +1,27 @@
 package io.github.srcimon.screwbox.core.environment.internal;
 
+import io.github.srcimon.screwbox.core.Engine;
+import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.ComponentAccess;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.EntitySystem;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
 import io.github.srcimon.screwbox.core.environment.physics.CollisionSensorSystem;
 import io.github.srcimon.screwbox.core.environment.physics.OptimizePhysicsPerformanceSystem;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static io.github.srcimon.screwbox.core.test.TestUtil.shutdown;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class SystemManagerTest {
 
@@ -48,4 +64,169 @@ class SystemManagerTest {
         assertThat(systemManager.allSystems().getFirst()).isInstanceOf(OptimizePhysicsPerformanceSystem.class);
     }
 
+    @Test
+    @Timeout(5)
+    void updateAllSystems_systemsDontConflict_updatesSystemsConcurrently() {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        var concurrentSystemManager = new SystemManager(null, new EntityManager(), executor);
+        var barrier = new CyclicBarrier(2);
+        concurrentSystemManager.addSystem(new WritesPhysicsSystem(barrier::await));
+        concurrentSystemManager.addSystem(new WritesTransformSystem(barrier::await));
+
+        concurrentSystemManager.updateAllSystems();
+
+        assertThat(barrier.isBroken()).isFalse();
+        shutdown(executor);
+    }
+
+    @Test
+    void updateAllSystems_systemsConflict_updatesSystemsInOrder() {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        var concurrentSystemManager = new SystemManager(null, new EntityManager(), executor);
+        List<String> updates = new CopyOnWriteArrayList<>();
+        concurrentSystemManager.addSystem(new WritesPhysicsSystem(() -> updates.add("first")));
+        concurrentSystemManager.addSystem(new ReadsPhysicsSystem(() -> updates.add("second")));
+
+        concurrentSystemManager.updateAllSystems();
+
+        assertThat(updates).containsExactly("first", "second");
+        shutdown(executor);
+    }
+
+    @Test
+    void updateAllSystems_concurrentSystemFails_throwsException() {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        var concurrentSystemManager = new SystemManager(null, new EntityManager(), executor);
+        concurrentSystemManager.addSystem(new WritesPhysicsSystem(() -> {
+        }));
+        concurrentSystemManager.addSystem(new WritesTransformSystem(() -> {
+            throw new IllegalArgumentException("failed");
+        }));
+
+        assertThatThrownBy(concurrentSystemManager::updateAllSystems)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("failed");
+        shutdown(executor);
+    }
+
+    @Test
+    void updateAllSystems_noExecutor_updatesAnnotatedSystemsInOrder() {
+        List<String> updates = new CopyOnWriteArrayList<>();
+        var sequentialSystemManager = new SystemManager(null, new EntityManager());
+        sequentialSystemManager.addSystem(new WritesPhysicsSystem(() -> updates.add("first")));
+        sequentialSystemManager.addSystem(new WritesTransformSystem(() -> updates.add("second")));
+
+        sequentialSystemManager.updateAllSystems();
+
+        assertThat(updates).containsExactly("first", "second");
+    }
+
+    @Test
+    void updateAllSystems_componentRemovedBySystem_isNotVisibleToNextSystem() {
+        var entityManager = new EntityManager();
+        var sequentialSystemManager = new SystemManager(null, entityManager);
+        var body = new Entity().add(new PhysicsComponent());
+        entityManager.addEntity(body);
+        List<Integer> bodyCounts = new CopyOnWriteArrayList<>();
+        sequentialSystemManager.addSystem(new WritesPhysicsSystem(() -> body.remove(PhysicsComponent.class)));
+        sequentialSystemManager.addSystem(new WritesTransformSystem(() -> bodyCounts.add(entityManager.entitiesMatching(Archetype.of(PhysicsComponent.class)).size())));
+
+        sequentialSystemManager.updateAllSystems();
+
+        assertThat(bodyCounts).containsExactly(0);
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        void run() throws Exception;
+    }
+
+    private abstract static class ActionSystem implements EntitySystem {
+
+        private final Action action;
+
+        ActionSystem(final Action action) {
+            this.action = action;
+        }
+
+        @Override
+        public void update(final Engine engine) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @ComponentAccess(writes = PhysicsComponent.class)
+    private static class WritesPhysicsSystem extends ActionSystem {
+
+        WritesPhysicsSystem(final Action action) {
+            super(action);
+        }
+    }
+
+    @ComponentAccess(reads = PhysicsComponent.class)
+    private static class ReadsPhysicsSystem extends ActionSystem {
+
+        ReadsPhysicsSystem(final Action action) {
+            super(action);
+        }
+    }
+
+    @ComponentAccess(writes = TransformComponent.class)
+    private static class WritesTransformSystem extends ActionSystem {
+
+        WritesTransformSystem(final Action action) {
+            super(action);
+        }
+    }
+
+    @Test
+    void metrics_systemsUpdated_containsStatisticsOfAllSystems() {
+        var measuredSystemManager = new SystemManager(null, new EntityManager());
+        measuredSystemManager.enableMetrics();
+        EntitySystem first = engine -> {
+        };
+        EntitySystem second = engine -> {
+        };
+        measuredSystemManager.addSystem(first);
+        measuredSystemManager.addSystem(second);
+
+        measuredSystemManager.updateAllSystems();
+        measuredSystemManager.updateAllSystems();
+
+        var metrics = measuredSystemManager.metrics();
+        assertThat(metrics.systems()).hasSize(2)
+                .allMatch(metric -> metric.updateCount() == 2);
+        assertThat(metrics.systems().getFirst().system()).isSameAs(first);
+        assertThat(metrics.slowest()).isPresent();
+        assertThat(metrics.lastPickUpDuration().nanos()).isPositive();
+    }
+
+    @Test
+    void metrics_metricsNotEnabled_doesntRecordStatistics() {
+        var unmeasuredSystemManager = new SystemManager(null, new EntityManager());
+        unmeasuredSystemManager.addSystem(engine -> {
+        });
+
+        unmeasuredSystemManager.updateAllSystems();
+
+        assertThat(unmeasuredSystemManager.isMetricsEnabled()).isFalse();
+        assertThat(unmeasuredSystemManager.metrics().systems()).allMatch(metric -> metric.updateCount() == 0);
+        assertThat(unmeasuredSystemManager.metrics().lastPickUpDuration().isNone()).isTrue();
+    }
+
+    @Test
+    void metrics_systemRemoved_noLongerContainsStatisticsOfSystem() {
+        systemManager.addSystem(new CollisionSensorSystem());
+
+        systemManager.removeSystem(CollisionSensorSystem.class);
+
+        assertThat(systemManager.metrics().systems()).isEmpty();
+        assertThat(systemManager.metrics().of(CollisionSensorSystem.class)).isEmpty();
+    }
 }
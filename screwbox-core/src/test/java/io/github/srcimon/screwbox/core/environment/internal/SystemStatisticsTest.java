@@ -0,0 +1,73 @@
+package io.github.srcimon.screwbox.core.environment.internal;
+
+import io.github.srcimon.screwbox.core.Duration;
+import io.github.srcimon.screwbox.core.environment.SystemMetric;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SystemStatisticsTest {
+
+    private SystemStatistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        statistics = new SystemStatistics();
+    }
+
+    @Test
+    void toMetric_noUpdates_returnsEmptyMetric() {
+        var system = new PhysicsSystem();
+
+        SystemMetric metric = statistics.toMetric(system);
+
+        assertThat(metric.system()).isSameAs(system);
+        assertThat(metric.updateCount()).isZero();
+        assertThat(metric.max()).isEqualTo(Duration.none());
+        assertThat(metric.average()).isEqualTo(Duration.none());
+        assertThat(metric.allocatedBytes()).isEqualTo(-1);
+    }
+
+    @Test
+    void toMetric_multipleUpdates_calculatesStatistics() {
+        for (int nanos = 1; nanos <= 100; nanos++) {
+            statistics.record(nanos, 2000);
+        }
+        statistics.record(50, 400);
+
+        SystemMetric metric = statistics.toMetric(new PhysicsSystem());
+
+        assertThat(metric.updateCount()).isEqualTo(101);
+        assertThat(metric.last()).isEqualTo(Duration.ofNanos(50));
+        assertThat(metric.average()).isEqualTo(Duration.ofNanos(50));
+        assertThat(metric.max()).isEqualTo(Duration.ofNanos(100));
+        assertThat(metric.percentile95()).isEqualTo(Duration.ofNanos(95));
+        assertThat(metric.percentile99()).isEqualTo(Duration.ofNanos(99));
+        assertThat(metric.allocatedBytes()).isEqualTo(400);
+    }
+
+    @Test
+    void toMetric_moreUpdatesThanSamples_onlyUsesRecentUpdates() {
+        for (int i = 0; i < 500; i++) {
+            statistics.record(1000, 0);
+        }
+        for (int i = 0; i < 128; i++) {
+            statistics.record(10, 0);
+        }
+
+        SystemMetric metric = statistics.toMetric(new PhysicsSystem());
+
+        assertThat(metric.updateCount()).isEqualTo(628);
+        assertThat(metric.max()).isEqualTo(Duration.ofNanos(10));
+    }
+
+    @Test
+    void currentThreadAllocatedBytes_allocating_increases() {
+        long before = SystemStatistics.currentThreadAllocatedBytes();
+        byte[] allocation = new byte[100_000];
+
+        assertThat(SystemStatistics.currentThreadAllocatedBytes()).isGreaterThanOrEqualTo(before + allocation.length);
+    }
+}
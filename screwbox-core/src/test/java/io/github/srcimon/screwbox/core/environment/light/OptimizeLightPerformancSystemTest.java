@@ -43,6 +43,18 @@ class OptimizeLightPerformancSystemTest {
         assertThat(bounds).isEqualTo(atOrigin(0, 0, 60, 20));
     }
 
+    @Test
+    void update_shadowCastersCombined_noEntityKeepsStaticShadowCasterComponent(DefaultEnvironment environment) {
+        environment.addEntity(new StaticShadowCasterComponent(), new ShadowCasterComponent(), new TransformComponent(atOrigin(0, 0, 20, 20)));
+        environment.addEntity(new StaticShadowCasterComponent(), new ShadowCasterComponent(), new TransformComponent(atOrigin(0, 20, 20, 20)));
+        environment.addSystem(new OptimizeLightPerformanceSystem());
+
+        environment.update();
+
+        assertThat(environment.fetchAll(Archetype.of(ShadowCasterComponent.class))).hasSize(1);
+        assertThat(environment.fetchAll(Archetype.of(StaticShadowCasterComponent.class))).isEmpty();
+    }
+
     @Test
     void update_removesItselfAfterFinishingAllEntities(DefaultEnvironment environment) {
         environment.addSystem(new OptimizeLightPerformanceSystem());
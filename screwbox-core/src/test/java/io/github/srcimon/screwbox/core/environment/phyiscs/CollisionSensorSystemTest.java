@@ -1,6 +1,7 @@
 package io.github.srcimon.screwbox.core.environment.phyiscs;
 
 import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Vector;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
 import io.github.srcimon.screwbox.core.environment.internal.DefaultEnvironment;
@@ -51,4 +52,53 @@ class CollisionSensorSystemTest {
 
         assertThat(player.get(CollisionSensorComponent.class).collidedEntities).isEmpty();
     }
+
+    @Test
+    void update_collisionStartsAndEnds_collectsStartedAndEndedCollisions(DefaultEnvironment environment) {
+        Entity ball = new Entity().add(
+                new TransformComponent(Bounds.atPosition(0, 0, 2, 2)),
+                new ColliderComponent());
+
+        Entity player = new Entity().add(
+                new TransformComponent(Bounds.atPosition(1, 0, 2, 2)),
+                new CollisionSensorComponent());
+
+        environment.addEntities(ball, player)
+                .addSystem(new CollisionSensorSystem());
+
+        var sensor = player.get(CollisionSensorComponent.class);
+
+        environment.update();
+        assertThat(sensor.startedCollisions).containsExactly(ball);
+
+        environment.update();
+        assertThat(sensor.startedCollisions).isEmpty();
+        assertThat(sensor.collidedEntities).containsExactly(ball);
+
+        ball.moveBy(Vector.x(100));
+        environment.update();
+        assertThat(sensor.endedCollisions).containsExactly(ball);
+        assertThat(sensor.collidedEntities).isEmpty();
+    }
+
+    @Test
+    void update_sensorComponentReplaced_collectsCollisionsAgain(DefaultEnvironment environment) {
+        Entity ball = new Entity().add(
+                new TransformComponent(Bounds.atPosition(0, 0, 2, 2)),
+                new ColliderComponent());
+
+        Entity player = new Entity().add(
+                new TransformComponent(Bounds.atPosition(1, 0, 2, 2)),
+                new CollisionSensorComponent());
+
+        environment.addEntities(ball, player)
+                .addSystem(new CollisionSensorSystem());
+        environment.update();
+
+        player.remove(CollisionSensorComponent.class);
+        player.add(new CollisionSensorComponent());
+        environment.update();
+
+        assertThat(player.get(CollisionSensorComponent.class).collidedEntities).containsExactly(ball);
+    }
 }
@@ -63,4 +63,18 @@ class FrictionSystemTest {
 
         assertThat(physics.momentum).isEqualTo(Vector.zero());
     }
+
+    @Test
+    void update_bodyIsSleeping_doesntChangeMomentum(DefaultEnvironment environment) {
+        PhysicsComponent physics = new PhysicsComponent($(20, 20));
+        physics.friction = 10;
+        physics.isSleeping = true;
+
+        environment.addEntity("sleeping car", physics);
+        environment.addSystem(new FrictionSystem());
+
+        environment.update();
+
+        assertThat(physics.momentum).isEqualTo($(20, 20));
+    }
 }
@@ -32,4 +32,17 @@ class GravitySystemTest {
         assertThat(momentum).isEqualTo(Vector.of(0, 5));
     }
 
+    @Test
+    void update_bodyIsSleeping_doesntChangeMomentum(DefaultEnvironment environment, Loop loop) {
+        when(loop.delta()).thenReturn(0.5);
+        PhysicsComponent physics = new PhysicsComponent();
+        physics.isSleeping = true;
+
+        environment.addEntities(new Entity().add(physics), new Entity().add(new GravityComponent(Vector.of(0, 10))));
+        environment.addSystem(new GravitySystem());
+
+        environment.update();
+
+        assertThat(physics.momentum).isEqualTo(Vector.zero());
+    }
 }
@@ -75,6 +75,19 @@ class OptimizePhysicsPerformanceSystemTest {
         assertThat(bounds).isEqualTo(Bounds.atOrigin(0, 0, 20, 60));
     }
 
+    @Test
+    void update_collidersCombined_noEntityKeepsStaticColliderComponent(DefaultEnvironment environment) {
+        environment.addEntity(new StaticColliderComponent(), new ColliderComponent(), new TransformComponent(Bounds.atOrigin(0, 0, 20, 20)));
+        environment.addEntity(new StaticColliderComponent(), new ColliderComponent(), new TransformComponent(Bounds.atOrigin(20, 0, 20, 20)));
+        environment.addEntity(new StaticColliderComponent(), new ColliderComponent(), new TransformComponent(Bounds.atOrigin(80, 0, 20, 20)));
+        environment.addSystem(new OptimizePhysicsPerformanceSystem());
+
+        environment.update();
+
+        assertThat(environment.fetchAll(Archetype.of(ColliderComponent.class))).hasSize(2);
+        assertThat(environment.fetchAll(Archetype.of(StaticColliderComponent.class))).isEmpty();
+    }
+
     @Test
     void update_ignoresDifferentColliders(DefaultEnvironment environment) {
         Entity brickA = new Entity().add(
@@ -1,7 +1,10 @@
 package io.github.srcimon.screwbox.core.environment.phyiscs;
 
 import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Duration;
+import io.github.srcimon.screwbox.core.Time;
 import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.environment.Archetype;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
 import io.github.srcimon.screwbox.core.environment.internal.DefaultEnvironment;
@@ -12,12 +15,14 @@ import io.github.srcimon.screwbox.core.environment.physics.GravityComponent;
 import io.github.srcimon.screwbox.core.environment.physics.GravitySystem;
 import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
 import io.github.srcimon.screwbox.core.environment.physics.PhysicsSystem;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsTimestepConfigurationComponent;
 import io.github.srcimon.screwbox.core.loop.Loop;
 import io.github.srcimon.screwbox.core.test.EnvironmentExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(EnvironmentExtension.class)
@@ -67,4 +72,229 @@ class PhysicsSystemTest {
         assertThat(ballPosition).isEqualTo(Vector.of(60, 190));
     }
 
+    @Test
+    void update_bodyRestsLongerThanSleepDelay_fallsAsleep(DefaultEnvironment environment, Loop loop) {
+        Entity crate = addRestingCrate(environment, loop);
+
+        environment.updateTimes(20);
+
+        var physics = crate.get(PhysicsComponent.class);
+        assertThat(physics.isSleeping).isTrue();
+        assertThat(physics.momentum).isEqualTo(Vector.zero());
+        assertThat(crate.bounds().maxY()).isEqualTo(200);
+    }
+
+    @Test
+    void update_sleepingBodyMomentumChanged_wakesUpAndMoves(DefaultEnvironment environment, Loop loop) {
+        Entity crate = addRestingCrate(environment, loop);
+        environment.updateTimes(20);
+        var physics = crate.get(PhysicsComponent.class);
+
+        physics.momentum = Vector.of(100, 0);
+        environment.update();
+
+        assertThat(physics.isSleeping).isFalse();
+        assertThat(crate.position().x()).isGreaterThan(60);
+    }
+
+    @Test
+    void update_colliderBelowSleepingBodyMoved_wakesUpAndFalls(DefaultEnvironment environment, Loop loop) {
+        Entity crate = addRestingCrate(environment, loop);
+        environment.updateTimes(20);
+        var physics = crate.get(PhysicsComponent.class);
+
+        environment.fetchAll(Archetype.of(ColliderComponent.class))
+                .getFirst().moveBy(Vector.y(100));
+        environment.updateTimes(2);
+
+        assertThat(physics.isSleeping).isFalse();
+        assertThat(crate.bounds().maxY()).isGreaterThan(200);
+    }
+
+    @Test
+    void update_colliderBelowSleepingBodyReplacedWithinSameFrame_wakesUpAndFalls(DefaultEnvironment environment, Loop loop) {
+        Entity crate = addRestingCrate(environment, loop);
+        environment.updateTimes(20);
+
+        environment.remove(environment.fetchAll(Archetype.of(ColliderComponent.class)).getFirst());
+        environment.addEntity(new Entity().add(
+                new TransformComponent(Bounds.atOrigin(400, 200, 140, 40)),
+                new ColliderComponent()));
+        environment.updateTimes(2);
+
+        assertThat(crate.get(PhysicsComponent.class).isSleeping).isFalse();
+        assertThat(crate.bounds().maxY()).isGreaterThan(200);
+    }
+
+    @Test
+    void update_colliderBelowSleepingBodyLostTransform_wakesUpAndFalls(DefaultEnvironment environment, Loop loop) {
+        Entity crate = addRestingCrate(environment, loop);
+        environment.updateTimes(20);
+
+        environment.fetchAll(Archetype.of(ColliderComponent.class)).getFirst().remove(TransformComponent.class);
+        environment.updateTimes(2);
+
+        assertThat(crate.get(PhysicsComponent.class).isSleeping).isFalse();
+        assertThat(crate.bounds().maxY()).isGreaterThan(200);
+    }
+
+    @Test
+    void update_sleepingBodyPushedByOtherBody_wakesUp(DefaultEnvironment environment, Loop loop) {
+        Entity crate = addRestingCrate(environment, loop);
+        crate.add(new ColliderComponent());
+        environment.updateTimes(20);
+
+        environment.addEntity(new Entity().add(
+                new TransformComponent(Bounds.atOrigin(20, 180, 20, 20)),
+                new PhysicsComponent(Vector.of(200, 0))));
+        environment.updateTimes(2);
+
+        assertThat(crate.get(PhysicsComponent.class).isSleeping).isFalse();
+    }
+
+    @Test
+    void update_fixedTimestep_movesBodyInFixedSteps(DefaultEnvironment environment, Loop loop) {
+        when(loop.delta()).thenReturn(0.6);
+        var configuration = new PhysicsTimestepConfigurationComponent(4);
+        configuration.interpolate = false;
+        Entity body = addMovingBody(environment, configuration);
+
+        environment.update();
+
+        assertThat(body.position()).isEqualTo(Vector.of(2, 0));
+    }
+
+    @Test
+    void update_fixedTimestepExceedsMaxSteps_dropsRemainingTime(DefaultEnvironment environment, Loop loop) {
+        when(loop.delta()).thenReturn(1.0);
+        var configuration = new PhysicsTimestepConfigurationComponent(4);
+        configuration.interpolate = false;
+        configuration.maxStepsPerUpdate = 2;
+        Entity body = addMovingBody(environment, configuration);
+
+        environment.updateTimes(2);
+
+        assertThat(body.position()).isEqualTo(Vector.of(4, 0));
+    }
+
+    @Test
+    void update_fixedTimestepWithSubsteps_movesSameDistance(DefaultEnvironment environment, Loop loop) {
+        when(loop.delta()).thenReturn(0.5);
+        var configuration = new PhysicsTimestepConfigurationComponent(4);
+        configuration.interpolate = false;
+        configuration.substeps = 4;
+        Entity body = addMovingBody(environment, configuration);
+
+        environment.update();
+
+        assertThat(body.position()).isEqualTo(Vector.of(2, 0));
+    }
+
+    @Test
+    void update_fixedTimestepWithInterpolation_rendersBodyBetweenLastSteps(DefaultEnvironment environment, Loop loop) {
+        when(loop.delta()).thenReturn(0.375);
+        Entity body = addMovingBody(environment, new PhysicsTimestepConfigurationComponent(4));
+
+        environment.update();
+
+        assertThat(body.position()).isEqualTo(Vector.of(1, 0));
+        assertThat(renderPosition(body)).isEqualTo(Vector.of(0.5, 0));
+
+        when(loop.delta()).thenReturn(0.125);
+        environment.update();
+
+        assertThat(body.position()).isEqualTo(Vector.of(2, 0));
+        assertThat(renderPosition(body)).isEqualTo(Vector.of(1, 0));
+    }
+
+    @Test
+    void update_interpolatedBodyMovedBySystem_rendersNewPosition(DefaultEnvironment environment, Loop loop) {
+        when(loop.delta()).thenReturn(0.375);
+        Entity body = addMovingBody(environment, new PhysicsTimestepConfigurationComponent(4));
+        environment.update();
+
+        body.moveTo(Vector.of(100, 100));
+
+        assertThat(renderPosition(body)).isEqualTo(Vector.of(100, 100));
+
+        when(loop.delta()).thenReturn(0.0);
+        environment.update();
+
+        assertThat(body.position()).isEqualTo(Vector.of(100, 100));
+        assertThat(renderPosition(body)).isEqualTo(Vector.of(100, 100));
+    }
+
+    @Test
+    void update_stepsPerSecondNotPositive_throwsException(DefaultEnvironment environment, Loop loop) {
+        when(loop.delta()).thenReturn(0.5);
+        var configuration = new PhysicsTimestepConfigurationComponent();
+        configuration.stepsPerSecond = 0;
+        addMovingBody(environment, configuration);
+
+        assertThatThrownBy(environment::update)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("steps per second must be positive");
+    }
+
+    @Test
+    void update_fastBodyWithoutContinuousCollisionDetection_passesThinCollider(DefaultEnvironment environment, Loop loop) {
+        Entity bullet = addBulletAndWall(environment, loop, false);
+
+        environment.update();
+
+        assertThat(bullet.position().x()).isEqualTo(200);
+    }
+
+    @Test
+    void update_fastBodyWithContinuousCollisionDetection_stopsAtThinCollider(DefaultEnvironment environment, Loop loop) {
+        Entity bullet = addBulletAndWall(environment, loop, true);
+
+        environment.update();
+
+        assertThat(bullet.bounds().maxX()).isEqualTo(100);
+        assertThat(bullet.get(PhysicsComponent.class).momentum.isZero()).isTrue();
+    }
+
+    private Entity addBulletAndWall(final DefaultEnvironment environment, final Loop loop, final boolean isContinuousCollisionDetection) {
+        when(loop.delta()).thenReturn(0.5);
+        var physics = new PhysicsComponent(Vector.x(400));
+        physics.isContinuousCollisionDetection = isContinuousCollisionDetection;
+        Entity bullet = new Entity().add(new TransformComponent(Bounds.atPosition(0, 0, 4, 4)), physics);
+        Entity wall = new Entity().add(new TransformComponent(Bounds.atOrigin(100, -50, 2, 100)), new ColliderComponent());
+        environment.addEntities(bullet, wall);
+        environment.addSystem(new PhysicsSystem());
+        return bullet;
+    }
+
+    private static Vector renderPosition(final Entity body) {
+        return body.renderBounds().position();
+    }
+
+    private Entity addMovingBody(final DefaultEnvironment environment, final PhysicsTimestepConfigurationComponent configuration) {
+        Entity body = new Entity().add(
+                new TransformComponent(Bounds.atPosition(0, 0, 10, 10)),
+                new PhysicsComponent(Vector.of(4, 0)));
+        environment.addEntities(body, new Entity().add(configuration));
+        environment.addSystem(new PhysicsSystem());
+        return body;
+    }
+
+    private Entity addRestingCrate(final DefaultEnvironment environment, final Loop loop) {
+        when(loop.delta()).thenReturn(0.1);
+        when(loop.time()).thenReturn(Time.now());
+        var physics = new PhysicsComponent();
+        physics.sleepDelay = Duration.none();
+
+        Entity crate = new Entity().add(
+                new TransformComponent(Bounds.atOrigin(50, 180, 20, 20)),
+                physics);
+
+        Entity ground = new Entity().add(
+                new TransformComponent(Bounds.atOrigin(0, 200, 140, 40)),
+                new ColliderComponent());
+
+        environment.addEntities(crate, ground, new Entity().add(new GravityComponent(Vector.of(0, 20))));
+        environment.addSystems(new GravitySystem(), new PhysicsSystem());
+        return crate;
+    }
 }
@@ -1,5 +1,6 @@
 package io.github.srcimon.screwbox.core.environment.rendering;
 
+import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.environment.Entity;
 import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
 import io.github.srcimon.screwbox.core.environment.internal.DefaultEnvironment;
@@ -73,6 +74,36 @@ class RenderSystemTest {
                 new SpriteBatch.SpriteBatchEntry(sprite, Offset.at(20, 20), SpriteDrawOptions.scaled(2), 5));
     }
 
+    @Test
+    void update_subclassUsingEntityList_drawsSpriteBatchWithOneSprite(DefaultEnvironment environment) {
+        var sprite = SpriteBundle.ICON.get();
+        when(camera.zoom()).thenReturn(2.0);
+        when(viewport.toCanvas($$(176, 176, 48, 48), 1, 1)).thenReturn(new ScreenBounds(20, 20, 8, 8));
+        when(canvas.size()).thenReturn(Size.of(800, 800));
+
+        environment
+                .addEntity(
+                        new TransformComponent(200, 200, 16, 16),
+                        new RenderComponent(sprite, 5))
+                .addSystem(new RenderSystem() {
+
+                    @Override
+                    @SuppressWarnings("removal")
+                    public void update(final Engine engine) {
+                        for (final var viewport : engine.graphics().viewports()) {
+                            viewport.canvas().drawSpriteBatch(renderEntitiesOnViewport(viewport, fetchRenderEntities(engine), render -> true));
+                        }
+                    }
+                });
+
+        environment.update();
+
+        verify(canvas).drawSpriteBatch(spriteBatch.capture());
+
+        assertThat(spriteBatch.getValue().entriesInOrder()).containsExactly(
+                new SpriteBatch.SpriteBatchEntry(sprite, Offset.at(20, 20), SpriteDrawOptions.scaled(2), 5));
+    }
+
     @Test
     void update_spriteOnTopOfLight_drawsNoSprite(DefaultEnvironment environment) {
         var sprite = SpriteBundle.ICON.get();
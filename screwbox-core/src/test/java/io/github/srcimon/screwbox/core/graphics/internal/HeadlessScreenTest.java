@@ -0,0 +1,56 @@
+package io.github.srcimon.screwbox.core.graphics.internal;
+
+import io.github.srcimon.screwbox.core.graphics.Color;
+import io.github.srcimon.screwbox.core.graphics.GraphicsConfiguration;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.ScreenBounds;
+import io.github.srcimon.screwbox.core.graphics.Size;
+import io.github.srcimon.screwbox.core.graphics.internal.renderer.DefaultRenderer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.github.srcimon.screwbox.core.Time.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HeadlessScreenTest {
+
+    GraphicsConfiguration configuration;
+    DefaultRenderer renderer;
+    HeadlessScreen screen;
+
+    @BeforeEach
+    void beforeEach() {
+        configuration = new GraphicsConfiguration().setResolution(160, 90);
+        renderer = new DefaultRenderer();
+        DefaultCanvas canvas = new DefaultCanvas(renderer, new ScreenBounds(Offset.origin(), Size.of(160, 90)));
+        screen = new HeadlessScreen(renderer, canvas, null, configuration);
+    }
+
+    @Test
+    void size_returnsConfiguredResolution() {
+        assertThat(screen.size()).isEqualTo(Size.of(160, 90));
+        assertThat(screen.position()).isEqualTo(Offset.origin());
+    }
+
+    @Test
+    void takeScreenshot_notRenderedYet_throwsException() {
+        assertThatThrownBy(() -> screen.takeScreenshot())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("screen must be rendered first to create screenshot");
+    }
+
+    @Test
+    void takeScreenshot_frameRendered_capturesOffscreenImage() {
+        screen.updateScreen(false);
+        renderer.fillWith(Color.RED, new ScreenBounds(Offset.origin(), Size.of(160, 90)));
+        screen.updateScreen(false);
+
+        var screenshot = screen.takeScreenshot();
+
+        assertThat(screenshot.size()).isEqualTo(Size.of(160, 90));
+        assertThat(screenshot.singleFrame().colorAt(10, 10)).isEqualTo(Color.RED);
+        assertThat(screen.lastScreenshot()).contains(screenshot);
+        assertThat(screenshot.image(now())).isNotNull();
+    }
+}
@@ -171,6 +171,18 @@ class RaycastTest {
         assertThat(result).isPresent();
     }
 
+    @Test
+    void castingToAll_multipleTargets_createsRaycastForEveryTarget() {
+        when(environment.fetchAll(defaultArchetype())).thenReturn(List.of(
+                boxAt(50, 0)));
+
+        var raycasts = raycastBuilder.castingToAll(List.of(Vector.x(200), Vector.y(200)));
+
+        assertThat(raycasts).hasSize(2);
+        assertThat(raycasts.getFirst().hasHit()).isTrue();
+        assertThat(raycasts.getLast().hasHit()).isFalse();
+    }
+
     private Archetype defaultArchetype() {
         return Archetype.of(TransformComponent.class, ColliderComponent.class);
     }
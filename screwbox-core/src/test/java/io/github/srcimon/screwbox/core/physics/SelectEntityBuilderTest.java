@@ -15,10 +15,17 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.OptionalLong;
 
 import static io.github.srcimon.screwbox.core.Bounds.$$;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @MockitoSettings
@@ -27,6 +34,9 @@ class SelectEntityBuilderTest {
     @Mock
     Environment environment;
 
+    @Mock
+    Physics physics;
+
     SelectEntityBuilder selectEntityBuilder;
 
     @BeforeEach
@@ -64,6 +74,8 @@ class SelectEntityBuilderTest {
                         boxAt(55, 45),
                         boxAt(25, 45).add(new RenderComponent(0)),
                         boxAt(25, 15)));
+        when(environment.cachedEntityCount(Archetype.of(TransformComponent.class, PhysicsComponent.class, RenderComponent.class)))
+                .thenReturn(OptionalLong.of(1));
 
         var result = selectEntityBuilder
                 .checkingFor(Archetype.of(TransformComponent.class, PhysicsComponent.class))
@@ -103,6 +115,67 @@ class SelectEntityBuilderTest {
 
     }
 
+    @Test
+    void selectAll_allEntitiesIgnored_returnsEmptyWithoutCheckingEntities() {
+        Entity entity = boxAt(39, 59).add(new RenderComponent(0));
+        when(environment.fetchAll(Archetype.of(TransformComponent.class, ColliderComponent.class)))
+                .thenReturn(List.of(entity));
+        when(environment.cachedEntityCount(Archetype.of(TransformComponent.class, ColliderComponent.class, RenderComponent.class)))
+                .thenReturn(OptionalLong.of(1));
+
+        var result = new SelectEntityBuilder(physics, environment, Vector.$(40, 60))
+                .ignoringEntitiesHaving(RenderComponent.class)
+                .selectAll();
+
+        Assertions.assertThat(result).isEmpty();
+        verifyNoInteractions(physics);
+    }
+
+    @Test
+    void selectAll_ignoredCountNotCached_filtersIgnoredEntities() {
+        Entity ignored = boxAt(39, 59).add(new RenderComponent(0));
+        Entity selected = boxAt(39, 59);
+        when(environment.fetchAll(Archetype.of(TransformComponent.class, ColliderComponent.class)))
+                .thenReturn(List.of(ignored, selected));
+
+        var result = selectEntityBuilder
+                .ignoringEntitiesHaving(RenderComponent.class)
+                .selectAll();
+
+        Assertions.assertThat(result).containsExactly(selected);
+        verify(environment, never()).entityCount(any(Archetype.class));
+    }
+
+    @Test
+    void selectAll_fewEntities_doesntUseBroadphase() {
+        Entity entity = boxAt(39, 59);
+        when(environment.fetchAll(Archetype.of(TransformComponent.class, ColliderComponent.class)))
+                .thenReturn(List.of(entity, boxAt(400, 400)));
+
+        var result = new SelectEntityBuilder(physics, environment, Vector.$(40, 60)).selectAll();
+
+        Assertions.assertThat(result).containsExactly(entity);
+        verifyNoInteractions(physics);
+    }
+
+    @Test
+    void selectAll_manyEntities_checksOnlyBroadphaseCandidates() {
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entities.add(boxAt(i * 50.0, 0));
+        }
+        Entity candidate = entities.get(1);
+        Broadphase broadphase = mock(Broadphase.class);
+        Archetype archetype = Archetype.of(TransformComponent.class, ColliderComponent.class);
+        when(environment.fetchAll(archetype)).thenReturn(entities);
+        when(physics.broadphase(archetype)).thenReturn(broadphase);
+        when(broadphase.findCandidates($$(45, -5, 10, 10))).thenReturn(List.of(entities.getFirst(), candidate));
+
+        var result = new SelectEntityBuilder(physics, environment, $$(45, -5, 10, 10)).selectAll();
+
+        Assertions.assertThat(result).containsExactly(candidate);
+    }
+
     private Entity boxAt(double x, double y) {
         Bounds bounds = Bounds.atPosition(x, y, 20, 20);
         return new Entity()
@@ -0,0 +1,148 @@
+package io.github.srcimon.screwbox.core.physics.internal;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Line;
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.physics.Borders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static io.github.srcimon.screwbox.core.Bounds.$$;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AabbTreeTest {
+
+    AabbTree tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new AabbTree(4);
+    }
+
+    @Test
+    void newInstance_negativeMargin_throwsException() {
+        assertThatThrownBy(() -> new AabbTree(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("margin must not be negative");
+    }
+
+    @Test
+    void findCandidates_empty_isEmpty() {
+        assertThat(tree.findCandidates(Bounds.max())).isEmpty();
+    }
+
+    @Test
+    void findCandidates_entitiesFarAway_isEmpty() {
+        tree.update(List.of(entityAt(200, 200, 16, 16), entityAt(-9000, 400, 16, 16)));
+
+        assertThat(tree.findCandidates($$(0, 0, 16, 16))).isEmpty();
+    }
+
+    @Test
+    void findCandidates_entityTouchingArea_returnsEntity() {
+        var entity = entityAt(16, 0, 16, 16);
+        tree.update(List.of(entity));
+
+        assertThat(tree.findCandidates($$(0, 0, 16, 16))).containsExactly(entity);
+    }
+
+    @Test
+    void update_entityMovedWithinMargin_keepsTree() {
+        var entity = entityAt(0, 0, 16, 16);
+        tree.update(List.of(entity, entityAt(100, 0, 16, 16)));
+
+        entity.moveBy(Vector.of(2, 2));
+        tree.update(List.of(entity));
+
+        assertThat(tree.size()).isOne();
+        assertThat(tree.findCandidates($$(16, 16, 4, 4))).containsExactly(entity);
+    }
+
+    @Test
+    void update_entityMovedFarAway_findsEntityAtNewPosition() {
+        var entity = entityAt(0, 0, 16, 16);
+        tree.update(List.of(entity, entityAt(40, 0, 16, 16)));
+
+        entity.moveTo(Vector.of(5000, 5000));
+        tree.refresh(entity);
+
+        assertThat(tree.findCandidates($$(-4, -4, 30, 30))).isEmpty();
+        assertThat(tree.findCandidates($$(4990, 4990, 16, 16))).containsExactly(entity);
+    }
+
+    @Test
+    void update_manyEntities_staysBalanced() {
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 1024; i++) {
+            entities.add(entityAt(i * 20.0, 0, 16, 16));
+        }
+
+        tree.update(entities);
+
+        assertThat(tree.height()).isLessThan(24);
+    }
+
+    @Test
+    void forEachCandidate_randomEntitiesMovingAndRemoved_findsSameEntitiesAsBruteForce() {
+        var random = new Random(42);
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            entities.add(entityAt(random.nextDouble() * 2000, random.nextDouble() * 2000, 4 + random.nextDouble() * 60, 4 + random.nextDouble() * 60));
+        }
+        for (int round = 0; round < 10; round++) {
+            entities.removeIf(entity -> random.nextDouble() < 0.05);
+            for (var entity : entities) {
+                entity.moveBy(Vector.of(random.nextDouble() * 40 - 20, random.nextDouble() * 40 - 20));
+            }
+            tree.update(entities);
+
+            var area = $$(random.nextDouble() * 1800, random.nextDouble() * 1800, 200, 200);
+            List<Entity> candidates = new ArrayList<>();
+            tree.forEachCandidate(area, candidates::add);
+
+            var touching = entities.stream().filter(entity -> entity.bounds().touches(area)).toList();
+            assertThat(candidates).doesNotHaveDuplicates().containsAll(touching);
+        }
+    }
+
+    @Test
+    void forEachCandidate_randomRays_findsAllEntitiesCrossedByRay() {
+        var random = new Random(7);
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            entities.add(entityAt(random.nextDouble() * 1000 - 500, random.nextDouble() * 1000 - 500, 2 + random.nextDouble() * 40, 2 + random.nextDouble() * 40));
+        }
+        tree.update(entities);
+
+        for (int i = 0; i < 50; i++) {
+            var ray = Line.between(
+                    Vector.of(random.nextDouble() * 1000 - 500, random.nextDouble() * 1000 - 500),
+                    Vector.of(random.nextDouble() * 1000 - 500, random.nextDouble() * 1000 - 500));
+            List<Entity> candidates = new ArrayList<>();
+
+            tree.forEachCandidate(ray, candidates::add);
+
+            var crossed = entities.stream().filter(entity -> ray.intersections(Borders.ALL.extractFrom(entity.bounds())).size() > 0).toList();
+            assertThat(candidates).doesNotHaveDuplicates().containsAll(crossed);
+        }
+    }
+
+    @Test
+    void findCandidates_verticalRay_returnsCrossedEntity() {
+        var entity = entityAt(0, 100, 16, 16);
+        tree.update(List.of(entity, entityAt(100, 100, 16, 16)));
+
+        assertThat(tree.findCandidates(Line.between(Vector.of(8, 0), Vector.of(8, 300)))).containsExactly(entity);
+    }
+
+    private static Entity entityAt(final double x, final double y, final double width, final double height) {
+        return new Entity().add(new TransformComponent($$(x, y, width, height)));
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.srcimon.screwbox.core.physics.internal;
+
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.environment.physics.ColliderComponent;
+import io.github.srcimon.screwbox.core.environment.physics.StaticColliderComponent;
+import io.github.srcimon.screwbox.core.physics.Borders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.github.srcimon.screwbox.core.Bounds.$$;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BorderCacheTest {
+
+    BorderCache borderCache;
+
+    @BeforeEach
+    void setUp() {
+        borderCache = new BorderCache();
+    }
+
+    @Test
+    void linesOf_staticColliderCalledTwice_returnsCachedLines() {
+        var entity = new Entity().add(new TransformComponent($$(0, 0, 16, 16)), new StaticColliderComponent());
+
+        var first = borderCache.linesOf(entity, Borders.ALL);
+        var second = borderCache.linesOf(entity, Borders.ALL);
+
+        assertThat(first).hasSize(4).isSameAs(second);
+        assertThat(borderCache.size()).isOne();
+    }
+
+    @Test
+    void linesOf_staticColliderMoved_returnsUpdatedLines() {
+        var entity = new Entity().add(new TransformComponent($$(0, 0, 16, 16)), new StaticColliderComponent());
+        borderCache.linesOf(entity, Borders.ALL);
+
+        entity.moveTo(Vector.of(100, 100));
+
+        assertThat(borderCache.linesOf(entity, Borders.ALL)).isEqualTo(Borders.ALL.extractFrom(entity.bounds()));
+    }
+
+    @Test
+    void linesOf_otherBorders_returnsMatchingLines() {
+        var entity = new Entity().add(new TransformComponent($$(0, 0, 16, 16)), new StaticColliderComponent());
+        borderCache.linesOf(entity, Borders.ALL);
+
+        assertThat(borderCache.linesOf(entity, Borders.TOP_ONLY)).hasSize(1);
+    }
+
+    @Test
+    void linesOf_noStaticCollider_doesntCacheLines() {
+        var entity = new Entity().add(new TransformComponent($$(0, 0, 16, 16)), new ColliderComponent());
+
+        assertThat(borderCache.linesOf(entity, Borders.ALL)).hasSize(4);
+        assertThat(borderCache.size()).isZero();
+    }
+}
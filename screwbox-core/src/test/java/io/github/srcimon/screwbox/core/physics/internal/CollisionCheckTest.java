@@ -0,0 +1,64 @@
+package io.github.srcimon.screwbox.core.physics.internal;
+
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.environment.physics.ColliderComponent;
+import io.github.srcimon.screwbox.core.environment.physics.PhysicsComponent;
+import org.junit.jupiter.api.Test;
+
+import static io.github.srcimon.screwbox.core.Bounds.$$;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CollisionCheckTest {
+
+    Entity body = new Entity().add(new TransformComponent($$(0, 0, 10, 10)), new PhysicsComponent());
+
+    @Test
+    void timeOfImpact_movingTowardsCollider_returnsFractionOfMovementAndNormal() {
+        var check = new CollisionCheck(body, colliderAt(50, -20, 5, 50));
+
+        assertThat(check.timeOfImpact(Vector.x(80))).isEqualTo(0.5);
+        assertThat(check.impactNormal()).isEqualTo(Vector.x(-1));
+    }
+
+    @Test
+    void timeOfImpact_movingAwayFromCollider_isInfinite() {
+        var check = new CollisionCheck(body, colliderAt(50, -20, 5, 50));
+
+        assertThat(check.timeOfImpact(Vector.x(-80))).isInfinite();
+    }
+
+    @Test
+    void timeOfImpact_colliderBeyondMovement_isInfinite() {
+        var check = new CollisionCheck(body, colliderAt(50, -20, 5, 50));
+
+        assertThat(check.timeOfImpact(Vector.x(30))).isInfinite();
+    }
+
+    @Test
+    void timeOfImpact_movementPassesBesideCollider_isInfinite() {
+        var check = new CollisionCheck(body, colliderAt(50, 20, 5, 50));
+
+        assertThat(check.timeOfImpact(Vector.x(80))).isInfinite();
+    }
+
+    @Test
+    void timeOfImpact_fallingOnCollider_returnsVerticalNormal() {
+        var check = new CollisionCheck(body, colliderAt(-20, 30, 50, 5));
+
+        assertThat(check.timeOfImpact(Vector.of(4, 40))).isEqualTo(0.5);
+        assertThat(check.impactNormal()).isEqualTo(Vector.y(-1));
+    }
+
+    @Test
+    void timeOfImpact_alreadyIntersecting_isInfinite() {
+        var check = new CollisionCheck(body, colliderAt(5, 5, 10, 10));
+
+        assertThat(check.timeOfImpact(Vector.x(10))).isInfinite();
+    }
+
+    private static Entity colliderAt(final double x, final double y, final double width, final double height) {
+        return new Entity().add(new TransformComponent($$(x, y, width, height)), new ColliderComponent());
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.srcimon.screwbox.core.physics.internal;
+
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.environment.physics.ColliderComponent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.github.srcimon.screwbox.core.Bounds.$$;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContactCacheTest {
+
+    ContactCache contactCache;
+    SpatialHash colliderIndex;
+    SpatialHash sensorIndex;
+    List<Entity> updatedSensors;
+    List<Entity> started;
+    List<Entity> ended;
+
+    Entity sensor = new Entity().add(new TransformComponent($$(0, 0, 16, 16)));
+    Entity wall = new Entity().add(new TransformComponent($$(16, 0, 16, 16)), new ColliderComponent());
+    Entity farAwayWall = new Entity().add(new TransformComponent($$(400, 0, 16, 16)), new ColliderComponent());
+
+    @BeforeEach
+    void setUp() {
+        contactCache = new ContactCache();
+        colliderIndex = new SpatialHash(32);
+        sensorIndex = new SpatialHash(32);
+    }
+
+    @Test
+    void update_newSensor_startsContacts() {
+        update(List.of(wall, farAwayWall));
+
+        assertThat(updatedSensors).containsExactly(sensor);
+        assertThat(started).containsExactly(wall);
+        assertThat(ended).isEmpty();
+    }
+
+    @Test
+    void update_nothingChanged_doesntUpdateSensor() {
+        update(List.of(wall, farAwayWall));
+
+        update(List.of(wall, farAwayWall));
+
+        assertThat(updatedSensors).isEmpty();
+    }
+
+    @Test
+    void update_farAwayColliderMoved_doesntUpdateSensor() {
+        update(List.of(wall, farAwayWall));
+
+        farAwayWall.moveBy(Vector.x(20));
+        update(List.of(wall, farAwayWall));
+
+        assertThat(updatedSensors).isEmpty();
+    }
+
+    @Test
+    void update_contactMovedAway_endsContact() {
+        update(List.of(wall, farAwayWall));
+
+        wall.moveBy(Vector.x(100));
+        update(List.of(wall, farAwayWall));
+
+        assertThat(updatedSensors).containsExactly(sensor);
+        assertThat(started).isEmpty();
+        assertThat(ended).containsExactly(wall);
+    }
+
+    @Test
+    void update_contactRemoved_endsContact() {
+        update(List.of(wall, farAwayWall));
+
+        update(List.of(farAwayWall));
+
+        assertThat(ended).containsExactly(wall);
+    }
+
+    @Test
+    void update_sensorMoved_updatesContacts() {
+        update(List.of(wall, farAwayWall));
+
+        sensor.moveTo(farAwayWall.position().addX(-16));
+        update(List.of(wall, farAwayWall));
+
+        assertThat(started).containsExactly(farAwayWall);
+        assertThat(ended).containsExactly(wall);
+    }
+
+    @Test
+    void update_sensorInvalidated_updatesSensor() {
+        update(List.of(wall, farAwayWall));
+
+        contactCache.invalidate(sensor);
+        update(List.of(wall, farAwayWall));
+
+        assertThat(updatedSensors).containsExactly(sensor);
+        assertThat(started).isEmpty();
+    }
+
+    @Test
+    void update_sensorRemoved_removesSensorState() {
+        update(List.of(wall));
+
+        contactCache.update(List.of(), colliderIndex, sensorIndex.update(List.of()), (s, contacts, began, stopped) -> {
+        });
+
+        assertThat(contactCache.size()).isZero();
+    }
+
+    private void update(final List<Entity> colliders) {
+        updatedSensors = new ArrayList<>();
+        started = new ArrayList<>();
+        ended = new ArrayList<>();
+        contactCache.update(List.of(sensor), colliderIndex.update(colliders), sensorIndex.update(List.of(sensor)),
+                (updatedSensor, contacts, began, stopped) -> {
+                    updatedSensors.add(updatedSensor);
+                    started.addAll(began);
+                    ended.addAll(stopped);
+                });
+    }
+}
@@ -1,9 +1,16 @@
 package io.github.srcimon.screwbox.core.physics.internal;
 
 import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.Grid;
 import io.github.srcimon.screwbox.core.Path;
 import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.environment.Archetype;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.environment.internal.DefaultEnvironment;
+import io.github.srcimon.screwbox.core.environment.physics.BroadphaseConfigurationComponent;
+import io.github.srcimon.screwbox.core.environment.physics.ColliderComponent;
 import io.github.srcimon.screwbox.core.physics.AStarAlgorithm;
 import io.github.srcimon.screwbox.core.physics.DijkstraAlgorithm;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +20,8 @@ import static io.github.srcimon.screwbox.core.Bounds.$$;
 import static io.github.srcimon.screwbox.core.Vector.$;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class DefaultPhysicsTest {
 
@@ -23,6 +32,42 @@ class DefaultPhysicsTest {
         physics = new DefaultPhysics(null);
     }
 
+    @Test
+    void broadphase_noConfiguration_usesSpatialHash() {
+        var environment = createEnvironment();
+        var collider = new Entity().add(new TransformComponent($$(0, 0, 16, 16)), new ColliderComponent());
+        environment.addEntity(collider);
+
+        var broadphase = physics.broadphase(Archetype.ofSpacial(ColliderComponent.class));
+
+        assertThat(broadphase).isInstanceOf(SpatialHash.class);
+        assertThat(broadphase.findCandidates($$(4, 4, 4, 4))).containsExactly(collider);
+    }
+
+    @Test
+    void broadphase_aabbTreeConfigured_usesAabbTree() {
+        var environment = createEnvironment();
+        environment.addEntity(new BroadphaseConfigurationComponent(BroadphaseConfigurationComponent.Strategy.AABB_TREE));
+        environment.addEntity(new TransformComponent($$(0, 0, 16, 16)), new ColliderComponent());
+
+        var broadphase = physics.broadphase(Archetype.ofSpacial(ColliderComponent.class));
+
+        assertThat(broadphase).isInstanceOf(AabbTree.class);
+        assertThat(broadphase.findCandidates($$(4, 4, 4, 4))).hasSize(1);
+    }
+
+    @Test
+    void searchInRange_aabbTreeConfigured_findsEntitiesInRange() {
+        var environment = createEnvironment();
+        environment.addEntity(new BroadphaseConfigurationComponent(BroadphaseConfigurationComponent.Strategy.AABB_TREE));
+        var inRange = new Entity().add(new TransformComponent($$(0, 0, 16, 16)), new ColliderComponent());
+        environment.addEntity(inRange);
+        environment.addEntity(new TransformComponent($$(20, 0, 16, 16)), new ColliderComponent());
+
+        assertThat(physics.searchInRange($$(-10, -10, 25, 25)).selectAll()).containsExactly(inRange);
+        assertThat(physics.searchAtPosition(Vector.$(30, 8)).selectAny()).isPresent().get().isNotEqualTo(inRange);
+    }
+
     @Test
     void findPath_noGrid_throwsException() {
         Vector start = $(0, 0);
@@ -133,4 +178,12 @@ class DefaultPhysicsTest {
         assertThat(pathfindingAlgorithm).isInstanceOf(DijkstraAlgorithm.class);
     }
 
+
+    private DefaultEnvironment createEnvironment() {
+        var engine = mock(Engine.class);
+        var environment = new DefaultEnvironment(engine);
+        when(engine.environment()).thenReturn(environment);
+        physics = new DefaultPhysics(engine);
+        return environment;
+    }
 }
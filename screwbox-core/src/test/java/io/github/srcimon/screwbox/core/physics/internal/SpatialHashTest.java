@@ -0,0 +1,183 @@
+package io.github.srcimon.screwbox.core.physics.internal;
+
+import io.github.srcimon.screwbox.core.Bounds;
+import io.github.srcimon.screwbox.core.Line;
+import io.github.srcimon.screwbox.core.Vector;
+import io.github.srcimon.screwbox.core.environment.Entity;
+import io.github.srcimon.screwbox.core.environment.core.TransformComponent;
+import io.github.srcimon.screwbox.core.physics.Borders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static io.github.srcimon.screwbox.core.Bounds.$$;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpatialHashTest {
+
+    SpatialHash spatialHash;
+
+    @BeforeEach
+    void setUp() {
+        spatialHash = new SpatialHash(16);
+    }
+
+    @Test
+    void newInstance_cellSizeZero_throwsException() {
+        assertThatThrownBy(() -> new SpatialHash(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("cell size must be positive");
+    }
+
+    @Test
+    void findCandidates_entitiesFarAway_isEmpty() {
+        spatialHash.update(List.of(entityAt(200, 200, 16, 16)));
+
+        assertThat(spatialHash.findCandidates($$(0, 0, 16, 16))).isEmpty();
+    }
+
+    @Test
+    void findCandidates_entityCoversMultipleCells_returnsEntityOnlyOnce() {
+        var wall = entityAt(0, 0, 100, 100);
+        spatialHash.update(List.of(wall));
+
+        assertThat(spatialHash.findCandidates($$(10, 10, 60, 60))).containsExactly(wall);
+    }
+
+    @Test
+    void findCandidates_entityTouchingArea_returnsEntity() {
+        var entity = entityAt(16, 0, 16, 16);
+        spatialHash.update(List.of(entity));
+
+        assertThat(spatialHash.findCandidates($$(0, 0, 16, 16))).containsExactly(entity);
+    }
+
+    @Test
+    void findCandidates_oversizedEntity_returnsEntity() {
+        var ground = entityAt(-10000, 0, 20000, 16);
+        spatialHash.update(List.of(ground));
+
+        assertThat(spatialHash.findCandidates($$(0, 0, 16, 16))).containsExactly(ground);
+    }
+
+    @Test
+    void findCandidates_hugeArea_returnsAllEntities() {
+        var first = entityAt(0, 0, 16, 16);
+        var second = entityAt(500, 500, 16, 16);
+        spatialHash.update(List.of(first, second));
+
+        assertThat(spatialHash.findCandidates(Bounds.max())).containsExactlyInAnyOrder(first, second);
+    }
+
+    @Test
+    void update_entityMoved_findsEntityAtNewPosition() {
+        var entity = entityAt(0, 0, 16, 16);
+        spatialHash.update(List.of(entity));
+
+        entity.moveTo(Vector.of(300, 300));
+        spatialHash.update(List.of(entity));
+
+        assertThat(spatialHash.findCandidates($$(0, 0, 16, 16))).isEmpty();
+        assertThat(spatialHash.findCandidates($$(290, 290, 16, 16))).containsExactly(entity);
+    }
+
+    @Test
+    void update_entityRemoved_removesEntity() {
+        var entity = entityAt(0, 0, 16, 16);
+        spatialHash.update(List.of(entity, entityAt(40, 0, 16, 16)));
+
+        spatialHash.update(List.of(entity));
+
+        assertThat(spatialHash.size()).isOne();
+        assertThat(spatialHash.findCandidates($$(0, 0, 100, 16))).containsExactly(entity);
+    }
+
+    @Test
+    void refresh_entityMoved_findsEntityAtNewPosition() {
+        var entity = entityAt(0, 0, 16, 16);
+        spatialHash.update(List.of(entity));
+        entity.moveTo(Vector.of(300, 300));
+
+        spatialHash.refresh(entity);
+
+        assertThat(spatialHash.findCandidates($$(290, 290, 16, 16))).containsExactly(entity);
+    }
+
+    @Test
+    void forEachCandidate_manyEntities_consumesAllIntersectingEntitiesOnce() {
+        List<Entity> entities = new ArrayList<>();
+        for (int x = 0; x < 20; x++) {
+            for (int y = 0; y < 20; y++) {
+                entities.add(entityAt(x * 10.0, y * 10.0, 24, 24));
+            }
+        }
+        spatialHash.update(entities);
+        var area = $$(35, 35, 40, 40);
+        List<Entity> candidates = new ArrayList<>();
+
+        spatialHash.forEachCandidate(area, candidates::add);
+
+        var intersecting = entities.stream().filter(entity -> entity.bounds().touches(area)).toList();
+        assertThat(candidates).doesNotHaveDuplicates().containsAll(intersecting);
+    }
+
+    @Test
+    void findCandidates_rayCrossesEntities_returnsCrossedEntitiesOnlyOnce() {
+        var wall = entityAt(40, -50, 100, 100);
+        var small = entityAt(200, 0, 8, 8);
+        spatialHash.update(List.of(wall, small, entityAt(0, 200, 16, 16)));
+
+        assertThat(spatialHash.findCandidates(Line.between(Vector.zero(), Vector.x(300)))).containsExactly(wall, small);
+    }
+
+    @Test
+    void forEachCandidate_randomRays_findsAllEntitiesCrossedByRay() {
+        var random = new Random(7);
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            entities.add(entityAt(random.nextDouble() * 1000 - 500, random.nextDouble() * 1000 - 500, 2 + random.nextDouble() * 40, 2 + random.nextDouble() * 40));
+        }
+        spatialHash.update(entities);
+
+        for (int i = 0; i < 50; i++) {
+            var ray = Line.between(
+                    Vector.of(random.nextDouble() * 1000 - 500, random.nextDouble() * 1000 - 500),
+                    Vector.of(random.nextDouble() * 1000 - 500, random.nextDouble() * 1000 - 500));
+            List<Entity> candidates = new ArrayList<>();
+
+            spatialHash.forEachCandidate(ray, candidates::add);
+
+            var crossed = entities.stream().filter(entity -> ray.intersections(Borders.ALL.extractFrom(entity.bounds())).size() > 0).toList();
+            assertThat(candidates).doesNotHaveDuplicates().containsAll(crossed);
+        }
+    }
+
+    @Test
+    void forEachChangeSince_entityMoved_consumesOldAndNewBounds() {
+        var entity = entityAt(0, 0, 16, 16);
+        spatialHash.update(List.of(entity, entityAt(40, 0, 16, 16)));
+        long version = spatialHash.version();
+        entity.moveTo(Vector.of(300, 300));
+        spatialHash.update(List.of(entity, spatialHash.findCandidates($$(40, 0, 16, 16)).getFirst()));
+        List<Bounds> changes = new ArrayList<>();
+
+        boolean isTracked = spatialHash.forEachChangeSince(version, changes::add);
+
+        assertThat(isTracked).isTrue();
+        assertThat(changes).containsExactly($$(0, 0, 16, 16), entity.bounds());
+    }
+
+    @Test
+    void forEachChangeSince_unknownVersion_isFalse() {
+        assertThat(spatialHash.forEachChangeSince(10, bounds -> {
+        })).isFalse();
+    }
+
+    private static Entity entityAt(final double x, final double y, final double width, final double height) {
+        return new Entity().add(new TransformComponent($$(x, y, width, height)));
+    }
+}
@@ -3,6 +3,7 @@ package io.github.srcimon.screwbox.core.test;
 import io.github.srcimon.screwbox.core.Engine;
 import io.github.srcimon.screwbox.core.audio.Audio;
 import io.github.srcimon.screwbox.core.audio.AudioConfiguration;
+import io.github.srcimon.screwbox.core.environment.Archetype;
 import io.github.srcimon.screwbox.core.environment.internal.DefaultEnvironment;
 import io.github.srcimon.screwbox.core.graphics.Camera;
 import io.github.srcimon.screwbox.core.graphics.Canvas;
@@ -15,6 +16,7 @@ import io.github.srcimon.screwbox.core.loop.Loop;
 import io.github.srcimon.screwbox.core.mouse.Mouse;
 import io.github.srcimon.screwbox.core.particles.Particles;
 import io.github.srcimon.screwbox.core.physics.Physics;
+import io.github.srcimon.screwbox.core.physics.internal.SpatialHash;
 import io.github.srcimon.screwbox.core.scenes.Scenes;
 import io.github.srcimon.screwbox.core.ui.Ui;
 import io.github.srcimon.screwbox.core.window.Window;
@@ -28,6 +30,7 @@ import org.mockito.Mockito;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 public class EnvironmentExtension implements Extension, BeforeEachCallback, ParameterResolver {
@@ -71,6 +74,13 @@ public class EnvironmentExtension implements Extension, BeforeEachCallback, Para
         when(engine.ui()).thenReturn(ui);
         when(engine.scenes()).thenReturn(scenes);
         when(audio.configuration()).thenReturn(audioConfiguration);
+
+        // resolve real broadphases used by physics related systems
+        final Map<Archetype, SpatialHash> broadphases = new HashMap<>();
+        when(physics.broadphase(any())).thenAnswer(invocation -> {
+            final Archetype archetype = invocation.getArgument(0);
+            return broadphases.computeIfAbsent(archetype, key -> new SpatialHash(64)).update(entities.fetchAll(archetype));
+        });
         when(graphics.world()).thenReturn(world);
         when(graphics.screen()).thenReturn(screen);
         when(graphics.canvas()).thenReturn(canvas);
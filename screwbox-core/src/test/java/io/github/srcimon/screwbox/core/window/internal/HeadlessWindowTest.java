@@ -0,0 +1,86 @@
+package io.github.srcimon.screwbox.core.window.internal;
+
+import io.github.srcimon.screwbox.core.graphics.GraphicsConfiguration;
+import io.github.srcimon.screwbox.core.graphics.Offset;
+import io.github.srcimon.screwbox.core.graphics.Size;
+import io.github.srcimon.screwbox.core.graphics.internal.renderer.StandbyProxyRenderer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@MockitoSettings
+class HeadlessWindowTest {
+
+    @Mock
+    StandbyProxyRenderer renderer;
+
+    GraphicsConfiguration configuration;
+    HeadlessWindow window;
+
+    @BeforeEach
+    void beforeEach() {
+        configuration = new GraphicsConfiguration();
+        window = new HeadlessWindow(configuration, renderer);
+    }
+
+    @Test
+    void open_notOpen_opensWindowAndActivatesRenderer() {
+        window.open();
+        window.open();
+
+        assertThat(window.isOpen()).isTrue();
+        verify(renderer).toggle();
+    }
+
+    @Test
+    void close_opened_closesWindowAndDeactivatesRenderer() {
+        window.open();
+
+        window.close();
+
+        assertThat(window.isClosed()).isTrue();
+        verify(renderer, times(2)).toggle();
+    }
+
+    @Test
+    void setTitle_titleSet_updatesTitle() {
+        window.setTitle("Server");
+
+        assertThat(window.title()).isEqualTo("Server");
+    }
+
+    @Test
+    void moveTo_windowMode_updatesPosition() {
+        window.moveTo(Offset.at(40, 20));
+
+        assertThat(window.position()).isEqualTo(Offset.at(40, 20));
+    }
+
+    @Test
+    void moveTo_fullscreen_throwsException() {
+        configuration.setFullscreen(true);
+        var position = Offset.at(40, 20);
+
+        assertThatThrownBy(() -> window.moveTo(position))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("cannot move Window in fullscreen");
+    }
+
+    @Test
+    void size_returnsConfiguredResolution() {
+        configuration.setResolution(320, 240);
+
+        assertThat(window.size()).isEqualTo(Size.of(320, 240));
+    }
+
+    @Test
+    void filesDropedOnWindow_isEmpty() {
+        assertThat(window.filesDropedOnWindow()).isEmpty();
+    }
+}